@@ -0,0 +1,55 @@
+package com.backend.benchmark;
+
+import com.backend.global.utils.jwt.JwtTokenizer;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 액세스 토큰 검증 비용 (JwtVerificationFilter 가 인증 요청마다 호출)
+ * getClaims 는 호출할 때마다 키 디코딩 + 파서 생성 + HMAC 검증을 모두 수행
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenizerBenchmark {
+
+    private static final String SECRET = "luxmeal-benchmark-secret-key-0123456789-abcdefghijklmnop";
+
+    private JwtTokenizer jwtTokenizer;
+    private String base64EncodedSecretKey;
+    private String accessToken;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jwtTokenizer = new JwtTokenizer();
+        base64EncodedSecretKey = jwtTokenizer.encodeBase64SecretKey(SECRET);
+
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("userId", 1L);
+        claims.put("userRole", "ROLE_USER");
+        accessToken = jwtTokenizer.generateAccessToken(claims, "user@luxmeal.com",
+                jwtTokenizer.getTokenExpiration(3_600_000), base64EncodedSecretKey);
+    }
+
+    @Benchmark
+    public Jws<Claims> getClaims() {
+        return jwtTokenizer.getClaims(accessToken, base64EncodedSecretKey);
+    }
+
+    @Benchmark
+    public String encodeBase64SecretKey() {
+        return jwtTokenizer.encodeBase64SecretKey(SECRET);
+    }
+}
@@ -0,0 +1,130 @@
+package com.backend.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import com.backend.global.logging.SamplingTurboFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 경로 로그 비용 비교 (출력은 버리는 OutputStream 으로 보내서 포맷팅 / appender 비용만 측정)
+ * 1. concatenatedSync : 기존 방식 ("..." + value, 동기 출력)
+ * 2. parameterizedSync : {} 파라미터 메시지, 동기 출력
+ * 3. parameterizedAsync : AsyncAppender 사용 (logback-spring.xml 과 같은 설정)
+ * 4. parameterizedSampled : SamplingTurboFilter (10 건 중 1 건) + AsyncAppender
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+public class LoggingBenchmark {
+
+    private static final String LOGGER_NAME = "com.backend.domain.order.application.OrderService";
+
+    private LoggerContext syncContext;
+    private LoggerContext asyncContext;
+    private LoggerContext sampledContext;
+
+    private Logger syncLogger;
+    private Logger asyncLogger;
+    private Logger sampledLogger;
+
+    private long orderId = 12345L;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        syncContext = new LoggerContext();
+        syncLogger = createLogger(syncContext, consoleLikeAppender(syncContext));
+
+        asyncContext = new LoggerContext();
+        asyncLogger = createLogger(asyncContext, asyncAppender(asyncContext));
+
+        sampledContext = new LoggerContext();
+        SamplingTurboFilter samplingFilter = new SamplingTurboFilter();
+        samplingFilter.setRate(10);
+        samplingFilter.addLogger("com.backend.domain.order.application");
+        samplingFilter.setContext(sampledContext);
+        samplingFilter.start();
+        sampledContext.addTurboFilter(samplingFilter);
+        sampledLogger = createLogger(sampledContext, asyncAppender(sampledContext));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        syncContext.stop();
+        asyncContext.stop();
+        sampledContext.stop();
+    }
+
+    @Benchmark
+    public void concatenatedSync() {
+        syncLogger.info("Service/ 주문번호 : " + orderId + " 주문상태 배송중으로 변경");
+    }
+
+    @Benchmark
+    public void parameterizedSync() {
+        syncLogger.info("Service/ 주문번호 : {} 주문상태 배송중으로 변경", orderId);
+    }
+
+    @Benchmark
+    public void parameterizedAsync() {
+        asyncLogger.info("Service/ 주문번호 : {} 주문상태 배송중으로 변경", orderId);
+    }
+
+    @Benchmark
+    public void parameterizedSampled() {
+        sampledLogger.info("Service/ 주문번호 : {} 주문상태 배송중으로 변경", orderId);
+    }
+
+    private Logger createLogger(LoggerContext context, Appender<ILoggingEvent> appender) {
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.detachAndStopAllAppenders();
+        root.setLevel(ch.qos.logback.classic.Level.INFO);
+        root.addAppender(appender);
+
+        return context.getLogger(LOGGER_NAME);
+    }
+
+    private OutputStreamAppender<ILoggingEvent> consoleLikeAppender(LoggerContext context) {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{yyyy-MM-dd HH:mm:ss.SSS} %5p [%15.15t] %-40.40logger{39} : %m%n");
+        encoder.start();
+
+        OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+        appender.setContext(context);
+        appender.setEncoder(encoder);
+        appender.setOutputStream(OutputStream.nullOutputStream());
+        appender.start();
+
+        return appender;
+    }
+
+    private AsyncAppender asyncAppender(LoggerContext context) {
+        AsyncAppender appender = new AsyncAppender();
+        appender.setContext(context);
+        appender.setQueueSize(8192);
+        appender.setNeverBlock(true);
+        appender.setIncludeCallerData(false);
+        appender.addAppender(consoleLikeAppender(context));
+        appender.start();
+
+        return appender;
+    }
+}
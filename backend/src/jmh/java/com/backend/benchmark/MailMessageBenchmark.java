@@ -0,0 +1,41 @@
+package com.backend.benchmark;
+
+import com.backend.domain.user.application.EmailService;
+import com.backend.global.mail.OutgoingMail;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 메일 본문 생성 비용 (템플릿 렌더링 + 인증 코드 생성), SMTP 발송은 제외
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MailMessageBenchmark {
+
+    private EmailService emailService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // createMessage / createKey 는 outbox, 코드 저장소, rate limiter 를 사용하지 않음
+        emailService = new EmailService(null, null, null);
+    }
+
+    @Benchmark
+    public OutgoingMail createMessage() {
+        return emailService.createMessage("user@luxmeal.com", "회원가입", "abC1dE2f");
+    }
+
+    @Benchmark
+    public String createKey() {
+        return emailService.createKey();
+    }
+}
@@ -0,0 +1,83 @@
+package com.backend.benchmark;
+
+import com.backend.domain.order.domain.Order;
+import com.backend.domain.order.domain.OrderProduct;
+import com.backend.domain.order.domain.OrderStatus;
+import com.backend.domain.order.dto.OrderHistoryDto;
+import com.backend.domain.product.domain.Product;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 내역 응답 변환 비용 (엔티티는 메모리에 만든 그래프라 SQL 비용은 제외)
+ * 1. from : 주문 목록 -> OrderHistoryDto 목록 (/orders, /orders/all, export)
+ * 2. getTotalPrice : 주문 상품 합계 계산
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OrderHistoryBenchmark {
+
+    @Param({"15", "1000"})
+    private int orderCount;
+
+    @Param({"1", "10", "50"})
+    private int productsPerOrder;
+
+    private List<Order> orders;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < productsPerOrder; i++) {
+            products.add(Product.builder()
+                    .productId((long) i)
+                    .productName("상품 " + i)
+                    .price(1000 + i)
+                    .titleImg("https://luxmeal.s3.amazonaws.com/title-" + i + ".jpg")
+                    .build());
+        }
+
+        orders = new ArrayList<>(orderCount);
+        for (int i = 0; i < orderCount; i++) {
+            Order order = new Order();
+            order.setOrderId((long) i);
+            order.setCreatedAt(LocalDateTime.now());
+            order.setOrderStatus(OrderStatus.PROCESS);
+            order.setReceiverAddress("서울시 강남구");
+            order.setReceiverName("홍길동");
+            order.setReceiverPhone("010-0000-0000");
+            order.setZipCode("06000");
+            for (Product product : products) {
+                OrderProduct orderProduct = OrderProduct.createOrderProduct(product, 2);
+                order.addOrderProduct(orderProduct);
+            }
+            orders.add(order);
+        }
+    }
+
+    @Benchmark
+    public List<OrderHistoryDto> from() {
+        return OrderHistoryDto.from(orders);
+    }
+
+    @Benchmark
+    public void getTotalPrice(Blackhole blackhole) {
+        for (Order order : orders) {
+            blackhole.consume(order.getTotalPrice());
+        }
+    }
+}
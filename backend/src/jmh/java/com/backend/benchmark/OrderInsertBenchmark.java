@@ -0,0 +1,179 @@
+package com.backend.benchmark;
+
+import com.backend.domain.category.domain.Category;
+import com.backend.domain.order.domain.Order;
+import com.backend.domain.order.domain.OrderProduct;
+import com.backend.domain.order.dto.OrderDto;
+import com.backend.domain.payment.domain.Payment;
+import com.backend.domain.point.domain.PointHistory;
+import com.backend.domain.product.domain.Product;
+import com.backend.domain.refreshToken.domain.RefreshToken;
+import com.backend.domain.review.domain.Review;
+import com.backend.domain.user.domain.User;
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 상품을 한 번에 주문할 때 insert 비용 (H2 메모리 DB, hibernate 만 사용)
+ * batchSize 1 은 batch 를 쓰지 않는 경우 (IDENTITY 와 같은 row 당 1 회 전송), 100 은 application.yml 설정
+ * 주문 한 건당 DB 로 보낸 횟수(단건 실행 + batch 실행)를 trial 이 끝날 때 출력
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OrderInsertBenchmark {
+
+    @Param({"1", "100"})
+    private int batchSize;
+
+    @Param({"1", "10", "50"})
+    private int productsPerOrder;
+
+    private StandardServiceRegistry registry;
+    private SessionFactory sessionFactory;
+    private User user;
+    private List<Product> products;
+    private OrderDto orderDto;
+
+    private final RoundTripCounter roundTrips = new RoundTripCounter();
+    private long orders;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        registry = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.DRIVER, "org.h2.Driver")
+                .applySetting(AvailableSettings.URL, "jdbc:h2:mem:order-insert-" + batchSize + "-" + productsPerOrder
+                        + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1")
+                .applySetting(AvailableSettings.USER, "sa")
+                .applySetting(AvailableSettings.PASS, "")
+                .applySetting(AvailableSettings.HBM2DDL_AUTO, "create")
+                .applySetting(AvailableSettings.STATEMENT_BATCH_SIZE, String.valueOf(batchSize))
+                .applySetting(AvailableSettings.ORDER_INSERTS, "true")
+                .applySetting(AvailableSettings.PHYSICAL_NAMING_STRATEGY, new CamelCaseToUnderscoresNamingStrategy())
+                .build();
+        sessionFactory = new MetadataSources(registry)
+                .addAnnotatedClass(User.class)
+                .addAnnotatedClass(PointHistory.class)
+                .addAnnotatedClass(Category.class)
+                .addAnnotatedClass(Product.class)
+                .addAnnotatedClass(Order.class)
+                .addAnnotatedClass(OrderProduct.class)
+                .addAnnotatedClass(Review.class)
+                .addAnnotatedClass(Payment.class)
+                .addAnnotatedClass(RefreshToken.class)
+                .buildMetadata()
+                .buildSessionFactory();
+
+        try (Session session = sessionFactory.openSession()) {
+            session.beginTransaction();
+            user = User.builder()
+                    .email("benchmark@luxmeal.com")
+                    .password("password")
+                    .nickname("benchmark")
+                    .profileImage("profile.png")
+                    .socialLogin("original")
+                    .build();
+            session.persist(user);
+
+            Category category = Category.create("카테고리", "C0");
+            session.persist(category);
+
+            products = new ArrayList<>(productsPerOrder);
+            for (int i = 0; i < productsPerOrder; i++) {
+                Product product = Product.builder()
+                        .productName("상품 " + i)
+                        .price(1000 + i)
+                        .user(user)
+                        .category(category)
+                        .reviews(new ArrayList<>())
+                        .orderProducts(new ArrayList<>())
+                        .build();
+                session.persist(product);
+                products.add(product);
+            }
+            session.getTransaction().commit();
+        }
+
+        orderDto = new OrderDto();
+        orderDto.setReceiverAddress("서울특별시 강남구 테헤란로 427");
+        orderDto.setReceiverName("benchmark");
+        orderDto.setReceiverZipcode("06000");
+        orderDto.setReceiverPhone("010-0000-0000");
+    }
+
+    @Benchmark
+    public Order order() {
+        try (Session session = sessionFactory.withOptions().eventListeners(roundTrips).openSession()) {
+            session.beginTransaction();
+            List<OrderProduct> orderProducts = new ArrayList<>(productsPerOrder);
+            for (Product product : products) {
+                orderProducts.add(OrderProduct.createOrderProduct(session.getReference(Product.class, product.getProductId()), 1));
+            }
+            Order order = Order.createOrder(session.getReference(User.class, user.getUserId()), orderProducts, orderDto);
+            session.persist(order);
+            session.getTransaction().commit();
+            orders++;
+            return order;
+        }
+    }
+
+    // 주문이 쌓여서 뒤 iteration 이 느려지지 않게 정리
+    @TearDown(Level.Iteration)
+    public void clear() {
+        try (Session session = sessionFactory.openSession()) {
+            session.beginTransaction();
+            session.createNativeQuery("delete from order_product").executeUpdate();
+            session.createNativeQuery("delete from orders").executeUpdate();
+            session.getTransaction().commit();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.out.printf("%n[batchSize=%d, productsPerOrder=%d] 주문 1건당 DB 전송 %.2f 회 (단건 %d, batch %d, 주문 %d)%n",
+                batchSize, productsPerOrder, (double) roundTrips.total() / Math.max(1, orders),
+                roundTrips.statements, roundTrips.batches, orders);
+        sessionFactory.close();
+        StandardServiceRegistryBuilder.destroy(registry);
+    }
+
+    // 세션 이벤트로 DB 에 실제로 보낸 횟수 집계 (id_generator 조회는 별도 연결이라 제외, 100 건마다 1 회)
+    private static class RoundTripCounter extends BaseSessionEventListener {
+        private long statements;
+        private long batches;
+
+        @Override
+        public void jdbcExecuteStatementStart() {
+            statements++;
+        }
+
+        @Override
+        public void jdbcExecuteBatchStart() {
+            batches++;
+        }
+
+        long total() {
+            return statements + batches;
+        }
+    }
+}
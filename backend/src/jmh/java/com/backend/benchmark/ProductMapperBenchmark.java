@@ -0,0 +1,60 @@
+package com.backend.benchmark;
+
+import com.backend.domain.product.domain.Product;
+import com.backend.domain.product.dto.ProductResponseDto;
+import com.backend.domain.product.mapper.ProductMapper;
+import com.backend.domain.product.mapper.ProductMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 목록 응답 변환 비용 (MapStruct 생성 구현체 ProductMapperImpl)
+ * 15 : 한 페이지, 1000 : 카테고리 전체 조회 수준
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductMapperBenchmark {
+
+    @Param({"15", "1000"})
+    private int size;
+
+    private ProductMapper productMapper;
+    private List<Product> products;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        productMapper = new ProductMapperImpl();
+        products = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            products.add(Product.builder()
+                    .productId((long) i)
+                    .productName("상품 " + i)
+                    .price(10000 + i)
+                    .discountPrice(9000 + i)
+                    .titleImg("https://luxmeal.s3.amazonaws.com/title-" + i + ".jpg")
+                    .detailImg("https://luxmeal.s3.amazonaws.com/detail-" + i + ".jpg")
+                    .tag("tag")
+                    .viewCount(i)
+                    .reviews(new ArrayList<>())
+                    .orderProducts(new ArrayList<>())
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public List<ProductResponseDto> productsToProductResponseDto() {
+        return productMapper.productsToProductResponseDto(products);
+    }
+}
@@ -0,0 +1,188 @@
+package com.backend.benchmark;
+
+import com.backend.domain.category.domain.Category;
+import com.backend.domain.order.domain.Order;
+import com.backend.domain.order.domain.OrderProduct;
+import com.backend.domain.order.dto.OrderDto;
+import com.backend.domain.order.dto.OrderHistoryDto;
+import com.backend.domain.payment.domain.Payment;
+import com.backend.domain.point.domain.PointHistory;
+import com.backend.domain.product.domain.Product;
+import com.backend.domain.refreshToken.domain.RefreshToken;
+import com.backend.domain.review.domain.Review;
+import com.backend.domain.user.domain.User;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록 조회 한 건의 힙 사용량과 commit(flush) CPU (H2 메모리 DB, hibernate 만 사용)
+ * 1. readWrite : 기존 방식, 일반 트랜잭션이라 조회한 엔티티마다 dirty checking 스냅샷을 만들고 commit 때 flush
+ * 2. readOnly : @Transactional(readOnly = true) 와 같은 설정 (세션 기본 read-only + FlushMode.MANUAL), 스냅샷 / flush 없음
+ * listing 은 주문 내역 (OrderService.getOrderList, 15 건 + 주문상품 + 상품) / 카테고리 상품 목록 (ProductService.getCategory, 16 건)
+ * 요청 1 건당 할당 바이트, commit CPU 시간을 trial 이 끝날 때 출력 (-prof gc 의 gc.alloc.rate.norm 과 같은 기준)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReadOnlyListingBenchmark {
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Param({"readWrite", "readOnly"})
+    private String transaction;
+
+    @Param({"order", "product"})
+    private String listing;
+
+    private StandardServiceRegistry registry;
+    private SessionFactory sessionFactory;
+    private Long userId;
+    private Long categoryId;
+
+    private long requests;
+    private long allocatedBytes;
+    private long commitCpuNanos;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        registry = new StandardServiceRegistryBuilder()
+                .applySetting(AvailableSettings.DRIVER, "org.h2.Driver")
+                .applySetting(AvailableSettings.URL, "jdbc:h2:mem:read-only-" + transaction + "-" + listing
+                        + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1")
+                .applySetting(AvailableSettings.USER, "sa")
+                .applySetting(AvailableSettings.PASS, "")
+                .applySetting(AvailableSettings.HBM2DDL_AUTO, "create")
+                .applySetting(AvailableSettings.DEFAULT_BATCH_FETCH_SIZE, "500")
+                .applySetting(AvailableSettings.PHYSICAL_NAMING_STRATEGY, new CamelCaseToUnderscoresNamingStrategy())
+                .build();
+        sessionFactory = new MetadataSources(registry)
+                .addAnnotatedClass(User.class)
+                .addAnnotatedClass(PointHistory.class)
+                .addAnnotatedClass(Category.class)
+                .addAnnotatedClass(Product.class)
+                .addAnnotatedClass(Order.class)
+                .addAnnotatedClass(OrderProduct.class)
+                .addAnnotatedClass(Review.class)
+                .addAnnotatedClass(Payment.class)
+                .addAnnotatedClass(RefreshToken.class)
+                .buildMetadata()
+                .buildSessionFactory();
+
+        try (Session session = sessionFactory.openSession()) {
+            session.beginTransaction();
+            User user = User.builder()
+                    .email("benchmark@luxmeal.com")
+                    .password("password")
+                    .nickname("benchmark")
+                    .profileImage("profile.png")
+                    .socialLogin("original")
+                    .build();
+            session.persist(user);
+
+            Category category = Category.create("카테고리", "C0");
+            session.persist(category);
+
+            List<Product> products = new ArrayList<>();
+            for (int i = 0; i < 32; i++) {
+                Product product = Product.builder()
+                        .productName("상품 " + i)
+                        .price(1000 + i)
+                        .titleImg("https://luxmeal.s3.amazonaws.com/title-" + i + ".jpg")
+                        .user(user)
+                        .category(category)
+                        .reviews(new ArrayList<>())
+                        .orderProducts(new ArrayList<>())
+                        .build();
+                session.persist(product);
+                products.add(product);
+            }
+
+            OrderDto orderDto = new OrderDto();
+            orderDto.setReceiverAddress("서울특별시 강남구 테헤란로 427");
+            orderDto.setReceiverName("benchmark");
+            orderDto.setReceiverZipcode("06000");
+            orderDto.setReceiverPhone("010-0000-0000");
+            for (int i = 0; i < 30; i++) {
+                List<OrderProduct> orderProducts = new ArrayList<>();
+                for (int j = 0; j < 3; j++) {
+                    orderProducts.add(OrderProduct.createOrderProduct(products.get((i + j) % products.size()), 1));
+                }
+                session.persist(Order.createOrder(user, orderProducts, orderDto));
+            }
+            session.getTransaction().commit();
+
+            userId = user.getUserId();
+            categoryId = category.getCategoryId();
+        }
+    }
+
+    @Benchmark
+    public Object list() {
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = THREADS.getThreadAllocatedBytes(threadId);
+        Object result;
+        try (Session session = sessionFactory.openSession()) {
+            if (transaction.equals("readOnly")) {
+                session.setDefaultReadOnly(true);
+                session.setHibernateFlushMode(FlushMode.MANUAL);
+            }
+            session.beginTransaction();
+            result = listing.equals("order") ? orders(session) : products(session);
+
+            long cpuBefore = THREADS.getCurrentThreadCpuTime();
+            session.getTransaction().commit();
+            commitCpuNanos += THREADS.getCurrentThreadCpuTime() - cpuBefore;
+        }
+        allocatedBytes += THREADS.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        requests++;
+        return result;
+    }
+
+    // OrderRepository.findOrders + OrderHistoryDto.from (주문상품 / 상품은 batch fetch)
+    private List<OrderHistoryDto> orders(Session session) {
+        List<Order> orders = session.createQuery("select o from Order o where o.user.userId = :userId order by o.createdAt desc", Order.class)
+                .setParameter("userId", userId)
+                .setMaxResults(15)
+                .getResultList();
+        return OrderHistoryDto.from(orders);
+    }
+
+    // ProductRepository.findByCategory (최신순 한 페이지)
+    private List<Product> products(Session session) {
+        return session.createQuery("select p from Product p where p.category.categoryId = :categoryId order by p.productId desc", Product.class)
+                .setParameter("categoryId", categoryId)
+                .setMaxResults(16)
+                .getResultList();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.out.printf("%n[transaction=%s, listing=%s] 요청 1건당 할당 %.1f KB, commit(flush) CPU %.1f us (요청 %d)%n",
+                transaction, listing, allocatedBytes / 1024.0 / Math.max(1, requests),
+                commitCpuNanos / 1000.0 / Math.max(1, requests), requests);
+        sessionFactory.close();
+        StandardServiceRegistryBuilder.destroy(registry);
+    }
+}
@@ -0,0 +1,64 @@
+package com.backend.domain.product.application;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 대표 이미지 리사이즈 비용 (AwsS3Service.resizeImage 가 package-private 이라 같은 패키지에 둠)
+ * 원본 크기별로 디코딩 -> 500 x 500 축소 -> 인코딩 전체 시간, S3 업로드는 제외
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ImageResizeBenchmark {
+
+    @Param({"640", "1920", "4000"})
+    private int originWidth;
+
+    @Param({"jpeg", "png"})
+    private String format;
+
+    private AwsS3Service awsS3Service;
+    private MultipartFile originalImage;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        awsS3Service = new AwsS3Service(null, new SimpleMeterRegistry(), null);
+
+        // 압축이 너무 잘 되지 않도록 노이즈 이미지 사용 (실제 사진에 가까운 디코딩 비용)
+        int originHeight = originWidth * 3 / 4;
+        BufferedImage image = new BufferedImage(originWidth, originHeight, BufferedImage.TYPE_INT_RGB);
+        Random random = new Random(42);
+        for (int y = 0; y < originHeight; y++) {
+            for (int x = 0; x < originWidth; x++) {
+                image.setRGB(x, y, random.nextInt(0xFFFFFF));
+            }
+        }
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        ImageIO.write(image, format, baos);
+        originalImage = new MockMultipartFile("origin." + format, "origin." + format, "image/" + format, baos.toByteArray());
+    }
+
+    @Benchmark
+    public MultipartFile resizeImage() {
+        return awsS3Service.resizeImage("resized." + format, format, originalImage, 500);
+    }
+}
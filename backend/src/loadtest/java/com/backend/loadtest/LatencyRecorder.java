@@ -0,0 +1,93 @@
+package com.backend.loadtest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 엔드포인트별 응답 시간 기록 / 요약 (p50, p95, p99, 처리량)
+ * 측정 구간(warm-up 이후)의 모든 응답 시간을 보관했다가 마지막에 정렬해서 계산
+ */
+public class LatencyRecorder {
+
+    private final Map<String, Samples> endpoints = new ConcurrentHashMap<>();
+    private volatile boolean recording;
+
+    public void start() {
+        recording = true;
+    }
+
+    public void stop() {
+        recording = false;
+    }
+
+    public void record(String endpoint, long nanos, boolean success) {
+        if (!recording) {
+            return;
+        }
+        endpoints.computeIfAbsent(endpoint, key -> new Samples()).add(nanos, success);
+    }
+
+    /**
+     * @param elapsedSeconds 측정 구간 길이 (처리량 계산용)
+     * @return 엔드포인트 이름순 요약
+     */
+    public List<Map<String, Object>> summary(double elapsedSeconds) {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        new TreeMap<>(endpoints).forEach((endpoint, samples) -> rows.add(samples.summary(endpoint, elapsedSeconds)));
+        return rows;
+    }
+
+    private static class Samples {
+        private long[] nanos = new long[1024];
+        private int count;
+        private int errors;
+
+        synchronized void add(long value, boolean success) {
+            if (count == nanos.length) {
+                nanos = Arrays.copyOf(nanos, count * 2);
+            }
+            nanos[count++] = value;
+            if (!success) {
+                errors++;
+            }
+        }
+
+        synchronized Map<String, Object> summary(String endpoint, double elapsedSeconds) {
+            long[] sorted = Arrays.copyOf(nanos, count);
+            Arrays.sort(sorted);
+
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("endpoint", endpoint);
+            row.put("count", count);
+            row.put("errors", errors);
+            row.put("throughput", round(count / elapsedSeconds));
+            row.put("p50", millis(percentile(sorted, 50)));
+            row.put("p95", millis(percentile(sorted, 95)));
+            row.put("p99", millis(percentile(sorted, 99)));
+            row.put("max", millis(count == 0 ? 0 : sorted[count - 1]));
+            return row;
+        }
+
+        // nearest-rank
+        private static long percentile(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+            return sorted[Math.max(index, 0)];
+        }
+
+        private static double millis(long nanos) {
+            return round(nanos / 1_000_000.0);
+        }
+
+        private static double round(double value) {
+            return Math.round(value * 100) / 100.0;
+        }
+    }
+}
@@ -0,0 +1,470 @@
+package com.backend.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * loadtest 프로필로 띄운 서버에 쇼핑 시나리오를 반복 실행하고 엔드포인트별 p50 / p95 / p99, 처리량을 출력
+ * 가상 유저 n 명이 각각 LoadTestDataSeeder 의 shopper 계정(loadtest{n}@luxmeal.com)으로 로그인해서 아래 비율로 요청
+ * - browse 45% : 전체 / 카테고리 상품 목록
+ * - detail 30% : 상품 상세 + 리뷰 목록
+ * - checkout 15% : 장바구니 주문 + 포인트 결제
+ * - review 5% : 주문한 상품 리뷰 작성 (주문한 상품이 없으면 browse)
+ * - history 5% : 주문 내역 + 포인트 내역
+ *
+ * 옵션 (./gradlew loadTest -PbaseUrl=... -Pusers=... 또는 -Dloadtest.*)
+ * baseUrl, users, durationSeconds, warmupSeconds, thinkMillis, products, categories, report
+ *
+ * scenario=stock : 가상 유저 전원이 재고가 있는 상품(hotProductId, 기본 1) 하나를 품절될 때까지 동시에 1개씩 주문
+ * -> 성공한 주문 수와 재고 감소량이 같고 재고가 음수가 아니면 초과 판매 없음
+ *
+ * scenario=reissue : 가상 유저마다 같은 refresh token 으로 reissueConcurrency(기본 4) 개의 재발급 요청을 동시에 보내고
+ * 새로 받은 refresh token 으로 반복 (앱이 여러 탭 / 요청에서 동시에 재발급하는 경우)
+ * -> 동시 요청이 재사용(401 Token Reused)으로 거절되지 않고, GET /users/reissue p99 가 유저 조회 없이 유지되는지 확인
+ *
+ * 리뷰는 같은 계정이 같은 상품에 한 번만 쓸 수 있으므로 서버를 재시작(데이터 재생성)한 뒤 실행
+ */
+public class LoadTestDriver {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final String PASSWORD = "loadtest1234!";
+
+    private final String baseUrl;
+    private final int products;
+    private final int categories;
+    private final long thinkMillis;
+    private final HttpClient httpClient;
+    private final LatencyRecorder recorder = new LatencyRecorder();
+
+    private volatile boolean running = true;
+
+    LoadTestDriver(String baseUrl, int users, int products, int categories, long thinkMillis) {
+        this.baseUrl = baseUrl;
+        this.products = products;
+        this.categories = categories;
+        this.thinkMillis = thinkMillis;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(Math.max(2, users / 4)))
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = System.getProperty("loadtest.baseUrl", "http://localhost:8080");
+        int users = Integer.getInteger("loadtest.users", 50);
+        int durationSeconds = Integer.getInteger("loadtest.durationSeconds", 60);
+        int warmupSeconds = Integer.getInteger("loadtest.warmupSeconds", 10);
+        long thinkMillis = Long.getLong("loadtest.thinkMillis", 0L);
+        int products = Integer.getInteger("loadtest.products", 2000);
+        int categories = Integer.getInteger("loadtest.categories", 8);
+        String report = System.getProperty("loadtest.report", "build/loadtest/report.json");
+
+        LoadTestDriver driver = new LoadTestDriver(baseUrl, users, products, categories, thinkMillis);
+        if ("stock".equals(System.getProperty("loadtest.scenario"))) {
+            driver.runStock(users, Long.getLong("loadtest.hotProductId", 1L), durationSeconds, new File(report));
+            return;
+        }
+        if ("reissue".equals(System.getProperty("loadtest.scenario"))) {
+            driver.runReissue(users, Integer.getInteger("loadtest.reissueConcurrency", 4), warmupSeconds, durationSeconds, new File(report));
+            return;
+        }
+        driver.run(users, warmupSeconds, durationSeconds, new File(report));
+    }
+
+    void run(int users, int warmupSeconds, int durationSeconds, File report) throws Exception {
+        List<VirtualUser> virtualUsers = new ArrayList<>(users);
+        for (int i = 0; i < users; i++) {
+            virtualUsers.add(new VirtualUser(login("loadtest" + i + "@luxmeal.com"), new Random(i)));
+        }
+        System.out.printf("로그인 완료 : 가상 유저 %d 명, warm-up %d 초, 측정 %d 초%n", users, warmupSeconds, durationSeconds);
+
+        ExecutorService executor = Executors.newFixedThreadPool(users);
+        virtualUsers.forEach(virtualUser -> executor.submit(virtualUser));
+
+        TimeUnit.SECONDS.sleep(warmupSeconds);
+        recorder.start();
+        long start = System.nanoTime();
+        TimeUnit.SECONDS.sleep(durationSeconds);
+        recorder.stop();
+        double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        running = false;
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+
+        List<Map<String, Object>> summary = recorder.summary(elapsedSeconds);
+        print(summary);
+        write(report, users, elapsedSeconds, summary);
+        System.exit(0);
+    }
+
+    void runStock(int users, long productId, int durationSeconds, File report) throws Exception {
+        List<VirtualUser> virtualUsers = new ArrayList<>(users);
+        for (int i = 0; i < users; i++) {
+            virtualUsers.add(new VirtualUser(login("loadtest" + i + "@luxmeal.com"), new Random(i)));
+        }
+        int stockBefore = virtualUsers.get(0).stock(productId);
+        System.out.printf("로그인 완료 : 가상 유저 %d 명, 상품 %d 재고 %d%n", users, productId, stockBefore);
+
+        AtomicInteger ordered = new AtomicInteger();
+        CountDownLatch ready = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(users);
+        for (VirtualUser virtualUser : virtualUsers) {
+            executor.submit(() -> {
+                ready.await();
+                virtualUser.buyUntilSoldOut(productId, ordered);
+                return null;
+            });
+        }
+
+        recorder.start();
+        long start = System.nanoTime();
+        ready.countDown();
+        executor.shutdown();
+        if (!executor.awaitTermination(durationSeconds, TimeUnit.SECONDS)) {
+            running = false;
+            executor.awaitTermination(30, TimeUnit.SECONDS);
+        }
+        recorder.stop();
+        double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        int stockAfter = virtualUsers.get(0).stock(productId);
+        boolean oversold = stockAfter < 0 || stockBefore - stockAfter != ordered.get();
+        List<Map<String, Object>> summary = recorder.summary(elapsedSeconds);
+        print(summary);
+        System.out.printf("주문 성공 %d 건, 재고 %d -> %d, 초과 판매 %s%n", ordered.get(), stockBefore, stockAfter, oversold ? "있음" : "없음");
+        write(report, users, elapsedSeconds, summary);
+        System.exit(oversold ? 1 : 0);
+    }
+
+    void runReissue(int users, int concurrency, int warmupSeconds, int durationSeconds, File report) throws Exception {
+        List<String> refreshTokens = new ArrayList<>(users);
+        for (int i = 0; i < users; i++) {
+            refreshTokens.add(loginResponse("loadtest" + i + "@luxmeal.com").headers().firstValue("refreshToken").orElseThrow());
+        }
+        System.out.printf("로그인 완료 : 가상 유저 %d 명 x 동시 재발급 %d, warm-up %d 초, 측정 %d 초%n", users, concurrency, warmupSeconds, durationSeconds);
+
+        AtomicInteger rejected = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(users);
+        ExecutorService requests = Executors.newFixedThreadPool(users * concurrency);
+        for (String refreshToken : refreshTokens) {
+            executor.submit(() -> {
+                reissueLoop(refreshToken, concurrency, requests, rejected);
+                return null;
+            });
+        }
+
+        TimeUnit.SECONDS.sleep(warmupSeconds);
+        recorder.start();
+        rejected.set(0);
+        long start = System.nanoTime();
+        TimeUnit.SECONDS.sleep(durationSeconds);
+        recorder.stop();
+        double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        running = false;
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+        requests.shutdown();
+
+        List<Map<String, Object>> summary = recorder.summary(elapsedSeconds);
+        print(summary);
+        System.out.printf("동시 재발급 거절(401) %d 건%n", rejected.get());
+        write(report, users, elapsedSeconds, summary);
+        System.exit(rejected.get() > 0 ? 1 : 0);
+    }
+
+    // 같은 refresh token 으로 concurrency 개를 동시에 보내고, 교체된 토큰을 받으면 그 토큰으로 다음 요청
+    private void reissueLoop(String refreshToken, int concurrency, ExecutorService requests, AtomicInteger rejected) throws Exception {
+        String current = refreshToken;
+        while (running) {
+            String token = current;
+            List<Future<HttpResponse<String>>> responses = new ArrayList<>(concurrency);
+            for (int i = 0; i < concurrency; i++) {
+                responses.add(requests.submit(() -> reissue(token)));
+            }
+            for (Future<HttpResponse<String>> future : responses) {
+                HttpResponse<String> response = future.get();
+                if (response == null) {
+                    continue;
+                }
+                if (response.statusCode() == 401) {
+                    rejected.incrementAndGet();
+                }
+                String rotated = response.headers().firstValue("refreshToken").orElse(null);
+                if (rotated != null) {
+                    current = rotated;
+                }
+            }
+            if (thinkMillis > 0) {
+                Thread.sleep(thinkMillis);
+            }
+        }
+    }
+
+    private HttpResponse<String> reissue(String refreshToken) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/users/reissue"))
+                .timeout(Duration.ofSeconds(30))
+                .header("refreshToken", refreshToken)
+                .GET()
+                .build();
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            recorder.record("GET /users/reissue", System.nanoTime() - start, response.statusCode() < 400);
+            return response;
+        } catch (IOException e) {
+            recorder.record("GET /users/reissue", System.nanoTime() - start, false);
+            return null;
+        }
+    }
+
+    private String login(String email) throws IOException, InterruptedException {
+        HttpResponse<Void> response = loginResponse(email);
+        String authorization = response.headers().firstValue("Authorization").orElse(null);
+        if (authorization == null) {
+            throw new IllegalStateException(email + " 로그인 실패 : " + response.statusCode());
+        }
+        return authorization;
+    }
+
+    private HttpResponse<Void> loginResponse(String email) throws IOException, InterruptedException {
+        Map<String, String> body = new HashMap<>();
+        body.put("email", email);
+        body.put("password", PASSWORD);
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/users/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(OBJECT_MAPPER.writeValueAsString(body)))
+                .build();
+        HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() >= 400) {
+            throw new IllegalStateException(email + " 로그인 실패 : " + response.statusCode());
+        }
+        return response;
+    }
+
+    private class VirtualUser implements Runnable {
+        private final String authorization;
+        private final Random random;
+        private final List<Long> orderedProducts = new ArrayList<>();
+        private final List<Long> reviewableProducts = new ArrayList<>();
+        private int nextProduct;
+
+        VirtualUser(String authorization, Random random) {
+            this.authorization = authorization;
+            this.random = random;
+            // 가상 유저마다 다른 위치부터 주문해서 같은 상품 주문이 몰리지 않게 함
+            this.nextProduct = random.nextInt(products);
+        }
+
+        @Override
+        public void run() {
+            while (running) {
+                try {
+                    int dice = random.nextInt(100);
+                    if (dice < 45) {
+                        browse();
+                    } else if (dice < 75) {
+                        detail();
+                    } else if (dice < 90) {
+                        checkout();
+                    } else if (dice < 95) {
+                        review();
+                    } else {
+                        history();
+                    }
+                    if (thinkMillis > 0) {
+                        Thread.sleep(thinkMillis);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (Exception e) {
+                    // 요청 실패는 send 에서 기록, 여기서는 시나리오만 계속 진행
+                }
+            }
+        }
+
+        // 품절(409)이 될 때까지 1 개씩 주문
+        void buyUntilSoldOut(long productId, AtomicInteger ordered) throws Exception {
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("receiverAddress", "서울특별시 강남구 테헤란로 427");
+            body.put("receiverName", "loadtest");
+            body.put("receiverZipcode", "16164");
+            body.put("receiverPhone", "010-0000-0000");
+            body.put("productId", productId);
+            body.put("quantity", 1);
+            String json = OBJECT_MAPPER.writeValueAsString(body);
+
+            while (running) {
+                HttpResponse<String> response = send("POST /orders", authorized("/orders")
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(json))
+                        .build());
+                if (response == null) {
+                    continue;
+                }
+                if (response.statusCode() == 201) {
+                    ordered.incrementAndGet();
+                } else if (response.statusCode() == 409) {
+                    return;
+                }
+            }
+        }
+
+        int stock(long productId) throws IOException, InterruptedException {
+            HttpResponse<String> response = httpClient.send(authorized("/products/" + productId).GET().build(),
+                    HttpResponse.BodyHandlers.ofString());
+            return OBJECT_MAPPER.readTree(response.body()).path("data").path("stock").asInt();
+        }
+
+        private void browse() throws InterruptedException {
+            int filter = 1 + random.nextInt(4);
+            int page = 1 + random.nextInt(5);
+            if (random.nextBoolean()) {
+                get("GET /products/filter/{filterId}", "/products/filter/" + filter + "?page=" + page);
+            } else {
+                long categoryId = 1 + random.nextInt(categories);
+                get("GET /products/category/{categoryId}/{filterId}", "/products/category/" + categoryId + "/" + filter + "?page=" + page);
+            }
+        }
+
+        private void detail() throws InterruptedException {
+            long productId = randomProductId();
+            get("GET /products/{productId}", "/products/" + productId);
+            get("GET /review/{productId}", "/review/" + productId + "?page=1");
+        }
+
+        private void checkout() throws Exception {
+            List<Map<String, Object>> items = new ArrayList<>();
+            List<Long> productIds = new ArrayList<>();
+            int itemCount = 1 + random.nextInt(3);
+            for (int i = 0; i < itemCount; i++) {
+                long productId = 1 + (nextProduct++ % products);
+                productIds.add(productId);
+                Map<String, Object> item = new LinkedHashMap<>();
+                item.put("productId", productId);
+                item.put("quantity", 1 + random.nextInt(3));
+                items.add(item);
+            }
+
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("receiverAddress", "서울특별시 강남구 테헤란로 427");
+            body.put("receiverName", "loadtest");
+            body.put("receiverZipcode", "16164");
+            body.put("receiverPhone", "010-0000-0000");
+            body.put("cartOrderProductDtoList", items);
+
+            HttpResponse<String> order = send("POST /orders/cart", authorized("/orders/cart")
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(OBJECT_MAPPER.writeValueAsString(body)))
+                    .build());
+            if (order == null || order.statusCode() >= 400) {
+                return;
+            }
+            orderedProducts.addAll(productIds);
+            reviewableProducts.addAll(productIds);
+
+            JsonNode orderJson = OBJECT_MAPPER.readTree(order.body());
+            long orderId = orderJson.get("orderId").asLong();
+            send("POST /point/{orderId}", authorized("/point/" + orderId)
+                    .POST(HttpRequest.BodyPublishers.noBody())
+                    .build());
+        }
+
+        private void review() throws InterruptedException {
+            if (reviewableProducts.isEmpty()) {
+                browse();
+                return;
+            }
+            long productId = reviewableProducts.remove(reviewableProducts.size() - 1);
+            String form = "reviewContent=" + URLEncoder.encode("loadtest 리뷰", StandardCharsets.UTF_8)
+                    + "&star=" + (1 + random.nextInt(5));
+            send("POST /review/{productId}", authorized("/review/" + productId)
+                    .header("Content-Type", "application/x-www-form-urlencoded")
+                    .POST(HttpRequest.BodyPublishers.ofString(form))
+                    .build());
+        }
+
+        private void history() throws InterruptedException {
+            get("GET /orders", "/orders?page=1");
+            get("GET /point/history", "/point/history?page=1");
+        }
+
+        private long randomProductId() {
+            // 절반은 최근 주문한 상품 (상세 재방문), 나머지는 전체 상품 중 임의
+            if (!orderedProducts.isEmpty() && random.nextBoolean()) {
+                return orderedProducts.get(random.nextInt(orderedProducts.size()));
+            }
+            return 1 + random.nextInt(products);
+        }
+
+        private void get(String endpoint, String path) throws InterruptedException {
+            send(endpoint, authorized(path).GET().build());
+        }
+
+        private HttpRequest.Builder authorized(String path) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .timeout(Duration.ofSeconds(30))
+                    .header("Authorization", authorization);
+        }
+
+        private HttpResponse<String> send(String endpoint, HttpRequest request) throws InterruptedException {
+            long start = System.nanoTime();
+            try {
+                HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+                recorder.record(endpoint, System.nanoTime() - start, response.statusCode() < 400);
+                return response;
+            } catch (IOException e) {
+                recorder.record(endpoint, System.nanoTime() - start, false);
+                return null;
+            }
+        }
+    }
+
+    private void print(List<Map<String, Object>> summary) {
+        System.out.printf("%-48s %8s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)");
+        for (Map<String, Object> row : summary) {
+            System.out.printf("%-48s %8s %7s %9s %9s %9s %9s %9s%n",
+                    row.get("endpoint"), row.get("count"), row.get("errors"), row.get("throughput"),
+                    row.get("p50"), row.get("p95"), row.get("p99"), row.get("max"));
+        }
+    }
+
+    private void write(File report, int users, double elapsedSeconds, List<Map<String, Object>> summary) throws IOException {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("baseUrl", baseUrl);
+        result.put("users", users);
+        result.put("elapsedSeconds", elapsedSeconds);
+        result.put("endpoints", summary);
+
+        report.getAbsoluteFile().getParentFile().mkdirs();
+        OBJECT_MAPPER.writerWithDefaultPrettyPrinter().writeValue(report, result);
+        System.out.println("결과 저장 : " + report.getAbsolutePath());
+    }
+}
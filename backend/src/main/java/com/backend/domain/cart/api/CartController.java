@@ -0,0 +1,62 @@
+package com.backend.domain.cart.api;
+
+import com.backend.domain.cart.application.CartService;
+import com.backend.domain.cart.dto.CartCheckoutDto;
+import com.backend.domain.cart.dto.CartCheckoutResult;
+import com.backend.domain.cart.dto.CartItemDto;
+import com.backend.domain.cart.dto.CartResponseDto;
+import com.backend.domain.order.dto.OrderPriceDto;
+import com.backend.global.annotation.CurrentUser;
+import com.backend.global.config.auth.userdetails.CustomUserDetails;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import javax.validation.Valid;
+
+@RestController
+@RequiredArgsConstructor
+@Slf4j
+public class CartController {
+    private final CartService cartService;
+
+    @GetMapping("/cart")
+    public ResponseEntity<CartResponseDto> getCart(@CurrentUser CustomUserDetails authUser) {
+        log.info("controller/ 장바구니 get 시작");
+        return ResponseEntity.ok(cartService.getCart(authUser.getUserId()));
+    }
+
+    // 장바구니 담기 (이미 담긴 상품이면 수량 추가)
+    @PostMapping("/cart")
+    public ResponseEntity<CartResponseDto> add(@CurrentUser CustomUserDetails authUser, @RequestBody @Valid CartItemDto cartItemDto) {
+        log.info("controller/ 장바구니 post 시작");
+        return ResponseEntity.ok(cartService.add(authUser.getUserId(), cartItemDto));
+    }
+
+    @PatchMapping("/cart/{product-id}")
+    public ResponseEntity<CartResponseDto> updateQuantity(@CurrentUser CustomUserDetails authUser,
+                                                          @PathVariable("product-id") long productId,
+                                                          @RequestBody @Valid CartItemDto cartItemDto) {
+        log.info("controller/ 장바구니 수량 patch 시작");
+        return ResponseEntity.ok(cartService.updateQuantity(authUser.getUserId(), productId, cartItemDto.getQuantity()));
+    }
+
+    @DeleteMapping("/cart/{product-id}")
+    public ResponseEntity<CartResponseDto> remove(@CurrentUser CustomUserDetails authUser, @PathVariable("product-id") long productId) {
+        log.info("controller/ 장바구니 상품 delete 시작");
+        return ResponseEntity.ok(cartService.remove(authUser.getUserId(), productId));
+    }
+
+    // 장바구니 전체 주문, 담은 뒤 상품 정보가 바뀌었거나 같은 장바구니 주문이 진행 중이면 409, 한정 판매 대기 중이면 202 + 대기 순서
+    @PostMapping("/cart/orders")
+    public ResponseEntity<?> checkout(@CurrentUser CustomUserDetails authUser, @RequestBody CartCheckoutDto cartCheckoutDto) {
+        log.info("controller/ 장바구니 주문 post 시작");
+        CartCheckoutResult result = cartService.checkout(authUser.getUserId(), cartCheckoutDto);
+        if (!result.isOrdered()) {
+            return new ResponseEntity<>(result.getTicket(), HttpStatus.ACCEPTED);
+        }
+        return new ResponseEntity<>(new OrderPriceDto(result.getOrder()), HttpStatus.CREATED);
+    }
+}
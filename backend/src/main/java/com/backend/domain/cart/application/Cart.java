@@ -0,0 +1,216 @@
+package com.backend.domain.cart.application;
+
+import com.backend.domain.cart.domain.CartItem;
+import com.backend.global.error.BusinessLogicException;
+import com.backend.global.error.ExceptionCode;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 유저 한 명의 장바구니 (서버 메모리, CartStore 가 보관)
+ * 변경할 때마다 version 이 올라가고, DB 에 저장된 version 과 다르면 write-behind 대상
+ * CartStore 가 cart 단위로 lock 을 잡고 호출하므로 메서드 자체는 동기화하지 않음
+ */
+class Cart {
+
+    private final Map<Long, Line> lines = new LinkedHashMap<>();
+    private long version;
+    private long savedVersion;
+    private long lastAccessMillis = System.currentTimeMillis();
+    private boolean evicted;
+    private boolean checkingOut;
+
+    static Cart of(List<CartItem> items) {
+        Cart cart = new Cart();
+        for (CartItem item : items) {
+            cart.lines.put(item.getProductId(),
+                    new Line(item.getProductId(), item.getProductName(), item.getPrice(), item.getTitleImg(), item.getQuantity()));
+        }
+        return cart;
+    }
+
+    // 이미 담긴 상품이면 수량을 더하고 상품명 / 가격은 최신 값으로 갱신
+    void add(Long productId, String productName, int price, String titleImg, int quantity, int maxItems, int maxQuantity) {
+        Line line = lines.get(productId);
+        if (line == null) {
+            if (lines.size() >= maxItems) {
+                throw new BusinessLogicException("장바구니에는 최대 " + maxItems + "개 상품까지 담을 수 있습니다.", ExceptionCode.INVALID_INPUT_VALUE);
+            }
+            line = new Line(productId, productName, price, titleImg, 0);
+            lines.put(productId, line);
+        }
+        line.refresh(productName, price, titleImg);
+        line.quantity = Math.min(line.quantity + quantity, maxQuantity);
+        changed();
+    }
+
+    void setQuantity(Long productId, int quantity) {
+        line(productId).quantity = quantity;
+        changed();
+    }
+
+    void remove(Long productId) {
+        if (lines.remove(productId) == null) {
+            throw new BusinessLogicException(ExceptionCode.CART_ITEM_NOT_FOUND);
+        }
+        changed();
+    }
+
+    // 주문한 수량만큼 빼고 다 빠진 상품은 삭제 (주문 중에 더 담은 수량은 남김)
+    void removeOrdered(List<Line> ordered) {
+        for (Line orderedLine : ordered) {
+            Line line = lines.get(orderedLine.productId);
+            if (line == null) {
+                continue;
+            }
+            line.quantity -= orderedLine.quantity;
+            if (line.quantity <= 0) {
+                lines.remove(orderedLine.productId);
+            }
+        }
+        changed();
+    }
+
+    /**
+     * 상품이 바뀌었으면 담긴 정보를 갱신 (없어진 상품은 삭제)
+     *
+     * @return 바뀐 상품이 있으면 true
+     */
+    boolean refresh(Long productId, String productName, Integer price, String titleImg) {
+        Line line = lines.get(productId);
+        if (line == null) {
+            return false;
+        }
+        if (price == null) {
+            lines.remove(productId);
+            changed();
+            return true;
+        }
+        if (line.isSame(productName, price)) {
+            return false;
+        }
+        line.refresh(productName, price, titleImg);
+        changed();
+        return true;
+    }
+
+    /**
+     * 주문 시작 : 주문 중 표시를 하고 주문할 상품을 복사해서 반환
+     * 같은 장바구니의 주문이 이미 진행 중이면 CART_CHECKOUT_IN_PROGRESS (중복 클릭 / 재시도로 같은 상품이 두 번 주문되지 않도록)
+     */
+    List<Line> startCheckout() {
+        if (checkingOut) {
+            throw new BusinessLogicException("이미 장바구니 주문이 진행 중입니다.", ExceptionCode.CART_CHECKOUT_IN_PROGRESS);
+        }
+        if (lines.isEmpty()) {
+            throw new BusinessLogicException(ExceptionCode.CART_EMPTY);
+        }
+        checkingOut = true;
+        return lines();
+    }
+
+    // 주문 종료 (성공 / 실패 모두)
+    void finishCheckout() {
+        checkingOut = false;
+    }
+
+    boolean isCheckingOut() {
+        return checkingOut;
+    }
+
+    List<Line> lines() {
+        List<Line> copy = new ArrayList<>(lines.size());
+        for (Line line : lines.values()) {
+            copy.add(line.copy());
+        }
+        return copy;
+    }
+
+    List<CartItem> toItems(Long userId) {
+        List<CartItem> items = new ArrayList<>(lines.size());
+        int position = 0;
+        for (Line line : lines.values()) {
+            items.add(CartItem.builder()
+                    .userId(userId)
+                    .productId(line.productId)
+                    .productName(line.productName)
+                    .price(line.price)
+                    .titleImg(line.titleImg)
+                    .quantity(line.quantity)
+                    .position(position++)
+                    .build());
+        }
+        return items;
+    }
+
+    private Line line(Long productId) {
+        Line line = lines.get(productId);
+        if (line == null) {
+            throw new BusinessLogicException(ExceptionCode.CART_ITEM_NOT_FOUND);
+        }
+        return line;
+    }
+
+    private void changed() {
+        version++;
+    }
+
+    long version() {
+        return version;
+    }
+
+    void saved(long version) {
+        savedVersion = Math.max(savedVersion, version);
+    }
+
+    boolean isSaved() {
+        return savedVersion == version;
+    }
+
+    void touch(long nowMillis) {
+        lastAccessMillis = nowMillis;
+    }
+
+    long lastAccessMillis() {
+        return lastAccessMillis;
+    }
+
+    boolean isEvicted() {
+        return evicted;
+    }
+
+    void evict() {
+        evicted = true;
+    }
+
+    // 장바구니 상품 한 줄, 상품명 / 가격은 담거나 확인했을 때의 값
+    @Getter
+    @AllArgsConstructor
+    static class Line {
+        private final Long productId;
+        private String productName;
+        private int price;
+        private String titleImg;
+        private int quantity;
+
+        private void refresh(String productName, int price, String titleImg) {
+            this.productName = productName;
+            this.price = price;
+            this.titleImg = titleImg;
+        }
+
+        private boolean isSame(String productName, int price) {
+            return this.price == price && Objects.equals(this.productName, productName);
+        }
+
+        private Line copy() {
+            return new Line(productId, productName, price, titleImg, quantity);
+        }
+    }
+}
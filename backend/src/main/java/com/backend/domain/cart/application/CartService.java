@@ -0,0 +1,173 @@
+package com.backend.domain.cart.application;
+
+import com.backend.domain.cart.dto.CartCheckoutDto;
+import com.backend.domain.cart.dto.CartCheckoutResult;
+import com.backend.domain.cart.dto.CartItemDto;
+import com.backend.domain.cart.dto.CartResponseDto;
+import com.backend.domain.cart.dto.CartResponseDto.CartLineDto;
+import com.backend.domain.order.application.FlashSaleGate;
+import com.backend.domain.order.application.OrderService;
+import com.backend.domain.order.domain.Order;
+import com.backend.domain.order.dto.CartOrderDto;
+import com.backend.domain.order.dto.CartOrderProductDto;
+import com.backend.domain.order.dto.FlashSaleTicket;
+import com.backend.domain.product.dao.ProductRepository;
+import com.backend.domain.product.domain.Product;
+import com.backend.domain.product.exception.ProductNotFound;
+import com.backend.global.error.BusinessLogicException;
+import com.backend.global.error.ExceptionCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 서버 장바구니 (CartStore 의 메모리 장바구니를 사용, 조회 / 변경은 DB 를 거치지 않음)
+ * 담을 때 상품명 / 가격을 같이 보관하고, 주문할 때 장바구니 상품 전체를 in 쿼리 한 번으로 다시 확인
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CartService {
+    private final CartStore cartStore;
+    private final ProductRepository productRepository;
+    private final OrderService orderService;
+    private final FlashSaleGate flashSaleGate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${cart.max-items:100}")
+    private int maxItems;
+
+    public CartResponseDto getCart(Long userId) {
+        log.info("Service/ userId : {} 장바구니 조회", userId);
+        return cartStore.read(userId, this::toResponse);
+    }
+
+    public CartResponseDto add(Long userId, CartItemDto cartItemDto) {
+        log.info("Service/ userId : {} 장바구니 상품 추가", userId);
+        if (cartItemDto.getProductId() == null) {
+            throw new BusinessLogicException("상품 아이디는 필수 입력 값입니다.", ExceptionCode.INVALID_INPUT_VALUE);
+        }
+        Product product = productRepository.findById(cartItemDto.getProductId()).orElseThrow(ProductNotFound::new);
+        return cartStore.update(userId, cart -> {
+            cart.add(product.getProductId(), product.getProductName(), product.getPrice(), product.getTitleImg(),
+                    cartItemDto.getQuantity(), maxItems, 999);
+            return toResponse(cart);
+        });
+    }
+
+    public CartResponseDto updateQuantity(Long userId, Long productId, int quantity) {
+        log.info("Service/ userId : {} 장바구니 상품 {} 수량 변경", userId, productId);
+        return cartStore.update(userId, cart -> {
+            cart.setQuantity(productId, quantity);
+            return toResponse(cart);
+        });
+    }
+
+    public CartResponseDto remove(Long userId, Long productId) {
+        log.info("Service/ userId : {} 장바구니 상품 {} 삭제", userId, productId);
+        return cartStore.update(userId, cart -> {
+            cart.remove(productId);
+            return toResponse(cart);
+        });
+    }
+
+    /**
+     * 장바구니 전체 주문
+     * 1. 장바구니 상품을 in 쿼리 한 번으로 조회해서 담을 때의 상품명 / 가격과 비교
+     * 2. 바뀐 상품이 있으면 장바구니를 갱신하고 CART_CHANGED (409), 클라이언트는 장바구니를 다시 조회해서 확인 후 주문
+     * 3. 그대로면 조회한 상품으로 주문 생성 (OrderService 에서 상품을 다시 조회하지 않음)
+     * 4. 주문이 커밋된 뒤 주문한 수량만큼 장바구니에서 뺌
+     * 한정 판매 상품이 있으면 단건 주문과 같은 대기열을 거침 (대기 중이면 주문하지 않고 대기 순서 반환)
+     * 장바구니 lock 안에서 주문 중 표시를 하므로 같은 장바구니의 두 번째 주문 요청은 끝날 때까지 CART_CHECKOUT_IN_PROGRESS (409)
+     */
+    public CartCheckoutResult checkout(Long userId, CartCheckoutDto cartCheckoutDto) {
+        log.info("Service/ userId : {} 장바구니 주문 시작", userId);
+        List<Cart.Line> lines = cartStore.read(userId, Cart::startCheckout);
+        try {
+            Map<Long, Integer> quantities = new HashMap<>();
+            for (Cart.Line line : lines) {
+                quantities.put(line.getProductId(), line.getQuantity());
+            }
+            FlashSaleTicket ticket = flashSaleGate.enter(userId, quantities);
+            if (!ticket.isAdmitted()) {
+                log.info("Service/ userId : {} 한정 판매 대기 중, 주문 보류", userId);
+                return CartCheckoutResult.waiting(ticket);
+            }
+
+            Order order = flashSaleGate.order(userId, quantities.keySet(), () -> transactionTemplate.execute(status -> {
+                Map<Long, Product> products = findProducts(lines);
+                if (refresh(userId, lines, products)) {
+                    log.info("Service/ userId : {} 장바구니 상품 정보 변경됨, 주문 중단", userId);
+                    throw new BusinessLogicException("장바구니 상품 정보가 변경되었습니다. 장바구니를 다시 확인해주세요.", ExceptionCode.CART_CHANGED);
+                }
+                return orderService.orders(toCartOrderDto(cartCheckoutDto, lines), userId, products);
+            }));
+
+            cartStore.update(userId, cart -> {
+                cart.removeOrdered(lines);
+                return null;
+            });
+            return CartCheckoutResult.ordered(order);
+        } finally {
+            cartStore.read(userId, cart -> {
+                cart.finishCheckout();
+                return null;
+            });
+        }
+    }
+
+    private Map<Long, Product> findProducts(List<Cart.Line> lines) {
+        List<Long> productIds = new ArrayList<>(lines.size());
+        for (Cart.Line line : lines) {
+            productIds.add(line.getProductId());
+        }
+        Map<Long, Product> products = new HashMap<>();
+        for (Product product : productRepository.findAllById(productIds)) {
+            products.put(product.getProductId(), product);
+        }
+        return products;
+    }
+
+    // 담을 때와 달라진 상품을 장바구니에 반영, 하나라도 바뀌었으면 true
+    private boolean refresh(Long userId, List<Cart.Line> lines, Map<Long, Product> products) {
+        return cartStore.update(userId, cart -> {
+            boolean changed = false;
+            for (Cart.Line line : lines) {
+                Product product = products.get(line.getProductId());
+                changed |= product == null
+                        ? cart.refresh(line.getProductId(), null, null, null)
+                        : cart.refresh(product.getProductId(), product.getProductName(), product.getPrice(), product.getTitleImg());
+            }
+            return changed;
+        });
+    }
+
+    private CartOrderDto toCartOrderDto(CartCheckoutDto cartCheckoutDto, List<Cart.Line> lines) {
+        List<CartOrderProductDto> cartOrderProductDtoList = new ArrayList<>(lines.size());
+        for (Cart.Line line : lines) {
+            cartOrderProductDtoList.add(new CartOrderProductDto(line.getProductId(), line.getQuantity()));
+        }
+        CartOrderDto cartOrderDto = new CartOrderDto();
+        cartOrderDto.setReceiverAddress(cartCheckoutDto.getReceiverAddress());
+        cartOrderDto.setReceiverName(cartCheckoutDto.getReceiverName());
+        cartOrderDto.setReceiverZipcode(cartCheckoutDto.getReceiverZipcode());
+        cartOrderDto.setReceiverPhone(cartCheckoutDto.getReceiverPhone());
+        cartOrderDto.setCartOrderProductDtoList(cartOrderProductDtoList);
+        return cartOrderDto;
+    }
+
+    private CartResponseDto toResponse(Cart cart) {
+        List<CartLineDto> items = new ArrayList<>();
+        for (Cart.Line line : cart.lines()) {
+            items.add(new CartLineDto(line.getProductId(), line.getProductName(), line.getPrice(), line.getTitleImg(), line.getQuantity()));
+        }
+        return CartResponseDto.of(items);
+    }
+}
@@ -0,0 +1,153 @@
+package com.backend.domain.cart.application;
+
+import com.backend.domain.cart.dao.CartItemRepository;
+import com.backend.domain.cart.domain.CartItem;
+import com.backend.global.utils.TimingWheel;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 유저별 장바구니를 서버 메모리에 보관하고 DB 에는 write-behind 로 저장
+ * 1. 처음 접근할 때 cart_item 에서 불러옴 (이후 조회 / 변경은 DB 를 거치지 않음)
+ * 2. 변경된 장바구니는 flush-millis 마다 유저 단위로 cart_item 을 통째로 교체
+ * 3. idle-seconds 동안 접근이 없고 저장이 끝난 장바구니는 메모리에서 내림
+ * 서버별 메모리이므로 여러 서버에서는 같은 유저 요청이 같은 서버로 가야 함 (로드밸런서 세션 고정)
+ * 서버가 비정상 종료되면 마지막 flush 이후 변경은 잃어버림 (정상 종료 시에는 @PreDestroy 에서 저장)
+ */
+@Slf4j
+@Component
+public class CartStore {
+    private final CartItemRepository cartItemRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<Long, Cart> carts = new ConcurrentHashMap<>();
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+    private final TimingWheel<Long> idleWheel = new TimingWheel<>(1000, 3600, this::evict);
+
+    @Value("${cart.idle-seconds:1800}")
+    private long idleSeconds;
+
+    public CartStore(CartItemRepository cartItemRepository, TransactionTemplate transactionTemplate, MeterRegistry meterRegistry) {
+        this.cartItemRepository = cartItemRepository;
+        this.transactionTemplate = transactionTemplate;
+        Gauge.builder("cart.cached", carts, Map::size).register(meterRegistry);
+        Gauge.builder("cart.dirty", dirty, Set::size).register(meterRegistry);
+    }
+
+    // 장바구니 조회 (변경 없음)
+    <R> R read(Long userId, Function<Cart, R> action) {
+        return access(userId, action, false);
+    }
+
+    // 장바구니 변경, 예외 없이 끝나면 write-behind 대상
+    <R> R update(Long userId, Function<Cart, R> action) {
+        return access(userId, action, true);
+    }
+
+    private <R> R access(Long userId, Function<Cart, R> action, boolean write) {
+        while (true) {
+            Cart cart = carts.get(userId);
+            if (cart == null) {
+                // DB 조회는 map 밖에서, 동시에 불러온 경우 먼저 넣은 쪽 사용
+                Cart loaded = Cart.of(cartItemRepository.findByUserIdOrderByPosition(userId));
+                Cart previous = carts.putIfAbsent(userId, loaded);
+                cart = previous == null ? loaded : previous;
+            }
+            synchronized (cart) {
+                // 꺼내는 사이 메모리에서 내려간 장바구니면 다시 불러옴
+                if (cart.isEvicted()) {
+                    continue;
+                }
+                long now = System.currentTimeMillis();
+                cart.touch(now);
+                idleWheel.schedule(userId, now + idleSeconds * 1000);
+                R result = action.apply(cart);
+                if (write && !cart.isSaved()) {
+                    dirty.add(userId);
+                }
+                return result;
+            }
+        }
+    }
+
+    /**
+     * 변경된 장바구니를 DB 에 저장 (유저별 트랜잭션, delete 1 회 + insert batch)
+     * 저장 중에 다시 바뀐 장바구니는 다음 flush 에 저장
+     */
+    @Scheduled(fixedDelayString = "${cart.flush-millis:1000}")
+    public synchronized void flush() {
+        for (Long userId : dirty) {
+            dirty.remove(userId);
+            Cart cart = carts.get(userId);
+            if (cart == null) {
+                continue;
+            }
+            List<CartItem> items;
+            long version;
+            synchronized (cart) {
+                if (cart.isSaved()) {
+                    continue;
+                }
+                items = cart.toItems(userId);
+                version = cart.version();
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    cartItemRepository.deleteByUserId(userId);
+                    cartItemRepository.saveAll(items);
+                });
+            } catch (RuntimeException e) {
+                log.warn("장바구니 저장 실패 : 유저 {} (다음 flush 에 다시 저장)", userId, e);
+                dirty.add(userId);
+                continue;
+            }
+            synchronized (cart) {
+                cart.saved(version);
+                if (!cart.isSaved()) {
+                    dirty.add(userId);
+                }
+            }
+        }
+    }
+
+    @Scheduled(fixedDelay = 1000)
+    public void sweep() {
+        idleWheel.advance(System.currentTimeMillis());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+        log.info("장바구니 저장 완료 (종료)");
+    }
+
+    // 접근이 없던 장바구니를 메모리에서 내림, 아직 저장 전이거나 주문 중이면 다음 바퀴에 다시 확인
+    private void evict(Long userId) {
+        Cart cart = carts.get(userId);
+        if (cart == null) {
+            return;
+        }
+        synchronized (cart) {
+            long now = System.currentTimeMillis();
+            long idleUntil = cart.lastAccessMillis() + idleSeconds * 1000;
+            if (!cart.isSaved() || cart.isCheckingOut() || idleUntil > now) {
+                idleWheel.schedule(userId, Math.max(idleUntil, now + 1000));
+                return;
+            }
+            cart.evict();
+            carts.remove(userId, cart);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.backend.domain.cart.dao;
+
+import com.backend.domain.cart.domain.CartItem;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface CartItemRepository extends JpaRepository<CartItem, Long> {
+
+    List<CartItem> findByUserIdOrderByPosition(Long userId);
+
+    // 유저 장바구니 전체 교체 전에 한 번에 삭제 (엔티티를 읽지 않음)
+    @Modifying(flushAutomatically = true)
+    @Query("delete from CartItem c where c.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+
+    // 게스트 정리
+    @Modifying
+    @Query("delete from CartItem c where c.userId in :userIds")
+    int deleteByUserIds(@Param("userIds") List<Long> userIds);
+}
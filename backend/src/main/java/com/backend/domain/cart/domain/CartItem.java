@@ -0,0 +1,47 @@
+package com.backend.domain.cart.domain;
+
+import com.backend.global.jpa.PooledIdGenerator;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+
+import javax.persistence.*;
+
+/**
+ * 장바구니 상품 (CartStore 가 write-behind 로 저장하는 사본, 실제 장바구니는 서버 메모리의 Cart)
+ * 상품명 / 가격은 담을 때의 값 (주문 시 상품과 다르면 갱신 후 다시 확인 요청)
+ */
+@Getter
+@Entity
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(indexes = {
+        @Index(name = "uk_cart_item_user_id_product_id", columnList = "userId, productId", unique = true)
+})
+public class CartItem {
+
+    @Id
+    @GeneratedValue(generator = PooledIdGenerator.NAME)
+    @GenericGenerator(name = PooledIdGenerator.NAME, strategy = PooledIdGenerator.STRATEGY)
+    private Long cartItemId;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private Long productId;
+
+    private int quantity;
+
+    private String productName;
+
+    private int price;
+
+    private String titleImg;
+
+    // 담은 순서 (같은 순서로 다시 불러오기 위함)
+    private int position;
+}
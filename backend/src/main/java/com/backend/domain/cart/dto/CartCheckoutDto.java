@@ -0,0 +1,15 @@
+package com.backend.domain.cart.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+// 장바구니 주문 배송지 (주문할 상품은 서버 장바구니 사용)
+@Getter
+@Setter
+public class CartCheckoutDto {
+
+    private String receiverAddress;
+    private String receiverName;
+    private String receiverZipcode;
+    private String receiverPhone;
+}
@@ -0,0 +1,28 @@
+package com.backend.domain.cart.dto;
+
+import com.backend.domain.order.domain.Order;
+import com.backend.domain.order.dto.FlashSaleTicket;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 장바구니 주문 결과 : 주문 완료 (order) 또는 한정 판매 대기 중 (ticket)
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class CartCheckoutResult {
+
+    private final Order order;
+    private final FlashSaleTicket ticket;
+
+    public static CartCheckoutResult ordered(Order order) {
+        return new CartCheckoutResult(order, null);
+    }
+
+    public static CartCheckoutResult waiting(FlashSaleTicket ticket) {
+        return new CartCheckoutResult(null, ticket);
+    }
+
+    public boolean isOrdered() {
+        return order != null;
+    }
+}
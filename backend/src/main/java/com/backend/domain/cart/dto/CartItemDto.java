@@ -0,0 +1,21 @@
+package com.backend.domain.cart.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+@Getter
+@Setter
+public class CartItemDto {
+
+    // 수량 변경 (PATCH /cart/{product-id}) 에서는 사용하지 않음
+    private Long productId;
+
+    @NotNull(message = "수량은 필수 입력 값입니다.")
+    @Min(value = 1, message = "최소 수량은 1개 입니다.")
+    @Max(value = 999, message = "최대 수량은 999개 입니다.")
+    private Integer quantity;
+}
@@ -0,0 +1,39 @@
+package com.backend.domain.cart.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class CartResponseDto {
+
+    private List<CartLineDto> items;
+    private int totalQuantity;
+    private int totalPrice;
+
+    public static CartResponseDto of(List<CartLineDto> items) {
+        int totalQuantity = 0;
+        int totalPrice = 0;
+        for (CartLineDto item : items) {
+            totalQuantity += item.getQuantity();
+            totalPrice += item.getTotalPrice();
+        }
+        return new CartResponseDto(items, totalQuantity, totalPrice);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class CartLineDto {
+        private Long productId;
+        private String productName;
+        private int price;
+        private String titleImg;
+        private int quantity;
+
+        public int getTotalPrice() {
+            return price * quantity;
+        }
+    }
+}
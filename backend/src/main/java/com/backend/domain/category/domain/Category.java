@@ -28,4 +28,11 @@ public class Category {
 
     @OneToMany(mappedBy = "category",cascade = CascadeType.ALL,orphanRemoval = true)
     private List<Product> products = new ArrayList<>();
+
+    public static Category create(String categoryName, String categoryRefCode) {
+        Category category = new Category();
+        category.setCategoryName(categoryName);
+        category.setCategoryRefCode(categoryRefCode);
+        return category;
+    }
 }
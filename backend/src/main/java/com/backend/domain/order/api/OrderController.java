@@ -1,5 +1,6 @@
 package com.backend.domain.order.api;
 
+import com.backend.domain.order.application.FlashSaleGate;
 import com.backend.domain.order.application.OrderService;
 import com.backend.domain.order.dao.OrderRepository;
 import com.backend.domain.order.domain.Order;
@@ -9,18 +10,25 @@ import com.backend.global.annotation.CurrentUser;
 import com.backend.global.config.auth.userdetails.CustomUserDetails;
 import com.backend.global.dto.Response.MultiResponse;
 import com.backend.global.dto.Response.SingleResponseDto;
+import com.backend.global.export.ExportFormat;
+import com.backend.global.export.StreamingExporter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.validation.Valid;
 import javax.validation.constraints.Positive;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequiredArgsConstructor
@@ -30,25 +38,66 @@ public class OrderController {
     private final OrderMapper mapper;
 
     private final OrderRepository orderRepository;
+    private final StreamingExporter streamingExporter;
+    private final FlashSaleGate flashSaleGate;
 
     //주문
     @PostMapping("/orders")
     public ResponseEntity order(@CurrentUser CustomUserDetails authUser, @RequestBody @Valid OrderDto orderDto) {
         log.info("controller/ 주문 post를 위한 UserId 가져오기");
-        Long userId = authUser.getUser().getUserId();
-        Long orderId;
+        Long userId = authUser.getUserId();
+        Long productId = orderDto.getProductId();
+        // 한정 판매 상품은 대기열에서 순서가 된 요청만 주문 (대기 중이면 202 + 대기 순서)
+        FlashSaleTicket ticket = flashSaleGate.enter(userId, Collections.singletonMap(productId, orderDto.getQuantity()));
+        if (!ticket.isAdmitted()) {
+            return new ResponseEntity<>(ticket, HttpStatus.ACCEPTED);
+        }
+
         log.info("controller/ 주문 post 시작");
-        Order order = orderService.order(orderDto, userId);
+        Order order = flashSaleGate.order(userId, Collections.singletonList(productId), () -> orderService.order(orderDto, userId));
 
         return new ResponseEntity<>(new OrderPriceDto(order), HttpStatus.CREATED);
     }
 
+    // 한정 판매 대기 순서 조회
+    @GetMapping("/orders/flash-sale/{product-id}")
+    public ResponseEntity<FlashSaleTicket> flashSaleStatus(@CurrentUser CustomUserDetails authUser, @PathVariable("product-id") long productId) {
+        return ResponseEntity.ok(flashSaleGate.status(productId, authUser.getUserId()));
+    }
+
+    // 관리자 전용 한정 판매 시작 / 종료
+    @PostMapping("/orders/flash-sale/{product-id}")
+    public ResponseEntity openFlashSale(@PathVariable("product-id") long productId,
+                                        @RequestParam(required = false) Double permitsPerSecond,
+                                        @RequestParam(required = false) Integer queueCapacity) {
+        log.info("controller/ 한정 판매 시작");
+        flashSaleGate.open(productId, permitsPerSecond, queueCapacity);
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+
+    @DeleteMapping("/orders/flash-sale/{product-id}")
+    public ResponseEntity closeFlashSale(@PathVariable("product-id") long productId) {
+        log.info("controller/ 한정 판매 종료");
+        flashSaleGate.close(productId);
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+
     @PostMapping("/orders/cart")
     public ResponseEntity cartOrders(@CurrentUser CustomUserDetails authUser, @RequestBody @Valid CartOrderDto cartOrderDto) {
         log.info("controller/ 주문들 post를 위한 UserId 가져오기");
-        Long userId = authUser.getUser().getUserId();
+        Long userId = authUser.getUserId();
+        // 장바구니에 한정 판매 상품이 있으면 단건 주문과 같은 대기열을 거침
+        Map<Long, Integer> quantities = new HashMap<>();
+        for (CartOrderProductDto cartOrderProductDto : cartOrderDto.getCartOrderProductDtoList()) {
+            quantities.merge(cartOrderProductDto.getProductId(), cartOrderProductDto.getQuantity(), Integer::sum);
+        }
+        FlashSaleTicket ticket = flashSaleGate.enter(userId, quantities);
+        if (!ticket.isAdmitted()) {
+            return new ResponseEntity<>(ticket, HttpStatus.ACCEPTED);
+        }
+
         log.info("controller/ 주문들 post 시작");
-        Order order = orderService.orders(cartOrderDto, userId);
+        Order order = flashSaleGate.order(userId, quantities.keySet(), () -> orderService.orders(cartOrderDto, userId));
 
         return new ResponseEntity<>(new OrderPriceDto(order), HttpStatus.CREATED);
     }
@@ -79,7 +128,7 @@ public class OrderController {
     public ResponseEntity<MultiResponse> getList(@RequestParam int page,  @CurrentUser CustomUserDetails authUser) {
         Pageable pageable = PageRequest.of(page - 1, 15);
         log.info("controller/ 유저별 주문 내역 get 시작");
-        Page<OrderHistoryDto> ordersHistoryDtoList = orderService.getOrderList(authUser.getUser().getUserId(), pageable);
+        Page<OrderHistoryDto> ordersHistoryDtoList = orderService.getOrderList(authUser.getUserId(), pageable);
         List<OrderHistoryDto> content = ordersHistoryDtoList.getContent();
 
 
@@ -97,6 +146,14 @@ public class OrderController {
         return new ResponseEntity<>(new MultiResponse<>(content, ordersHistoryDtoList), HttpStatus.OK);
     }
 
+    // 관리자 전용 전체 주문 내역 export (format : json / ndjson)
+    @GetMapping("/orders/export")
+    public ResponseEntity<StreamingResponseBody> exportAll(@RequestParam(defaultValue = "ndjson") String format,
+                                                           @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        log.info("controller/ 모든 주문 내역 export 시작");
+        return streamingExporter.exportChunks("orders", ExportFormat.from(format), acceptEncoding, orderRepository::streamAll, orderService::toOrderHistories);
+    }
+
 
 //판매자 전용기능 필요?없음. 버튼누르면 그냥  order상태변경해서 저장하기만 하면됌. 응답으로는 patch리스폰스랑 같이
     @PatchMapping("/orders/status/{order-id}")
@@ -0,0 +1,166 @@
+package com.backend.domain.order.application;
+
+import com.backend.domain.order.dto.FlashSaleTicket;
+import com.backend.global.error.BusinessLogicException;
+import com.backend.global.error.ExceptionCode;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * 상품 하나의 한정 판매 대기열
+ * 1. 주문 요청은 먼저 대기열(FIFO, 최대 queueCapacity 명)에 들어가고, 가득 차면 429
+ * 2. dispatch 가 초당 permitsPerSecond 명씩 대기열 앞에서 꺼내 주문을 허용 (DB 가 감당할 수 있는 주문 속도로 맞춤)
+ * 3. 허용할 때마다 재고 토큰을 하나씩 쓰고, 토큰이 없으면 대기열에 넣지 않고 바로 품절 응답
+ * 4. 허용 후 admittedTtlMillis 안에 주문하지 않거나 주문이 실패하면 토큰을 돌려받음
+ * 5. 주문을 시작하면 입장을 사용 처리(claim)해서 같은 입장으로 동시에 두 번 주문할 수 없음
+ * 실제 재고 차감은 StockService 의 조건부 update 가 하므로 토큰은 DB 까지 가는 요청 수를 줄이는 용도
+ */
+class FlashSale {
+
+    private final int queueCapacity;
+    private final double permitsPerSecond;
+    private final long admittedTtlMillis;
+
+    private final Queue<Long> queue = new ArrayDeque<>();
+    private final Map<Long, Long> waitingSequence = new HashMap<>();
+    private final Map<Long, Long> admittedUntil = new HashMap<>();
+    // 입장을 사용해서 주문 중인 유저 -> 원래 입장 만료 시각 (주문이 끝날 때까지 만료되지 않음)
+    private final Map<Long, Long> ordering = new HashMap<>();
+
+    private int stockTokens;
+    private long nextSequence;
+    private long dispatchedSequence;
+    private double permits;
+    private long lastRefill;
+
+    FlashSale(int stock, int queueCapacity, double permitsPerSecond, long admittedTtlMillis) {
+        this.stockTokens = stock;
+        this.queueCapacity = queueCapacity;
+        this.permitsPerSecond = permitsPerSecond;
+        this.admittedTtlMillis = admittedTtlMillis;
+        this.lastRefill = System.currentTimeMillis();
+    }
+
+    /**
+     * 주문 요청 : 허용된 유저면 ADMITTED, 아니면 대기열에 넣고 WAITING
+     */
+    synchronized FlashSaleTicket enter(long userId) {
+        FlashSaleTicket ticket = status(userId);
+        if (ticket != null) {
+            return ticket;
+        }
+        if (queue.size() >= queueCapacity) {
+            throw new BusinessLogicException(ExceptionCode.TOO_MANY_REQUESTS);
+        }
+        long sequence = ++nextSequence;
+        queue.add(userId);
+        waitingSequence.put(userId, sequence);
+        return FlashSaleTicket.waiting(sequence - dispatchedSequence);
+    }
+
+    /**
+     * 대기 순서 조회 (대기열에 없으면 null)
+     */
+    synchronized FlashSaleTicket status(long userId) {
+        Long until = admittedUntil.get(userId);
+        if (until != null && until > System.currentTimeMillis()) {
+            return FlashSaleTicket.ADMITTED;
+        }
+        Long sequence = waitingSequence.get(userId);
+        if (sequence != null) {
+            return FlashSaleTicket.waiting(sequence - dispatchedSequence);
+        }
+        if (stockTokens <= 0) {
+            return FlashSaleTicket.SOLD_OUT;
+        }
+        return null;
+    }
+
+    /**
+     * 허용된 입장을 주문에 사용 (이후 status 는 ADMITTED 가 아님)
+     *
+     * @return 만료되지 않은 입장이 있어서 사용했으면 true
+     */
+    synchronized boolean claim(long userId) {
+        Long until = admittedUntil.get(userId);
+        if (until == null || until <= System.currentTimeMillis()) {
+            return false;
+        }
+        ordering.put(userId, admittedUntil.remove(userId));
+        return true;
+    }
+
+    // 주문을 시작하지 못한 입장을 되돌림 (같은 호출에서 다른 상품 claim 이 실패한 경우)
+    synchronized void unclaim(long userId) {
+        Long until = ordering.remove(userId);
+        if (until != null) {
+            admittedUntil.put(userId, until);
+        }
+    }
+
+    /**
+     * 허용된 유저의 주문이 끝남 (실패면 재고 토큰 반환)
+     */
+    synchronized void complete(long userId, boolean ordered) {
+        boolean held = ordering.remove(userId) != null || admittedUntil.remove(userId) != null;
+        if (held && !ordered) {
+            stockTokens++;
+        }
+    }
+
+    // 실제 재고가 없음 : 대기 중인 유저는 다음 조회 때 품절 응답
+    synchronized void soldOut() {
+        stockTokens = 0;
+        queue.clear();
+        waitingSequence.clear();
+    }
+
+    /**
+     * 시간이 지난 만큼 대기열 앞에서 주문 허용
+     *
+     * @return 이번에 허용한 유저 수
+     */
+    synchronized int dispatch(long nowMillis) {
+        expireAdmitted(nowMillis);
+
+        permits = Math.min(Math.max(1, permitsPerSecond), permits + (nowMillis - lastRefill) * permitsPerSecond / 1000);
+        lastRefill = nowMillis;
+
+        int admitted = 0;
+        while (permits >= 1 && stockTokens > 0 && !queue.isEmpty()) {
+            Long userId = queue.poll();
+            dispatchedSequence = waitingSequence.remove(userId);
+            admittedUntil.put(userId, nowMillis + admittedTtlMillis);
+            stockTokens--;
+            permits--;
+            admitted++;
+        }
+        if (stockTokens <= 0 && admittedUntil.isEmpty() && ordering.isEmpty()) {
+            queue.clear();
+            waitingSequence.clear();
+        }
+        return admitted;
+    }
+
+    private void expireAdmitted(long nowMillis) {
+        Iterator<Map.Entry<Long, Long>> iterator = admittedUntil.entrySet().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().getValue() <= nowMillis) {
+                iterator.remove();
+                stockTokens++;
+            }
+        }
+    }
+
+    synchronized int waiting() {
+        return queue.size();
+    }
+
+    synchronized int remainingTokens() {
+        return stockTokens;
+    }
+}
@@ -0,0 +1,216 @@
+package com.backend.domain.order.application;
+
+import com.backend.domain.order.dto.FlashSaleTicket;
+import com.backend.domain.product.dao.ProductRepository;
+import com.backend.domain.product.domain.Product;
+import com.backend.domain.product.exception.OutOfStock;
+import com.backend.domain.product.exception.ProductNotFound;
+import com.backend.global.error.BusinessLogicException;
+import com.backend.global.error.ExceptionCode;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * 한정 판매 상품 주문 입장 제어 (관리자가 연 상품만, 서버별 메모리)
+ * 인기 상품에 주문이 몰려도 DB 연결 / 상품 row lock 을 기다리는 요청이 쌓이지 않도록 주문 전에 대기열에서 순서를 받음
+ * 한정 판매가 아닌 상품은 바로 ADMITTED
+ * POST /orders, POST /orders/cart, POST /cart/orders 모두 enter -> order 순서로 거침
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FlashSaleGate {
+    private final ProductRepository productRepository;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Long, FlashSale> sales = new ConcurrentHashMap<>();
+
+    @Value("${flash-sale.permits-per-second:50}")
+    private double defaultPermitsPerSecond;
+
+    @Value("${flash-sale.queue-capacity:10000}")
+    private int defaultQueueCapacity;
+
+    @Value("${flash-sale.admitted-ttl-seconds:30}")
+    private long admittedTtlSeconds;
+
+    /**
+     * 한정 판매 시작 (재고가 설정된 상품만), 현재 재고만큼 주문 허용 토큰을 만듦
+     *
+     * @param permitsPerSecond 초당 주문 허용 수 (null 이면 설정값)
+     * @param queueCapacity    최대 대기 인원 (null 이면 설정값)
+     */
+    public void open(Long productId, Double permitsPerSecond, Integer queueCapacity) {
+        Product product = productRepository.findById(productId).orElseThrow(ProductNotFound::new);
+        if (product.getStock() == null) {
+            throw new BusinessLogicException("재고가 설정된 상품만 한정 판매할 수 있습니다.", ExceptionCode.INVALID_INPUT_VALUE);
+        }
+
+        FlashSale sale = new FlashSale(product.getStock(),
+                queueCapacity == null ? defaultQueueCapacity : queueCapacity,
+                permitsPerSecond == null ? defaultPermitsPerSecond : permitsPerSecond,
+                admittedTtlSeconds * 1000);
+        if (sales.put(productId, sale) == null) {
+            Gauge.builder("flashsale.waiting", sales, s -> gauge(s, productId, FlashSale::waiting))
+                    .tag("product", String.valueOf(productId))
+                    .register(meterRegistry);
+            Gauge.builder("flashsale.remaining", sales, s -> gauge(s, productId, FlashSale::remainingTokens))
+                    .tag("product", String.valueOf(productId))
+                    .register(meterRegistry);
+        }
+        log.info("한정 판매 시작 : 상품 {} / 재고 {}", productId, product.getStock());
+    }
+
+    public void close(Long productId) {
+        sales.remove(productId);
+        log.info("한정 판매 종료 : 상품 {}", productId);
+    }
+
+    /**
+     * 주문 전 입장 확인 (단건 주문 / 장바구니 주문 모두), 주문 상품 중 한정 판매 상품이 모두 허용되어야 ADMITTED
+     * 1. 한정 판매 상품은 입장 토큰 하나가 재고 하나이므로 1개씩만 주문 가능
+     * 2. 하나라도 품절이면 이번에 허용받은 토큰을 돌려주고 OutOfStock
+     * 3. 대기 중인 상품이 있으면 가장 뒤의 대기 순서로 WAITING (허용받은 상품은 admitted-ttl-seconds 동안 유지)
+     * 4. 모두 허용되면 입장을 바로 사용 처리해서 ADMITTED (같은 유저의 동시 요청은 다시 대기열로),
+     *    ADMITTED 를 받은 쪽은 반드시 order 로 주문을 실행해야 토큰이 정리됨
+     *
+     * @param quantities 상품 id -> 주문 수량
+     */
+    public FlashSaleTicket enter(Long userId, Map<Long, Integer> quantities) {
+        List<Long> admitted = new ArrayList<>();
+        FlashSaleTicket waiting = null;
+        for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+            FlashSale sale = sales.get(entry.getKey());
+            if (sale == null) {
+                continue;
+            }
+            if (entry.getValue() > 1) {
+                release(userId, admitted);
+                throw new BusinessLogicException("한정 판매 상품은 1개씩만 주문할 수 있습니다.", ExceptionCode.INVALID_INPUT_VALUE);
+            }
+
+            FlashSaleTicket ticket = sale.enter(userId);
+            if (ticket.getStatus() == FlashSaleTicket.Status.SOLD_OUT) {
+                release(userId, admitted);
+                throw new OutOfStock(entry.getKey());
+            }
+            if (ticket.isAdmitted()) {
+                admitted.add(entry.getKey());
+            } else if (waiting == null || ticket.getPosition() > waiting.getPosition()) {
+                waiting = ticket;
+            }
+        }
+        if (waiting != null) {
+            return waiting;
+        }
+
+        claim(userId, admitted);
+        return FlashSaleTicket.ADMITTED;
+    }
+
+    // 허용된 입장을 모두 사용 처리, 같은 유저의 다른 요청이 먼저 사용했으면 이번에 사용한 입장을 되돌리고 409
+    private void claim(Long userId, List<Long> admitted) {
+        List<Long> claimed = new ArrayList<>();
+        for (Long productId : admitted) {
+            FlashSale sale = sales.get(productId);
+            if (sale == null) {
+                continue;
+            }
+            if (!sale.claim(userId)) {
+                for (Long claimedId : claimed) {
+                    FlashSale claimedSale = sales.get(claimedId);
+                    if (claimedSale != null) {
+                        claimedSale.unclaim(userId);
+                    }
+                }
+                throw new BusinessLogicException(ExceptionCode.FLASH_SALE_ORDER_IN_PROGRESS);
+            }
+            claimed.add(productId);
+        }
+    }
+
+    /**
+     * 입장이 허용된 주문을 실행하고 한정 판매 토큰 정리
+     * 성공 : 토큰 사용, 재고 부족 : 그 상품은 품절 처리 (다른 상품 토큰은 반환), 그 밖의 실패 : 토큰 반환
+     */
+    public <T> T order(Long userId, Collection<Long> productIds, Supplier<T> order) {
+        T result;
+        try {
+            result = order.get();
+        } catch (OutOfStock e) {
+            for (Long productId : productIds) {
+                if (productId.equals(e.getProductId())) {
+                    // 실제 재고가 없으므로 토큰을 돌려주지 않고 품절
+                    complete(productId, userId, true);
+                    soldOut(productId);
+                } else {
+                    complete(productId, userId, false);
+                }
+            }
+            throw e;
+        } catch (RuntimeException e) {
+            release(userId, productIds);
+            throw e;
+        }
+        for (Long productId : productIds) {
+            complete(productId, userId, true);
+        }
+        return result;
+    }
+
+    private void release(Long userId, Collection<Long> productIds) {
+        for (Long productId : productIds) {
+            complete(productId, userId, false);
+        }
+    }
+
+    // 대기열에 없으면 position 0 (POST /orders 로 대기열에 들어감)
+    public FlashSaleTicket status(Long productId, Long userId) {
+        FlashSale sale = sales.get(productId);
+        if (sale == null) {
+            return FlashSaleTicket.ADMITTED;
+        }
+        FlashSaleTicket ticket = sale.status(userId);
+        return ticket == null ? FlashSaleTicket.waiting(0) : ticket;
+    }
+
+    public void complete(Long productId, Long userId, boolean ordered) {
+        FlashSale sale = sales.get(productId);
+        if (sale != null) {
+            sale.complete(userId, ordered);
+        }
+    }
+
+    public void soldOut(Long productId) {
+        FlashSale sale = sales.get(productId);
+        if (sale != null) {
+            sale.soldOut();
+        }
+    }
+
+    @Scheduled(fixedDelay = 100)
+    public void dispatch() {
+        long now = System.currentTimeMillis();
+        for (FlashSale sale : sales.values()) {
+            sale.dispatch(now);
+        }
+    }
+
+    private static double gauge(Map<Long, FlashSale> sales, Long productId, ToIntFunction<FlashSale> value) {
+        FlashSale sale = sales.get(productId);
+        return sale == null ? 0 : value.applyAsInt(sale);
+    }
+}
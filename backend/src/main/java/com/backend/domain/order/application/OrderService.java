@@ -9,6 +9,7 @@ import com.backend.domain.order.dto.CartOrderProductDto;
 import com.backend.domain.order.dto.OrderDto;
 import com.backend.domain.order.dto.OrderHistoryDto;
 import com.backend.domain.order.exception.OrderNotFound;
+import com.backend.domain.product.application.StockService;
 import com.backend.domain.product.dao.ProductRepository;
 import com.backend.domain.product.domain.Product;
 import com.backend.domain.user.dao.UserRepository;
@@ -16,17 +17,22 @@ import com.backend.domain.user.domain.User;
 import com.backend.domain.user.exception.MemberNotFound;
 import com.backend.global.error.BusinessLogicException;
 import com.backend.global.error.ExceptionCode;
+import com.backend.global.event.DomainEventPublisher;
+import com.backend.global.event.DomainEventType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityNotFoundException;
-import javax.transaction.Transactional;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static com.backend.domain.order.domain.OrderStatus.SHIPPED;
@@ -43,6 +49,8 @@ import static com.backend.global.error.ExceptionCode.CANNOT_CHANGE_ORDER;
     private final OrderRepository orderRepository;
 
     private final OrderProductRepository orderProductRepository;
+    private final StockService stockService;
+    private final DomainEventPublisher domainEventPublisher;
 
     @Transactional
     public Order order(OrderDto orderDto, Long userId) {
@@ -55,10 +63,13 @@ import static com.backend.global.error.ExceptionCode.CANNOT_CHANGE_ORDER;
         List<OrderProduct> orderProductList = new ArrayList<>();
         OrderProduct orderProduct = OrderProduct.createOrderProduct(product, orderDto.getQuantity());
         orderProductList.add(orderProduct);
+        log.info("Service/ 재고 차감 시작");
+        stockService.reserve(orderProductList);
         log.info("Service/ 주문 생성 시작");
         Order order = Order.createOrder(user, orderProductList, orderDto);
 
         orderRepository.save(order);
+        domainEventPublisher.publish(DomainEventType.ORDER_CREATED, order.getOrderId(), orderPayload(order));
 
         return order;
     } //주문 토탈가격도 보내기
@@ -66,6 +77,21 @@ import static com.backend.global.error.ExceptionCode.CANNOT_CHANGE_ORDER;
 
 
     public Order orders(CartOrderDto cartOrderDto, Long userId) {
+        log.info("Service/ 장바구니 주문 생성을 위한 상품찾기 시작");
+        List<Long> productIds = new ArrayList<>();
+        for (CartOrderProductDto cartOrderProductDto : cartOrderDto.getCartOrderProductDtoList()) {
+            productIds.add(cartOrderProductDto.getProductId());
+        }
+        // 상품마다 findById 하지 않고 in 쿼리 한 번으로 조회
+        Map<Long, Product> products = new HashMap<>();
+        for (Product product : productRepository.findAllById(productIds)) {
+            products.put(product.getProductId(), product);
+        }
+        return orders(cartOrderDto, userId, products);
+    }
+
+    // 주문할 상품을 이미 조회한 경우 (CartService 는 가격 확인에 쓴 상품을 그대로 넘김)
+    public Order orders(CartOrderDto cartOrderDto, Long userId, Map<Long, Product> products) {
 
         List<CartOrderProductDto> cartOrderProductDtoList = cartOrderDto.getCartOrderProductDtoList();
         List<OrderProduct> orderProductList = new ArrayList<>();
@@ -73,15 +99,18 @@ import static com.backend.global.error.ExceptionCode.CANNOT_CHANGE_ORDER;
         User user = userRepository.findById(userId).orElseThrow(MemberNotFound::new);
         log.info("Service/ 장바구니 주문상품리스트 생성 시작");
         for (CartOrderProductDto cartOrderProductDto : cartOrderProductDtoList) {
-            Product product = productRepository.findById(cartOrderProductDto.getProductId())
+            Product product = Optional.ofNullable(products.get(cartOrderProductDto.getProductId()))
                     .orElseThrow(EntityNotFoundException::new);
 
             OrderProduct orderProduct = OrderProduct.createOrderProduct(product, cartOrderProductDto.getQuantity());
             orderProductList.add(orderProduct);
         }
+        log.info("Service/ 장바구니 재고 차감 시작");
+        stockService.reserve(orderProductList);
         log.info("Service/ 장바구니 주문 생성 시작");
         Order order = Order.createCartOrder(user, orderProductList, cartOrderDto);
         orderRepository.save(order);
+        domainEventPublisher.publish(DomainEventType.ORDER_CREATED, order.getOrderId(), orderPayload(order));
 
 
 
@@ -92,7 +121,7 @@ import static com.backend.global.error.ExceptionCode.CANNOT_CHANGE_ORDER;
         Order findorder = orderRepository.findById(orderId).orElseThrow(OrderNotFound::new);
 
         if(order.isShipping()) {
-            log.info("Service/ 주문번호 : " + orderId + " 주문정보변경불가능");
+            log.info("Service/ 주문번호 : {} 주문정보변경불가능", orderId);
             throw new BusinessLogicException(CANNOT_CHANGE_ORDER);
 
         }
@@ -114,14 +143,16 @@ import static com.backend.global.error.ExceptionCode.CANNOT_CHANGE_ORDER;
     //판매자 전용 배송중으로 변경하는 기능
     public Order updateStatus(Long orderId) {
         Order findOrder = orderRepository.findById(orderId).orElseThrow(OrderNotFound::new);
-        log.info("Service/ 주문번호 : " + orderId + " 주문상태 배송중으로 변경");
+        log.info("Service/ 주문번호 : {} 주문상태 배송중으로 변경", orderId);
 
         findOrder.setOrderStatus(SHIPPING);
         orderRepository.save(findOrder);
+        domainEventPublisher.publish(DomainEventType.ORDER_STATUS_CHANGED, orderId, statusPayload(findOrder));
 
         return findOrder;
     }
 
+    @Transactional(readOnly = true)
     public Page<OrderHistoryDto> getAllList(Pageable pageable) {
         log.info("Service/ 모든 주문내역 조회 시작");
         Page<Order> orderPage= orderRepository.findAll(pageable);
@@ -133,50 +164,94 @@ import static com.backend.global.error.ExceptionCode.CANNOT_CHANGE_ORDER;
     }
 
 
+    @Transactional(readOnly = true)
     public Page<OrderHistoryDto> getOrderList(Long userId, Pageable pageable) {
-        log.info("Service/ userId : " + userId + "주문내역 조회 시작");
+        log.info("Service/ userId : {} 주문내역 조회 시작", userId);
         List<Order> orders = orderRepository.findOrders(userId, pageable);
         Long totalQuantity = orderRepository.countOrder(userId);
 
         return new PageImpl<OrderHistoryDto>(OrderHistoryDto.from(orders), pageable, totalQuantity);
     }
 
+    // 관리자 export : chunk 의 주문상품을 쿼리 한 번으로 조회해서 변환 (주문마다 조회하지 않음)
+    @Transactional(readOnly = true)
+    public List<OrderHistoryDto> toOrderHistories(List<Order> orders) {
+        List<Long> orderIds = new ArrayList<>(orders.size());
+        for (Order order : orders) {
+            orderIds.add(order.getOrderId());
+        }
+
+        Map<Long, List<OrderProduct>> orderProducts = new HashMap<>();
+        for (OrderProduct orderProduct : orderProductRepository.findWithProductByOrderIds(orderIds)) {
+            orderProducts.computeIfAbsent(orderProduct.getOrder().getOrderId(), id -> new ArrayList<>()).add(orderProduct);
+        }
+
+        List<OrderHistoryDto> orderHistoryDtos = new ArrayList<>(orders.size());
+        for (Order order : orders) {
+            orderHistoryDtos.add(OrderHistoryDto.of(order, orderProducts.getOrDefault(order.getOrderId(), List.of())));
+        }
+        return orderHistoryDtos;
+    }
+
     @Transactional
     public void cancelOrder(Long orderId) {
-        log.info("Service/ 주문번호 : " + orderId + " 주문취소");
+        log.info("Service/ 주문번호 : {} 주문취소", orderId);
         Order order = orderRepository.findById(orderId)
                 .orElseThrow(EntityNotFoundException::new);
         if(order.isShipping()) {
-            log.info("Service/ 주문번호 : " + orderId + " 주문취소불가능");
+            log.info("Service/ 주문번호 : {} 주문취소불가능", orderId);
             throw new BusinessLogicException(ExceptionCode.CANNOT_CANCEL_ORDER);
 
         }
+        stockService.release(order.getOrderProducts());
+        domainEventPublisher.publish(DomainEventType.ORDER_CANCELLED, orderId, orderPayload(order));
         orderRepository.delete(order);
     }
 
     //자동 호출
     @Transactional
-    public void autoUpdate() {
+    public int autoUpdate() {
         log.info("Service/ 배송중상태의 주문들 모두 배송완료 상태로 변경");
         List<Order> orders = orderRepository.findByOrderStatus(SHIPPING);
         for (Order order : orders) {
             order.setOrderStatus(SHIPPED);
             //orderRepository.save(order);
+            domainEventPublisher.publish(DomainEventType.ORDER_STATUS_CHANGED, order.getOrderId(), statusPayload(order));
 
         }
-
+        return orders.size();
 
     }
     //판매량 조회
+    @Transactional(readOnly = true)
     public int getSalesRate(long productId) {
         log.info("Service/ 상품별 주문내역 조회 시작");
-        List<OrderProduct>  orderProductList = orderProductRepository.findByProductProductId(productId);
-        log.info("Service/ 주문상품들의 총 가격계산 시작");
-        int totalQuantity = 0;
-        for(OrderProduct orderProduct : orderProductList) {
-            totalQuantity += orderProduct.getQuantity();
+        return (int) orderProductRepository.sumQuantityByProductId(productId);
+    }
+
+    // 주문 생성 / 취소 이벤트 : 주문자와 상품별 수량 / 가격
+    private Map<String, Object> orderPayload(Order order) {
+        List<Map<String, Object>> items = new ArrayList<>();
+        for (OrderProduct orderProduct : order.getOrderProducts()) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("productId", orderProduct.getProduct().getProductId());
+            item.put("quantity", orderProduct.getQuantity());
+            item.put("price", orderProduct.getPrice());
+            items.add(item);
         }
-        return totalQuantity;
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("orderId", order.getOrderId());
+        payload.put("userId", order.getUser().getUserId());
+        payload.put("orderTotalPrice", order.getOrderTotalPrice());
+        payload.put("items", items);
+        return payload;
+    }
+
+    private Map<String, Object> statusPayload(Order order) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("orderId", order.getOrderId());
+        payload.put("orderStatus", order.getOrderStatus());
+        return payload;
     }
 
 
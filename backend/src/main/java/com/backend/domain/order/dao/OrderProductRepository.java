@@ -2,6 +2,7 @@ package com.backend.domain.order.dao;
 
 import com.backend.domain.order.domain.OrderProduct;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -9,7 +10,9 @@ import java.util.List;
 import java.util.Optional;
 
 public interface OrderProductRepository extends JpaRepository<OrderProduct, Long>  {
-    List<OrderProduct> findByProductProductId(long productId);
+    // 상품별 판매량 (주문 상품 엔티티를 불러오지 않고 DB 에서 합계)
+    @Query("select coalesce(sum(op.quantity), 0) from OrderProduct op where op.product.productId = :productId")
+    long sumQuantityByProductId(@Param("productId") long productId);
 
 
     @Query("select op from OrderProduct op " +
@@ -21,4 +24,15 @@ public interface OrderProductRepository extends JpaRepository<OrderProduct, Long
             "where op.order.user.userId = :userId AND op.product.productId= :productId"
     )
     Optional<OrderProduct>  findByOrderProduct(@Param("userId") Long userId, @Param("productId") Long productId);
+
+    // 관리자 export : 주문 chunk 의 주문상품을 상품과 함께 한 번에 조회
+    @Query("select op from OrderProduct op join fetch op.product " +
+            "where op.order.orderId in :orderIds order by op.orderProductId")
+    List<OrderProduct> findWithProductByOrderIds(@Param("orderIds") List<Long> orderIds);
+
+    // 게스트 정리 : 게스트 주문의 주문상품 + 게스트가 등록한 상품의 주문상품
+    @Modifying
+    @Query("delete from OrderProduct op where op.order.orderId in (select o.orderId from Order o where o.user.userId in :userIds) " +
+            "or op.product.productId in (select p.productId from Product p where p.user.userId in :userIds)")
+    int deleteByUserIds(@Param("userIds") List<Long> userIds);
 }
@@ -5,13 +5,21 @@ import com.backend.domain.order.domain.OrderStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import javax.persistence.QueryHint;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
 
 public interface OrderRepository extends JpaRepository<Order, Long> {
 
+    @QueryHints(@QueryHint(name = HINT_READONLY, value = "true"))
     @Query("select o from Order o " +
             "where o.user.userId = :userId " +
             "order by o.createdAt desc"
@@ -40,4 +48,14 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
 
 
     Page<Order> findAll(Pageable pageable);
+
+    // 관리자 export 용 커서 조회 (트랜잭션 안에서만 사용)
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "1000"), @QueryHint(name = HINT_READONLY, value = "true")})
+    @Query("select o from Order o order by o.orderId")
+    Stream<Order> streamAll();
+
+    // 게스트 정리 : 게스트 주문 (주문상품을 먼저 삭제)
+    @Modifying
+    @Query("delete from Order o where o.user.userId in :userIds")
+    int deleteByUserIds(@Param("userIds") List<Long> userIds);
 }
@@ -4,9 +4,11 @@ import com.backend.domain.order.dto.CartOrderDto;
 import com.backend.domain.order.dto.OrderDto;
 import com.backend.domain.user.domain.User;
 import com.backend.global.audit.Auditable;
+import com.backend.global.jpa.PooledIdGenerator;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.GenericGenerator;
 
 import javax.persistence.*;
 import java.time.LocalDateTime;
@@ -16,12 +18,16 @@ import java.util.List;
 @Setter
 @Entity
 @Getter
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_user_id_created_at", columnList = "user_id, created_at"), // 유저별 주문 내역 (최신순)
+        @Index(name = "idx_orders_order_status", columnList = "orderStatus") // 자동 배송 상태 변경
+})
 @NoArgsConstructor
 public class Order extends Auditable {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = PooledIdGenerator.NAME)
+    @GenericGenerator(name = PooledIdGenerator.NAME, strategy = PooledIdGenerator.STRATEGY)
     private Long orderId;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -2,9 +2,11 @@ package com.backend.domain.order.domain;
 
 import com.backend.domain.product.domain.Product;
 import com.backend.global.audit.Auditable;
+import com.backend.global.jpa.PooledIdGenerator;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.GenericGenerator;
 
 import javax.persistence.*;
 
@@ -12,9 +14,13 @@ import javax.persistence.*;
 @Getter @Setter
 @NoArgsConstructor
 
+@Table(indexes = {
+        @Index(name = "idx_order_product_product_id_order_id", columnList = "product_id, order_id") // 리뷰 작성 가능 여부 (유저 + 상품)
+})
 public class OrderProduct extends Auditable {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = PooledIdGenerator.NAME)
+    @GenericGenerator(name = PooledIdGenerator.NAME, strategy = PooledIdGenerator.STRATEGY)
     private Long orderProductId;
 
     //1
@@ -38,15 +44,11 @@ public class OrderProduct extends Auditable {
         orderProduct.setPrice(product.getPrice());
         orderProduct.setReviewStatus(OrderProductReviewStatus.WRITING);
 
-       // product.removeStock(quantity);
+        // 재고 차감은 주문 단위로 StockService.reserve 에서 처리
         return orderProduct;
     }
 
     public int getTotalPrice(){
         return price*quantity;
     }
-
-    public void cancel() {
-        //this.getProduct().addStock(quantity);//todo:재고추가로직만들기
-    }
     }
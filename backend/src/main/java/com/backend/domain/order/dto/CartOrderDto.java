@@ -3,6 +3,7 @@ package com.backend.domain.order.dto;
 import lombok.Getter;
 import lombok.Setter;
 
+import javax.validation.Valid;
 import java.util.List;
 
 @Getter
@@ -15,6 +16,7 @@ public class CartOrderDto {
     private String receiverZipcode;
     private String receiverPhone;
 
+    @Valid
     private List<CartOrderProductDto> cartOrderProductDtoList;
 
 }
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.backend.domain.order.dto;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 한정 판매 대기열 상태
+ * ADMITTED : 주문 가능 (같은 주문 요청을 다시 보냄), WAITING : 대기 중 (position 번째), SOLD_OUT : 품절
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class FlashSaleTicket {
+
+    public static final FlashSaleTicket ADMITTED = new FlashSaleTicket(Status.ADMITTED, 0);
+    public static final FlashSaleTicket SOLD_OUT = new FlashSaleTicket(Status.SOLD_OUT, 0);
+
+    private final Status status;
+    private final long position;
+
+    public static FlashSaleTicket waiting(long position) {
+        return new FlashSaleTicket(Status.WAITING, position);
+    }
+
+    public boolean isAdmitted() {
+        return status == Status.ADMITTED;
+    }
+
+    public enum Status {
+        ADMITTED, WAITING, SOLD_OUT
+    }
+}
@@ -48,16 +48,24 @@ public class OrderHistoryDto {
     }
 
 
+    public static OrderHistoryDto of(Order order) {
+        return of(order, order.getOrderProducts());
+    }
+
+    // 주문상품을 따로 조회한 경우 (export chunk)
+    public static OrderHistoryDto of(Order order, List<OrderProduct> orderProducts) {
+        OrderHistoryDto orderHistoryDto = new OrderHistoryDto(order);
+        for (OrderProduct orderProduct : orderProducts) {
+            OrderProductDto orderProductDto = new OrderProductDto(orderProduct);
+            orderHistoryDto.addOrderProductDto(orderProductDto);
+        }
+        return orderHistoryDto;
+    }
+
     public static List<OrderHistoryDto> from(List<Order> orders) {
         List<OrderHistoryDto> orderHistoryDtos = new ArrayList<>();
         for (Order order : orders) {
-            OrderHistoryDto orderHistoryDto = new OrderHistoryDto(order);
-            List<OrderProduct> orderProducts = order.getOrderProducts();
-            for (OrderProduct orderProduct : orderProducts) {
-                OrderProductDto orderProductDto = new OrderProductDto(orderProduct);
-                orderHistoryDto.addOrderProductDto(orderProductDto);
-            }
-            orderHistoryDtos.add(orderHistoryDto);
+            orderHistoryDtos.add(of(order));
         }
         return orderHistoryDtos;
     }
@@ -1,13 +1,10 @@
 package com.backend.domain.payment.api;
 
+import com.backend.domain.payment.application.PaymentService;
 import com.backend.domain.payment.domain.Payment;
+import com.backend.domain.payment.dto.PaymentConfirmation;
 import com.backend.domain.payment.dto.PaymentRequest;
 import com.backend.domain.payment.mapper.PaymentMapper;
-import com.backend.domain.point.application.PointService;
-import com.backend.domain.point.domain.PointType;
-import com.backend.domain.user.dao.UserRepository;
-import com.backend.domain.user.domain.User;
-import com.backend.domain.user.exception.MemberNotFound;
 import com.backend.global.annotation.CurrentUser;
 import com.backend.global.config.auth.userdetails.CustomUserDetails;
 import lombok.RequiredArgsConstructor;
@@ -20,19 +17,18 @@ import org.springframework.web.bind.annotation.RestController;
 @RestController
 @RequiredArgsConstructor
 public class PaymentController {
-    private final UserRepository userRepository;
-//    private final PaymentService paymentService;
+    private final PaymentService paymentService;
     private final PaymentMapper paymentMapper;
-    private final PointService pointService;
 
+    // 같은 paymentKey 로 다시 요청해도 포인트는 한 번만 충전됨 (재요청은 처음 승인 결과로 200)
     @PostMapping("/payment/success")
-    public ResponseEntity charge(@CurrentUser CustomUserDetails authUser, @RequestBody PaymentRequest paymentRequest) throws Exception {
-        Long userId =authUser.getUser().getUserId();
-        User user = userRepository.findById(userId).orElseThrow(MemberNotFound::new);
+    public ResponseEntity charge(@CurrentUser CustomUserDetails authUser, @RequestBody PaymentRequest paymentRequest) {
+        Long userId =authUser.getUserId();
         Payment payment = paymentMapper.paymentRequestToPayment(paymentRequest);
-        int price = payment.getAmount();
-        Long newRestCash = pointService.addCash(user, price, PointType.AddPoint);
-//        JsonNode jsonNode = paymentService.create(payment);
+        PaymentConfirmation confirmation = paymentService.confirm(userId, payment);
+        if (!confirmation.isSuccess()) {
+            return new ResponseEntity<>(confirmation.getBody(), HttpStatus.BAD_REQUEST);
+        }
 
         return new ResponseEntity(HttpStatus.OK);
     }
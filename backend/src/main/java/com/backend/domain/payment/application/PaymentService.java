@@ -2,59 +2,149 @@ package com.backend.domain.payment.application;
 
 import com.backend.domain.payment.dao.PaymentRepository;
 import com.backend.domain.payment.domain.Payment;
+import com.backend.domain.payment.dto.PaymentConfirmation;
+import com.backend.domain.payment.dto.TossPaymentResult;
+import com.backend.domain.point.application.PointService;
+import com.backend.domain.point.domain.PointType;
+import com.backend.domain.user.dao.UserRepository;
+import com.backend.domain.user.domain.User;
+import com.backend.domain.user.exception.MemberNotFound;
+import com.backend.global.error.BusinessLogicException;
+import com.backend.global.error.ExceptionCode;
+import com.backend.global.utils.SingleFlight;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import org.springframework.http.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.ResourceAccessException;
 
-import java.util.Base64;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Optional;
 
+/**
+ * 결제 승인 (paymentKey 기준 멱등)
+ * 1. 이미 저장된 paymentKey 면 저장해 둔 승인 응답을 그대로 반환 (토스 재호출, 포인트 재지급 없음)
+ * 2. 같은 paymentKey 로 동시에 들어온 요청은 SingleFlight 로 묶어서 토스는 한 번만 호출
+ * 3. 다른 서버가 먼저 저장한 경우는 unique index(uk_payment_payment_key) 위반으로 감지해서 1 과 같이 처리
+ * 4. 같은 orderId 가 다른 paymentKey 로 이미 저장된 경우(uk_payment_order_id 위반)는 PAYMENT_ORDER_ID_DUPLICATION
+ */
+@Slf4j
 @Service
+@RequiredArgsConstructor
 public class PaymentService {
     private final PaymentRepository paymentRepository;
+    private final TossPaymentClient tossPaymentClient;
+    private final UserRepository userRepository;
+    private final PointService pointService;
+    private final TransactionTemplate transactionTemplate;
 
-    public PaymentService(PaymentRepository paymentRepository) {
-        this.paymentRepository = paymentRepository;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SingleFlight<String, PaymentConfirmation> inFlight = new SingleFlight<>();
+
+    /**
+     * 결제 승인 후 저장 + 포인트 충전
+     * 토스 호출은 트랜잭션 밖에서 하고, 승인된 경우에만 저장과 충전을 짧은 트랜잭션 하나로 처리 (DB 연결을 외부 호출 동안 잡지 않음)
+     *
+     * @param userId  충전할 유저
+     * @param payment 결제 정보 (paymentKey, orderId, amount)
+     */
+    public PaymentConfirmation confirm(Long userId, Payment payment) {
+        return inFlight.execute(payment.getPaymentKey(), () -> confirmOnce(userId, payment), PaymentConfirmation::asReplayed);
     }
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    private PaymentConfirmation confirmOnce(Long userId, Payment payment) {
+        Optional<PaymentConfirmation> saved = findConfirmed(payment.getPaymentKey());
+        if (saved.isPresent()) {
+            log.info("이미 승인된 결제 : {}", payment.getPaymentKey());
+            return saved.get();
+        }
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
+        TossPaymentResult result = requestConfirm(payment);
+        if (!result.isSuccess()) {
+            return PaymentConfirmation.failed(result.getBody());
+        }
+
+        JsonNode successNode = result.getBody();
+        payment.setSecret(successNode.path("secret").asText(null));// 가상계좌의 경우 입금 callback 검증을 위해서 secret을 저장하기를 권장함
+        payment.setConfirmResponse(successNode.toString());
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                paymentRepository.saveAndFlush(payment);
+                User user = userRepository.findById(userId).orElseThrow(MemberNotFound::new);
+                pointService.addCash(user, payment.getAmount(), PointType.AddPoint);
+            });
+        } catch (DataIntegrityViolationException e) {
+            Optional<PaymentConfirmation> confirmed = findConfirmed(payment.getPaymentKey());
+            if (confirmed.isPresent()) {
+                log.info("다른 요청이 먼저 저장한 결제 : {}", payment.getPaymentKey());
+                return confirmed.get();
+            }
+            if (paymentRepository.existsByOrderId(payment.getOrderId())) {
+                log.warn("다른 paymentKey 로 이미 저장된 orderId : orderId={}, paymentKey={}", payment.getOrderId(), payment.getPaymentKey());
+                throw new BusinessLogicException(ExceptionCode.PAYMENT_ORDER_ID_DUPLICATION);
+            }
+            throw e;
+        }
+        return PaymentConfirmation.confirmed(successNode);
+    }
 
-    private final String SECRET_KEY = "test_ak_mnRQoOaPz8LwjZD1Oljry47BMw6v";
-
-    @Transactional
-    public JsonNode create(Payment payment) throws Exception {
-        HttpHeaders headers = new HttpHeaders();
-
-//        headers.setBasicAuth(SECRET_KEY, ""); 이거 풀면 결제됨
-        headers.set("Authorization", "Basic " + Base64.getEncoder().encodeToString((SECRET_KEY + ":").getBytes()));
-        headers.setContentType(MediaType.APPLICATION_JSON);
-
-        Map<String, String> payloadMap = new HashMap<>();
-        payloadMap.put("orderId", payment.getOrderId());
-        payloadMap.put("amount", String.valueOf(payment.getAmount()));
-
-        HttpEntity<String> request = new HttpEntity<>(objectMapper.writeValueAsString(payloadMap), headers);
-
-        ResponseEntity<JsonNode> responseEntity = restTemplate.postForEntity(
-                "https://api.tosspayments.com/v1/payments/" + payment.getPaymentKey(), request, JsonNode.class);
-        if (responseEntity.getStatusCode() == HttpStatus.OK) {
-            JsonNode successNode = responseEntity.getBody();
-            String secret = successNode.get("secret").asText();
-            payment.setSecret(secret);// 가상계좌의 경우 입금 callback 검증을 위해서 secret을 저장하기를 권장함
-            paymentRepository.save(payment);
-            return successNode;
-        } else {
-            JsonNode failNode = responseEntity.getBody();
-            return failNode;
+    /**
+     * 승인 요청의 응답을 받지 못한 경우(timeout / 연결 끊김)는 승인 여부를 알 수 없으므로 결제 조회로 확인
+     * 조회 결과는 금액 검증을 거치지 않은 값이라 orderId / totalAmount 가 요청과 같을 때만 승인으로 본다 (충전 포인트 = 요청 금액)
+     */
+    private TossPaymentResult requestConfirm(Payment payment) {
+        try {
+            return tossPaymentClient.confirm(payment.getPaymentKey(), payment.getOrderId(), payment.getAmount());
+        } catch (ResourceAccessException | BusinessLogicException e) {
+            if (!isUnknownOutcome(e)) {
+                throw e;
+            }
+            log.warn("결제 승인 응답 없음, 결제 조회로 확인 : {}", payment.getPaymentKey());
+            TossPaymentResult result = tossPaymentClient.getPayment(payment.getPaymentKey());
+            if (!result.isDone()) {
+                throw e;
+            }
+            if (!isSamePayment(result.getBody(), payment)) {
+                log.error("결제 조회 결과가 요청과 다름 : paymentKey={}, orderId={}, amount={}, 조회 orderId={}, totalAmount={}",
+                        payment.getPaymentKey(), payment.getOrderId(), payment.getAmount(),
+                        result.getBody().path("orderId").asText(), result.getBody().path("totalAmount").asText());
+                throw new BusinessLogicException(ExceptionCode.PAYMENT_AMOUNT_MISMATCH);
+            }
+            return result;
         }
+    }
+
+    // 트랜잭션 없이 unique index 로 한 건 조회
+    private Optional<PaymentConfirmation> findConfirmed(String paymentKey) {
+        return paymentRepository.findByPaymentKey(paymentKey)
+                .map(payment -> PaymentConfirmation.replayed(readResponse(payment.getConfirmResponse())));
+    }
 
+    private JsonNode readResponse(String confirmResponse) {
+        if (confirmResponse == null) {
+            return objectMapper.createObjectNode();
+        }
+        try {
+            return objectMapper.readTree(confirmResponse);
+        } catch (JsonProcessingException e) {
+            throw new BusinessLogicException("저장된 결제 응답을 읽을 수 없습니다.", ExceptionCode.INTERNAL_SERVER_ERROR);
+        }
     }
 
+    private boolean isSamePayment(JsonNode body, Payment payment) {
+        return payment.getOrderId().equals(body.path("orderId").asText(null))
+                && body.path("totalAmount").canConvertToLong()
+                && body.path("totalAmount").asLong() == payment.getAmount();
+    }
 
+    // 요청은 보냈지만 응답을 받지 못한 경우만 (bulkhead / circuit 거절은 요청 자체를 보내지 않음)
+    private boolean isUnknownOutcome(RuntimeException e) {
+        if (e instanceof ResourceAccessException) {
+            return true;
+        }
+        return ((BusinessLogicException) e).getExceptionCode() == ExceptionCode.UPSTREAM_TIMEOUT;
+    }
 }
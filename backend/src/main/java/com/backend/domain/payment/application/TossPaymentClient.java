@@ -0,0 +1,204 @@
+package com.backend.domain.payment.application;
+
+import com.backend.domain.payment.dto.TossPaymentResult;
+import com.backend.global.bulkhead.Bulkhead;
+import com.backend.global.bulkhead.CircuitBreaker;
+import com.backend.global.error.BusinessLogicException;
+import com.backend.global.error.ExceptionCode;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토스 결제 API 클라이언트
+ * 1. 연결 풀 (keep-alive 재사용, 유휴 연결 정리) + connect / read / 풀 대기 timeout
+ * 2. paymentBulkhead 에서 실행 (동시 호출 / 대기 제한)
+ * 3. circuit breaker : 연결 실패, timeout, 5xx 가 연속되면 일정 시간 호출 차단 (4xx 는 정상 응답으로 봄, bulkhead 거절은 세지 않음)
+ * 4. 재시도는 멱등한 결제 조회(GET)만, 결제 승인(POST)은 재시도하지 않음
+ * payment.toss.base-url 만 바꾸면 로컬 stub 서버(loadtest 프로필의 TossPaymentStubController)로 테스트 가능
+ */
+@Slf4j
+@Component
+public class TossPaymentClient {
+
+    private final RestTemplate restTemplate;
+    private final CloseableHttpClient httpClient;
+    private final Bulkhead paymentBulkhead;
+    private final CircuitBreaker circuitBreaker;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final String baseUrl;
+    private final String authorization;
+    private final int maxAttempts;
+    private final long backoffMillis;
+
+    public TossPaymentClient(@Qualifier("paymentBulkhead") Bulkhead paymentBulkhead,
+                             MeterRegistry meterRegistry,
+                             @Value("${payment.toss.base-url}") String baseUrl,
+                             @Value("${payment.toss.secret-key}") String secretKey,
+                             @Value("${payment.toss.connect-timeout-millis:2000}") int connectTimeoutMillis,
+                             @Value("${payment.toss.read-timeout-millis:8000}") int readTimeoutMillis,
+                             @Value("${payment.toss.connection-request-timeout-millis:1000}") int connectionRequestTimeoutMillis,
+                             @Value("${payment.toss.max-connections:50}") int maxConnections,
+                             @Value("${payment.toss.keep-alive-millis:30000}") long keepAliveMillis,
+                             @Value("${payment.toss.retry.max-attempts:3}") int maxAttempts,
+                             @Value("${payment.toss.retry.backoff-millis:200}") long backoffMillis,
+                             @Value("${payment.toss.circuit-breaker.failure-threshold:5}") int failureThreshold,
+                             @Value("${payment.toss.circuit-breaker.open-millis:30000}") long openMillis) {
+        this.paymentBulkhead = paymentBulkhead;
+        this.meterRegistry = meterRegistry;
+        this.baseUrl = baseUrl;
+        this.authorization = "Basic " + Base64.getEncoder().encodeToString((secretKey + ":").getBytes(StandardCharsets.UTF_8));
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoffMillis;
+
+        // 외부 호스트 하나만 호출하므로 route 당 최대 연결 수 = 전체 최대 연결 수
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(maxConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnections);
+        connectionManager.setValidateAfterInactivity(2000);
+
+        httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectTimeout(connectTimeoutMillis)
+                        .setSocketTimeout(readTimeoutMillis)
+                        .setConnectionRequestTimeout(connectionRequestTimeoutMillis)
+                        .build())
+                .setKeepAliveStrategy((response, context) -> keepAliveMillis)
+                .evictIdleConnections(keepAliveMillis, TimeUnit.MILLISECONDS)
+                .evictExpiredConnections()
+                .disableAutomaticRetries() // 재시도는 조회에만 직접 적용
+                .build();
+        restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+
+        circuitBreaker = new CircuitBreaker("payment", failureThreshold, openMillis,
+                TossPaymentClient::isUpstreamFailure, meterRegistry);
+    }
+
+    /**
+     * 결제 승인 (재시도하지 않음)
+     */
+    public TossPaymentResult confirm(String paymentKey, String orderId, int amount) {
+        Map<String, String> payload = new HashMap<>();
+        payload.put("orderId", orderId);
+        payload.put("amount", String.valueOf(amount));
+
+        return execute("confirm", HttpMethod.POST, paymentKey, payload);
+    }
+
+    /**
+     * 결제 조회, 연결 실패 / timeout / 5xx 면 backoff 를 두고 maxAttempts 까지 재시도
+     */
+    public TossPaymentResult getPayment(String paymentKey) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return execute("get", HttpMethod.GET, paymentKey, null);
+            } catch (RuntimeException e) {
+                if (attempt >= maxAttempts || !isUpstreamFailure(e)) {
+                    throw e;
+                }
+                log.warn("토스 결제 조회 재시도 {}/{} : {}", attempt, maxAttempts, e.getMessage());
+                sleep(backoffMillis * attempt);
+            }
+        }
+    }
+
+    private TossPaymentResult execute(String operation, HttpMethod method, String paymentKey, Map<String, String> payload) {
+        try {
+            return circuitBreaker.call(() -> paymentBulkhead.call(() -> exchange(operation, method, paymentKey, payload)));
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new BusinessLogicException("토스 결제 API 호출 실패 : " + e.getMessage(), ExceptionCode.UPSTREAM_FAILED);
+        }
+    }
+
+    /**
+     * 4xx 는 TossPaymentResult 로 반환 (결제 실패 응답), 5xx / 연결 오류는 예외
+     * 응답 시간은 payment.toss.request 타이머에 operation, status 태그로 기록 (연결 실패는 IO_ERROR)
+     */
+    private TossPaymentResult exchange(String operation, HttpMethod method, String paymentKey, Map<String, String> payload)
+            throws IOException {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.AUTHORIZATION, authorization);
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        HttpEntity<String> request = new HttpEntity<>(payload == null ? null : objectMapper.writeValueAsString(payload), headers);
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String status = "IO_ERROR";
+        try {
+            ResponseEntity<JsonNode> response = restTemplate.exchange(baseUrl + paymentKey, method, request, JsonNode.class);
+            status = String.valueOf(response.getStatusCodeValue());
+            return new TossPaymentResult(response.getStatusCodeValue(), response.getBody());
+        } catch (HttpStatusCodeException e) {
+            status = String.valueOf(e.getRawStatusCode());
+            if (e.getStatusCode().is5xxServerError()) {
+                throw e;
+            }
+            return new TossPaymentResult(e.getRawStatusCode(), readBody(e));
+        } finally {
+            sample.stop(meterRegistry.timer("payment.toss.request", "operation", operation, "status", status));
+        }
+    }
+
+    private JsonNode readBody(HttpStatusCodeException e) throws IOException {
+        String body = e.getResponseBodyAsString();
+        return body.isEmpty() ? null : objectMapper.readTree(body);
+    }
+
+    // 연결 실패, timeout, 5xx, bulkhead timeout 은 토스 쪽 장애로 봄 (bulkhead 가 가득 찬 것은 제외)
+    private static boolean isUpstreamFailure(Throwable e) {
+        if (e instanceof ResourceAccessException) {
+            return true;
+        }
+        if (e instanceof HttpStatusCodeException) {
+            return ((HttpStatusCodeException) e).getStatusCode().is5xxServerError();
+        }
+        if (e instanceof BusinessLogicException) {
+            return ((BusinessLogicException) e).getExceptionCode() == ExceptionCode.UPSTREAM_TIMEOUT;
+        }
+        return false;
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessLogicException("토스 결제 조회 중단", ExceptionCode.UPSTREAM_FAILED);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        httpClient.close();
+    }
+}
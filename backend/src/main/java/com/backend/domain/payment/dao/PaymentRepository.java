@@ -3,5 +3,13 @@ package com.backend.domain.payment.dao;
 import com.backend.domain.payment.domain.Payment;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Optional;
+
 public interface PaymentRepository extends JpaRepository<Payment, Long> {
+
+    // uk_payment_payment_key 로 조회
+    Optional<Payment> findByPaymentKey(String paymentKey);
+
+    // uk_payment_order_id 로 조회
+    boolean existsByOrderId(String orderId);
 }
@@ -1,20 +1,30 @@
 package com.backend.domain.payment.domain;
 
-
+import com.backend.global.jpa.PooledIdGenerator;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
 
+import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
-import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Lob;
+import javax.persistence.Table;
 
 @Entity
 @Getter
 @NoArgsConstructor
+@Table(indexes = {
+        // 같은 결제 승인이 두 번 저장되지 않도록 (재시도 / 동시 요청)
+        @Index(name = "uk_payment_payment_key", columnList = "paymentKey", unique = true),
+        @Index(name = "uk_payment_order_id", columnList = "orderId", unique = true)
+})
 public class Payment {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id @GeneratedValue(generator = PooledIdGenerator.NAME)
+    @GenericGenerator(name = PooledIdGenerator.NAME, strategy = PooledIdGenerator.STRATEGY)
     private Long paymentId;
 
     private String paymentKey;
@@ -25,6 +35,11 @@ public class Payment {
 
     private String secret;
 
+    // 토스 결제 승인 응답 (같은 paymentKey 로 다시 요청하면 이 응답을 그대로 돌려줌)
+    @Lob
+    @Column(name = "confirm_response")
+    private String confirmResponse;
+
     public void setPaymentId(Long paymentId) {
         this.paymentId = paymentId;
     }
@@ -44,4 +59,8 @@ public class Payment {
     public void setSecret(String secret) {
         this.secret = secret;
     }
+
+    public void setConfirmResponse(String confirmResponse) {
+        this.confirmResponse = confirmResponse;
+    }
 }
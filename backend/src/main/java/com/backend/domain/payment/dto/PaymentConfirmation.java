@@ -0,0 +1,38 @@
+package com.backend.domain.payment.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 결제 승인 결과
+ * replayed : 이미 처리된 paymentKey 라서 저장해 둔 응답을 돌려준 경우 (포인트 중복 지급 없음)
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class PaymentConfirmation {
+
+    private final boolean success;
+    private final boolean replayed;
+    private final JsonNode body;
+
+    public static PaymentConfirmation confirmed(JsonNode body) {
+        return new PaymentConfirmation(true, false, body);
+    }
+
+    public static PaymentConfirmation replayed(JsonNode body) {
+        return new PaymentConfirmation(true, true, body);
+    }
+
+    public static PaymentConfirmation failed(JsonNode body) {
+        return new PaymentConfirmation(false, false, body);
+    }
+
+    /**
+     * 같은 paymentKey 로 동시에 들어와 먼저 온 요청의 결과를 함께 받은 요청용
+     */
+    public PaymentConfirmation asReplayed() {
+        return success ? new PaymentConfirmation(true, true, body) : this;
+    }
+}
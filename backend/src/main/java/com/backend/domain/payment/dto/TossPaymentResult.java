@@ -0,0 +1,27 @@
+package com.backend.domain.payment.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 토스 결제 API 응답 (HTTP status + 응답 본문)
+ */
+@Getter
+@RequiredArgsConstructor
+public class TossPaymentResult {
+
+    private final int status;
+    private final JsonNode body;
+
+    public boolean isSuccess() {
+        return status == 200;
+    }
+
+    /**
+     * @return 결제 승인이 끝난 상태 (조회 API 응답의 status 가 DONE)
+     */
+    public boolean isDone() {
+        return isSuccess() && body != null && "DONE".equals(body.path("status").asText());
+    }
+}
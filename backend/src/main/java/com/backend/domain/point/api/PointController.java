@@ -4,6 +4,7 @@ import com.backend.domain.order.dao.OrderProductRepository;
 import com.backend.domain.order.dao.OrderRepository;
 import com.backend.domain.order.domain.Order;
 import com.backend.domain.point.application.PointService;
+import com.backend.domain.point.dao.PointHistoryRepository;
 import com.backend.domain.point.domain.PointType;
 import com.backend.domain.point.dto.PointChargeDto;
 import com.backend.domain.point.dto.PointResponseDto;
@@ -14,14 +15,18 @@ import com.backend.domain.user.exception.MemberNotFound;
 import com.backend.global.annotation.CurrentUser;
 import com.backend.global.config.auth.userdetails.CustomUserDetails;
 import com.backend.global.dto.Response.MultiResponse;
+import com.backend.global.export.ExportFormat;
+import com.backend.global.export.StreamingExporter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.persistence.EntityNotFoundException;
 import javax.validation.constraints.Positive;
@@ -38,10 +43,12 @@ public class PointController {
     private final PointService pointService;
     private final PointMapper mapper;
     private final OrderRepository orderRepository;
+    private final PointHistoryRepository pointHistoryRepository;
+    private final StreamingExporter streamingExporter;
 
     @PostMapping
     public ResponseEntity<Long> charge(@CurrentUser CustomUserDetails authUser, @RequestBody PointChargeDto pointChargeDto) {
-        Long userId = authUser.getUser().getUserId();
+        Long userId = authUser.getUserId();
         User user = userRepository.findById(userId).orElseThrow(MemberNotFound::new);
         int price = pointChargeDto.getPrice();
         PointType pointType = pointChargeDto.getPointType();
@@ -51,7 +58,7 @@ public class PointController {
 
     @GetMapping
     public ResponseEntity find(@CurrentUser CustomUserDetails authUser) {
-        User user = userRepository.findById(authUser.getUser().getUserId()).orElseThrow(MemberNotFound::new);
+        User user = userRepository.findById(authUser.getUserId()).orElseThrow(MemberNotFound::new);
         Long restCash = pointService.getRestCash(user);
 
         return new ResponseEntity<>(restCash, HttpStatus.OK);
@@ -60,7 +67,7 @@ public class PointController {
     @PostMapping("/{order-id}")
     public ResponseEntity pay(@CurrentUser CustomUserDetails authUser, @PathVariable("order-id") @Positive long orderId) {
         Order order = orderRepository.findById(orderId).orElseThrow(EntityNotFoundException::new);
-        pointService.pay(order, authUser.getUser().getUserId());
+        pointService.pay(order, authUser.getUserId());
 
         return new ResponseEntity<>(HttpStatus.OK);
     }
@@ -69,12 +76,20 @@ public class PointController {
     public ResponseEntity<MultiResponse> getList(@RequestParam int page, @CurrentUser CustomUserDetails authUser) {
         Pageable pageable = PageRequest.of(page - 1, 15);
         log.info("controller/ 유저별 포인트내역 조회 시작");
-        Page<PointResponseDto> pointResponseDtoList = pointService.getPointList(authUser.getUser().getUserId(), pageable);
+        Page<PointResponseDto> pointResponseDtoList = pointService.getPointList(authUser.getUserId(), pageable);
         List<PointResponseDto> content = pointResponseDtoList.getContent();
 
 
         return new ResponseEntity<>(new MultiResponse<>(content, pointResponseDtoList), HttpStatus.OK);
     }
 
+    // 관리자 전용 전체 포인트 내역 export (format : json / ndjson)
+    @GetMapping("/history/export")
+    public ResponseEntity<StreamingResponseBody> exportAll(@RequestParam(defaultValue = "ndjson") String format,
+                                                           @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        log.info("controller/ 모든 포인트내역 export 시작");
+        return streamingExporter.export("point-history", ExportFormat.from(format), acceptEncoding, pointHistoryRepository::streamAll, PointResponseDto::new);
+    }
+
 
 }
@@ -80,8 +80,9 @@ public class PointService {
         addCash(user, payPrice * -1, PointType.PayPoint);
     }
 
+    @Transactional(readOnly = true)
     public Page<PointResponseDto> getPointList(Long userId, Pageable pageable) {
-        log.info("Service/ userId : " + userId + "포인트내역 조회 시작");
+        log.info("Service/ userId : {} 포인트내역 조회 시작", userId);
         List<PointHistory> pointHistoryList = pointHistoryRepository.findPointHistoryList(userId, pageable);
 
         List<PointResponseDto> pointResponseDtoList = new ArrayList<>();
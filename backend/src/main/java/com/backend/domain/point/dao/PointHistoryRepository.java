@@ -4,10 +4,17 @@ import com.backend.domain.point.domain.PointHistory;
 import com.backend.domain.user.domain.User;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import javax.persistence.QueryHint;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
 
 public interface PointHistoryRepository extends JpaRepository<PointHistory, Long> {
     @Query("select p from PointHistory p where p.user.userId = :userId")
@@ -15,6 +22,7 @@ public interface PointHistoryRepository extends JpaRepository<PointHistory, Long
 
     void deleteByUser(User user);
 
+    @QueryHints(@QueryHint(name = HINT_READONLY, value = "true"))
     @Query("select p from PointHistory p " +
             "where p.user.userId = :userId " +
             "order by p.createdAt desc"
@@ -27,5 +35,13 @@ public interface PointHistoryRepository extends JpaRepository<PointHistory, Long
     )
     Long countPoint(@Param("userId") Long userId);
 
-    void deleteByUser_UserRoleOrUser_UserRole(String guestUserRole, String guestAdminRole);
+    // 게스트 정리
+    @Modifying
+    @Query("delete from PointHistory p where p.user.userId in :userIds")
+    int deleteByUserIds(@Param("userIds") List<Long> userIds);
+
+    // 관리자 export 용 커서 조회 (트랜잭션 안에서만 사용)
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "1000"), @QueryHint(name = HINT_READONLY, value = "true")})
+    @Query("select p from PointHistory p order by p.pointHistoryId")
+    Stream<PointHistory> streamAll();
 }
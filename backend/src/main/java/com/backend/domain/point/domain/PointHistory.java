@@ -1,12 +1,14 @@
 package com.backend.domain.point.domain;
 
 import com.backend.domain.user.domain.User;
+import com.backend.global.jpa.PooledIdGenerator;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.SuperBuilder;
 import org.hibernate.annotations.DynamicInsert;
+import org.hibernate.annotations.GenericGenerator;
 import org.springframework.data.annotation.CreatedDate;
 
 import javax.persistence.*;
@@ -19,10 +21,14 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @NoArgsConstructor
 @DynamicInsert
+@Table(indexes = {
+        @Index(name = "idx_point_history_user_id_created_at", columnList = "user_id, createdAt") // 유저별 포인트 내역 (최신순)
+})
 public class PointHistory  {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = PooledIdGenerator.NAME)
+    @GenericGenerator(name = PooledIdGenerator.NAME, strategy = PooledIdGenerator.STRATEGY)
     private Long pointHistoryId;
 
     @OneToOne
@@ -35,7 +35,7 @@ public class ProductController {
                                  @RequestParam("tag") String tag,
                                  TitleImg titleImg, DetailImg detailImg) {
         log.info("post 맵핑 실행 ");
-        Long userId = authUser.getUser().getUserId();
+        Long userId = authUser.getUserId();
         log.info("user 조회 완료 ");
         Product response = productService.create(userId, price, productName, titleImg, detailImg, tag, categoryId);
 
@@ -55,6 +55,15 @@ public class ProductController {
         return new ResponseEntity(new SingleResponseDto<>(productResponseDto), HttpStatus.OK);
     }
 
+    // 재고 수정 (stock 을 보내지 않으면 재고 관리 안 함)
+    @PatchMapping("/products/stock/{productsId}")
+    public ResponseEntity updateStock(@PathVariable Long productsId, @CurrentUser CustomUserDetails authUser,
+                                      @RequestParam(value = "stock", required = false) Integer stock) {
+        log.info(" 재고 수정 실행 ");
+        Product response = productService.updateStock(productsId, stock, authUser.getUser());
+        return new ResponseEntity(new SingleResponseDto<>(productMapper.productToProductResponseDto(response)), HttpStatus.OK);
+    }
+
     @DeleteMapping("/products/{productsId}")
     public ResponseEntity<Long> delete(@PathVariable Long productsId, @CurrentUser CustomUserDetails authUser) {
         log.info("삭제 맵핑 실행");
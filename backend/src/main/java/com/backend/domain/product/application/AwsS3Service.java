@@ -7,6 +7,11 @@ import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
 import com.backend.domain.product.exception.NoImage;
 import com.backend.domain.product.exception.UploadFailed;
+import com.backend.global.bulkhead.Bulkhead;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.BaseUnits;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
@@ -31,6 +36,8 @@ import java.util.UUID;
 @Service
 public class AwsS3Service implements ImageUploadService{
     private final AmazonS3 amazonS3;
+    private final MeterRegistry meterRegistry;
+    private final Bulkhead s3Bulkhead;
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucketName;
@@ -41,15 +48,15 @@ public class AwsS3Service implements ImageUploadService{
         String fileName = createFileName(img.getOriginalFilename());
         String fileFormatName = img.getContentType().substring(img.getContentType().lastIndexOf("/") + 1);
 
-        MultipartFile resizedFile = resizeImage(fileName, fileFormatName, img, 500);
+        MultipartFile resizedFile = meterRegistry.timer("s3.image.resize")
+                .record(() -> resizeImage(fileName, fileFormatName, img, 500));
 
         ObjectMetadata objectMetadata = new ObjectMetadata();
         objectMetadata.setContentType(img.getContentType());
         objectMetadata.setContentLength(resizedFile.getSize());
 
         try (InputStream inputStream = resizedFile.getInputStream()) {
-            amazonS3.putObject(new PutObjectRequest(bucketName, fileName, inputStream, objectMetadata)
-                    .withCannedAcl(CannedAccessControlList.PublicRead));
+            putObject("store", fileName, inputStream, objectMetadata, resizedFile.getSize());
         } catch (IOException e) {
             throw new UploadFailed();
 
@@ -68,8 +75,7 @@ public class AwsS3Service implements ImageUploadService{
         objectMetadata.setContentType(img.getContentType());
 
         try (InputStream inputStream = img.getInputStream()) {
-            amazonS3.putObject(new PutObjectRequest(bucketName, fileName, inputStream, objectMetadata)
-                    .withCannedAcl(CannedAccessControlList.PublicRead));
+            putObject("detail", fileName, inputStream, objectMetadata, img.getSize());
         } catch (IOException e) {
             throw new UploadFailed();
 
@@ -78,6 +84,28 @@ public class AwsS3Service implements ImageUploadService{
         return amazonS3.getUrl(bucketName,fileName).toString();
     }
 
+    /**
+     * S3 전용 bulkhead 에서 업로드 후 업로드 지연(s3.upload)과 크기(s3.upload.size)를 기록
+     *
+     * @param type 업로드 종류 태그 (store / detail)
+     */
+    private void putObject(String type, String fileName, InputStream inputStream, ObjectMetadata objectMetadata, long size) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failure";
+        try {
+            s3Bulkhead.call(() -> amazonS3.putObject(new PutObjectRequest(bucketName, fileName, inputStream, objectMetadata)
+                    .withCannedAcl(CannedAccessControlList.PublicRead)));
+            outcome = "success";
+        } finally {
+            sample.stop(meterRegistry.timer("s3.upload", "type", type, "outcome", outcome));
+        }
+        DistributionSummary.builder("s3.upload.size")
+                .baseUnit(BaseUnits.BYTES)
+                .tag("type", type)
+                .register(meterRegistry)
+                .record(size);
+    }
+
     private String createFileName(String filename) {
         return UUID.randomUUID().toString().concat(getFileExtension(filename));
     }
@@ -123,7 +151,10 @@ public class AwsS3Service implements ImageUploadService{
         String splitStr = ".com/";
         String fileName = fileUrl.substring(fileUrl.lastIndexOf(splitStr) + splitStr.length());
 
-        amazonS3.deleteObject(new DeleteObjectRequest(bucketName, fileName));
+        s3Bulkhead.call(() -> {
+            amazonS3.deleteObject(new DeleteObjectRequest(bucketName, fileName));
+            return null;
+        });
     }
 
 
@@ -10,7 +10,6 @@ import com.backend.domain.product.dto.TitleImg;
 import com.backend.domain.product.exception.ProductExist;
 import com.backend.domain.product.exception.ProductNotFound;
 import com.backend.domain.review.dao.ReviewRepository;
-import com.backend.domain.review.domain.Review;
 import com.backend.domain.user.dao.UserRepository;
 import com.backend.domain.user.domain.User;
 import com.backend.domain.user.exception.MemberNotFound;
@@ -113,6 +112,22 @@ public class ProductService {
         return productRepository.save(findProduct);
     }
 
+    // 재고 설정 (stock 이 null 이면 재고 관리 안 함)
+    @Transactional
+    public Product updateStock(Long productId, Integer stock, User user) {
+        Product findProduct = productRepository.findById(productId).orElseThrow(ProductNotFound::new);
+
+        checkAccess(productId, user, findProduct);
+
+        if (stock != null && stock < 0) {
+            throw new BusinessLogicException(ExceptionCode.INVALID_INPUT_VALUE);
+        }
+        log.info(" 재고 수정 : {} ", stock);
+        productRepository.updateStock(productId, stock);
+        findProduct.setStock(stock);
+        return findProduct;
+    }
+
     private static void checkAccess(Long productId, User user, Product findProduct) {
         if (user.getEmail().equals("admin@luxmeal.xyz") && user.getUserRole().equals("ROLE_ADMIN")) {
             return;
@@ -134,7 +149,7 @@ public class ProductService {
         return productId;
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public Page<Product> getLists(int page, int size, int filter) {
         log.info("전체 리스트 조회");
         String str = "productId";
@@ -167,29 +182,21 @@ public class ProductService {
         return product;
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public String calculateReviewAverage(Long productId) {
         log.info("평점 계산 상품 검색 ");
-        List<Review> reviews = reviewRepository.findByProductId(productId);
-        if (reviews.isEmpty()) {
+        Double result = reviewRepository.findAverageStar(productId);
+        if (result == null) {
             log.info("리뷰가 없어요");
             return "0";
-        } else {
-            log.info("리뷰 있다");
-            int totalScore = reviews.stream()
-                    .mapToInt(Review::getStar)
-                    .sum();
-            int totalUsers = reviews.size();
-            log.info(" 리뷰 계산 중  ");
-            double result = ((double) totalScore / (double) totalUsers);
-
-            DecimalFormat form = new DecimalFormat("#.##");
-            log.info("result : ", result);
-            return form.format(result);
         }
+
+        DecimalFormat form = new DecimalFormat("#.##");
+        log.info("result : {}", result);
+        return form.format(result);
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public Page<Product> getCategory(Long categoryId, int filter, int page, int size) {
         log.info(" 카테고리 별 상품 조회 ");
         String str = "productId";
@@ -205,7 +212,7 @@ public class ProductService {
         return productRepository.findByCategory(categoryId, PageRequest.of(page, size, Sort.by(str).descending()));
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public List<Product> random() {
         List<Product> list = new ArrayList<>();
 
@@ -0,0 +1,63 @@
+package com.backend.domain.product.application;
+
+import com.backend.domain.order.domain.OrderProduct;
+import com.backend.domain.product.dao.ProductRepository;
+import com.backend.domain.product.exception.OutOfStock;
+import com.backend.global.error.BusinessLogicException;
+import com.backend.global.error.ExceptionCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 주문 재고 차감 / 복구
+ * 1. 상품마다 조건부 update 한 번 (stock >= 수량 일 때만 차감) -> 조회 후 차감 사이에 다른 주문이 끼어들어도 초과 판매 없음
+ * 2. 여러 상품은 productId 오름차순으로 차감 -> 장바구니 주문끼리 row lock 을 같은 순서로 잡아서 deadlock 방지
+ * 3. 하나라도 부족하면 OutOfStock 으로 주문 트랜잭션 전체를 rollback (이미 차감한 상품도 복구)
+ * 4. 수량이 0 이하인 주문상품은 거절 (음수 차감은 재고를 늘리게 됨)
+ * 5. 재고를 관리하지 않는 상품(stock null)은 update 하지 않음 -> 바뀌는 값이 없는데 row lock 만 잡게 됨
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StockService {
+    private final ProductRepository productRepository;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void reserve(Collection<OrderProduct> orderProducts) {
+        for (Map.Entry<Long, Integer> entry : quantities(orderProducts).entrySet()) {
+            if (productRepository.decreaseStock(entry.getKey(), entry.getValue()) == 0) {
+                log.info("Service/ 상품 : {} 재고 부족", entry.getKey());
+                throw new OutOfStock(entry.getKey());
+            }
+        }
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void release(Collection<OrderProduct> orderProducts) {
+        for (Map.Entry<Long, Integer> entry : quantities(orderProducts).entrySet()) {
+            productRepository.increaseStock(entry.getKey(), entry.getValue());
+        }
+    }
+
+    // 같은 상품이 여러 줄이면 합쳐서 한 번만 update (재고를 관리하지 않는 상품은 제외)
+    private Map<Long, Integer> quantities(Collection<OrderProduct> orderProducts) {
+        Map<Long, Integer> quantities = new TreeMap<>();
+        for (OrderProduct orderProduct : orderProducts) {
+            if (orderProduct.getQuantity() <= 0) {
+                throw new BusinessLogicException("주문 수량은 1개 이상이어야 합니다.", ExceptionCode.INVALID_INPUT_VALUE);
+            }
+            if (orderProduct.getProduct().getStock() == null) {
+                continue;
+            }
+            quantities.merge(orderProduct.getProduct().getProductId(), orderProduct.getQuantity(), Integer::sum);
+        }
+        return quantities;
+    }
+}
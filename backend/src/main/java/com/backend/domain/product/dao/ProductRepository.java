@@ -4,18 +4,45 @@ import com.backend.domain.product.domain.Product;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import javax.persistence.QueryHint;
 import java.util.List;
 
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
 public interface ProductRepository extends JpaRepository<Product,Long> {
 
     boolean existsByProductName(String productName);
 
     @Query("select p from Product p where p.user.userId = :userId")
     List<Product> findByUserId(@Param("userId") long userId);
+    @QueryHints(@QueryHint(name = HINT_READONLY, value = "true"))
     @Query("select p from Product p where p.category.categoryId = :categoryId")
     Page<Product> findByCategory(@Param("categoryId")long categoryId , Pageable pageable);
     boolean existsByProductIdAndUserUserId(long productId,long userId);
+
+    // 재고가 충분할 때만 차감 (row lock 은 update 한 번 동안만), 재고 관리 안 하는 상품(null)은 그대로 성공
+    // 반환값이 0 이면 재고 부족, 없는 상품 또는 수량이 0 이하
+    @Modifying
+    @Query("update Product p set p.stock = p.stock - :quantity " +
+            "where p.productId = :productId and :quantity > 0 and (p.stock is null or p.stock >= :quantity)")
+    int decreaseStock(@Param("productId") long productId, @Param("quantity") int quantity);
+
+    @Modifying
+    @Query("update Product p set p.stock = p.stock + :quantity " +
+            "where p.productId = :productId and p.stock is not null")
+    int increaseStock(@Param("productId") long productId, @Param("quantity") int quantity);
+
+    @Modifying
+    @Query("update Product p set p.stock = :stock where p.productId = :productId")
+    int updateStock(@Param("productId") long productId, @Param("stock") Integer stock);
+
+    // 게스트 정리 : 게스트가 등록한 상품 (리뷰 / 주문상품을 먼저 삭제)
+    @Modifying
+    @Query("delete from Product p where p.user.userId in :userIds")
+    int deleteByUserIds(@Param("userIds") List<Long> userIds);
 }
@@ -18,6 +18,15 @@ import java.util.List;
 @NoArgsConstructor
 @Getter
 @Entity
+@Table(indexes = {
+        // 카테고리별 상품 목록 (정렬 : 최신 / 조회수 / 가격), 최신순은 category_id 외래키 인덱스 사용
+        @Index(name = "idx_product_category_id_view_count", columnList = "category_id, viewCount"),
+        @Index(name = "idx_product_category_id_price", columnList = "category_id, price"),
+        // 전체 상품 목록 (정렬 : 조회수 / 가격)
+        @Index(name = "idx_product_view_count", columnList = "viewCount"),
+        @Index(name = "idx_product_price", columnList = "price"),
+        @Index(name = "idx_product_product_name", columnList = "productName") // 상품명 중복 검사
+})
 public class Product extends Auditable {
 
     @Id
@@ -42,6 +51,11 @@ public class Product extends Auditable {
     @ColumnDefault("0")
     private int viewCount;
 
+    // 재고 (null 이면 재고 관리 안 함)
+    // 엔티티 update 로는 바꾸지 않고 ProductRepository 의 조건부 update 로만 변경 (조회수 증가 등과 덮어쓰기 방지)
+    @Column(updatable = false)
+    private Integer stock;
+
     // 유저 맵핑 추가
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
@@ -98,6 +112,10 @@ public class Product extends Auditable {
         this.category = category;
     }
 
+    public void setStock(Integer stock) {
+        this.stock = stock;
+    }
+
     @Builder
     public Product(Long productId, int price, String productName, int discountPrice, String titleImg, String detailImg, String tag, int viewCount, User user, List<Review> reviews, List<OrderProduct> orderProducts, Category category) {
         this.productId = productId;
@@ -31,5 +31,7 @@ public class ProResponseDto {
 
     private String tag;
 
+    private Integer stock;
+
 
 }
@@ -30,5 +30,7 @@ public class ProductResponseDto {
 
     private Long categoryId;
 
+    private Integer stock;
+
 
 }
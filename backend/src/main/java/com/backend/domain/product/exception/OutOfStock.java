@@ -0,0 +1,21 @@
+package com.backend.domain.product.exception;
+
+
+import com.backend.global.error.BusinessLogicException;
+import com.backend.global.error.ExceptionCode;
+import lombok.Getter;
+
+public class OutOfStock extends BusinessLogicException {
+    // 재고가 부족한 상품 (알 수 없으면 null)
+    @Getter
+    private final Long productId;
+
+    public OutOfStock(){
+        this(null);
+    }
+
+    public OutOfStock(Long productId){
+        super(ExceptionCode.OUT_OF_STOCK.getMessage(),ExceptionCode.OUT_OF_STOCK);
+        this.productId = productId;
+    }
+}
@@ -0,0 +1,115 @@
+package com.backend.domain.refreshToken.application;
+
+import com.backend.global.utils.TimingWheel;
+import com.backend.global.utils.jwt.TokenHasher;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 메모리에 저장하는 refresh token 저장소
+ * 만료는 1초 단위 timing wheel 로 처리해서 DB 쓰기 / 전체 삭제 쿼리가 없다
+ * rotation 은 family 단위 compute 로 원자적으로 처리
+ * 서버가 한 대일 때만 사용 (재시작하면 모든 유저가 다시 로그인해야 함)
+ */
+@Component
+@ConditionalOnProperty(name = "jwt.refresh-token-store", havingValue = "memory")
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    private static final long TICK_MILLIS = 1000;
+    private static final int WHEEL_SIZE = 3600;
+
+    private final Map<String, StoredToken> tokens = new ConcurrentHashMap<>();
+    private final Map<Long, Set<String>> familiesByUser = new ConcurrentHashMap<>();
+    private final TimingWheel<String> expiryWheel = new TimingWheel<>(TICK_MILLIS, WHEEL_SIZE, this::removeFamily);
+
+    @Override
+    public void save(String familyId, Long userId, String refreshToken, Date expirationDate) {
+        tokens.put(familyId, new StoredToken(userId, TokenHasher.sha256(refreshToken), null, null, expirationDate));
+        familiesByUser.computeIfAbsent(userId, id -> ConcurrentHashMap.newKeySet()).add(familyId);
+        expiryWheel.schedule(familyId, expirationDate.getTime());
+    }
+
+    @Override
+    public RefreshTokenRotation rotate(String familyId, String refreshToken, String newRefreshToken,
+                                       Date expirationDate, long graceMillis) {
+        String hash = TokenHasher.sha256(refreshToken);
+        String newHash = TokenHasher.sha256(newRefreshToken);
+        Date now = new Date();
+        RefreshTokenRotation[] result = {RefreshTokenRotation.REUSED};
+
+        tokens.computeIfPresent(familyId, (id, stored) -> {
+            if (stored.getHash().equals(hash)) {
+                result[0] = RefreshTokenRotation.ROTATED;
+                return new StoredToken(stored.getUserId(), newHash, hash, now, expirationDate);
+            }
+            if (hash.equals(stored.getPreviousHash())
+                    && now.getTime() - stored.getRotatedAt().getTime() <= graceMillis) {
+                result[0] = RefreshTokenRotation.CONCURRENT;
+                return stored;
+            }
+            return stored;
+        });
+
+        if (result[0] == RefreshTokenRotation.ROTATED) {
+            expiryWheel.schedule(familyId, expirationDate.getTime());
+        } else if (result[0] == RefreshTokenRotation.REUSED) {
+            expiryWheel.cancel(familyId);
+            removeFamily(familyId);
+        }
+
+        return result[0];
+    }
+
+    @Override
+    public boolean delete(Long userId) {
+        Set<String> familyIds = familiesByUser.remove(userId);
+        if (familyIds == null) {
+            return false;
+        }
+
+        boolean deleted = false;
+        for (String familyId : familyIds) {
+            expiryWheel.cancel(familyId);
+            deleted |= tokens.remove(familyId) != null;
+        }
+        return deleted;
+    }
+
+    @Override
+    public int purgeExpired(Date now) {
+        return expiryWheel.advance(now.getTime());
+    }
+
+    @Scheduled(fixedDelay = TICK_MILLIS)
+    public void tick() {
+        expiryWheel.advance(System.currentTimeMillis());
+    }
+
+    private void removeFamily(String familyId) {
+        StoredToken removed = tokens.remove(familyId);
+        if (removed != null) {
+            familiesByUser.computeIfPresent(removed.getUserId(), (userId, familyIds) -> {
+                familyIds.remove(familyId);
+                return familyIds.isEmpty() ? null : familyIds;
+            });
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class StoredToken {
+        private final Long userId;
+        private final String hash;
+        private final String previousHash;
+        private final Date rotatedAt;
+        private final Date expirationDate;
+    }
+}
@@ -0,0 +1,93 @@
+package com.backend.domain.refreshToken.application;
+
+import com.backend.domain.refreshToken.dao.RefreshTokenRepository;
+import com.backend.domain.refreshToken.domain.RefreshToken;
+import com.backend.global.utils.jwt.TokenHasher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * DB 에 저장하는 refresh token 저장소 (기본값)
+ * 1. rotation 은 해시가 일치할 때만 교체하는 update 한 번으로 처리 (동시 요청은 DB 가 직렬화)
+ * 2. update 된 행이 없을 때만 family 를 조회해서 동시 요청인지 재사용인지 구분
+ * 3. 만료 토큰은 PURGE_CHUNK_SIZE 건씩 나눠서 각각 짧은 트랜잭션으로 삭제
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "jwt.refresh-token-store", havingValue = "jpa", matchIfMissing = true)
+public class JpaRefreshTokenStore implements RefreshTokenStore {
+
+    private static final int PURGE_CHUNK_SIZE = 1000;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    @Transactional
+    public void save(String familyId, Long userId, String refreshToken, Date expirationDate) {
+        RefreshToken refreshTokenEntity = RefreshToken.builder()
+                .familyId(familyId)
+                .userId(userId)
+                .value(TokenHasher.sha256(refreshToken))
+                .expirationDate(expirationDate)
+                .build();
+
+        refreshTokenRepository.save(refreshTokenEntity);
+    }
+
+    @Override
+    @Transactional
+    public RefreshTokenRotation rotate(String familyId, String refreshToken, String newRefreshToken,
+                                       Date expirationDate, long graceMillis) {
+        String hash = TokenHasher.sha256(refreshToken);
+        Date now = new Date();
+
+        if (refreshTokenRepository.rotate(familyId, hash, TokenHasher.sha256(newRefreshToken), now, expirationDate) > 0) {
+            return RefreshTokenRotation.ROTATED;
+        }
+
+        boolean concurrent = refreshTokenRepository.findById(familyId)
+                .map(token -> token.isRotatedFrom(hash, now, graceMillis))
+                .orElse(false);
+        if (concurrent) {
+            return RefreshTokenRotation.CONCURRENT;
+        }
+
+        refreshTokenRepository.deleteFamily(familyId);
+        return RefreshTokenRotation.REUSED;
+    }
+
+    @Override
+    @Transactional
+    public boolean delete(Long userId) {
+        return refreshTokenRepository.deleteAllByUserId(userId) > 0;
+    }
+
+    @Override
+    public int purgeExpired(Date now) {
+        int total = 0;
+
+        while (true) {
+            Integer deleted = transactionTemplate.execute(status -> {
+                List<String> familyIds = refreshTokenRepository.findExpiredFamilyIds(now, PageRequest.of(0, PURGE_CHUNK_SIZE));
+                return familyIds.isEmpty() ? 0 : refreshTokenRepository.deleteAllByFamilyIdIn(familyIds);
+            });
+
+            total += deleted;
+            if (deleted < PURGE_CHUNK_SIZE) {
+                break;
+            }
+        }
+
+        return total;
+    }
+}
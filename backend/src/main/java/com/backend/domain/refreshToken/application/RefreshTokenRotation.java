@@ -0,0 +1,13 @@
+package com.backend.domain.refreshToken.application;
+
+/**
+ * refresh token rotation 결과
+ */
+public enum RefreshTokenRotation {
+    // 새 토큰으로 교체됨
+    ROTATED,
+    // 같은 토큰으로 동시에 들어온 재발급 요청, 이미 교체됐으므로 access token 만 재발급
+    CONCURRENT,
+    // 교체된 토큰이 다시 사용됨 (탈취 의심), token family 전체 폐기
+    REUSED
+}
@@ -1,23 +1,139 @@
 package com.backend.domain.refreshToken.application;
 
-import com.backend.domain.refreshToken.dao.RefreshTokenRepository;
+import com.backend.domain.user.domain.User;
+import com.backend.global.error.BusinessLogicException;
+import com.backend.global.error.ExceptionCode;
+import com.backend.global.utils.TimingWheel;
+import com.backend.global.utils.jwt.JwtTokenizer;
+import com.backend.global.utils.jwt.TokenHasher;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Calendar;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * refresh token 발급 / rotation
+ * 1. 로그인 할 때마다 새 token family 를 만들고, 재발급 할 때마다 같은 family 안에서 토큰을 교체한다
+ * 2. 이미 교체된 토큰이 다시 들어오면 탈취로 보고 family 전체를 폐기한다
+ * 3. 폐기된 family 는 토큰 만료 시각까지 메모리에 남겨서 반복되는 재사용 요청은 저장소 조회 없이 거절한다
+ * 4. 교체한 새 토큰은 유예 시간 동안 메모리에 남겨서, 같은 토큰으로 동시에 들어온 요청에도 같은 새 토큰을 내려준다
+ *    (다른 서버에서 교체된 경우엔 넘겨줄 토큰이 없으므로 access token 만 재발급)
+ */
 @Slf4j
 @RequiredArgsConstructor
 @Service
 public class RefreshTokenService {
 
-    private final RefreshTokenRepository refreshTokenRepository;
+    // 같은 토큰으로 동시에 들어온 재발급 요청을 재사용으로 보지 않는 시간
+    private static final long CONCURRENT_REISSUE_GRACE_MILLIS = 10_000;
+    private static final long REVOKED_TICK_MILLIS = 1000;
+    private static final int REVOKED_WHEEL_SIZE = 3600;
+    private static final int ROTATED_WHEEL_SIZE = 60;
 
-    // refresh token 유효기간이 지난 토큰 삭제
-    @Transactional
-    public void deleteExpiredToken() {
-        refreshTokenRepository.deleteAllExpiredSince(Calendar.getInstance().getTime());
+    private final RefreshTokenStore refreshTokenStore;
+    private final JwtTokenizer jwtTokenizer;
+
+    private final Set<String> revokedFamilies = ConcurrentHashMap.newKeySet();
+    private final TimingWheel<String> revokedFamilyExpiry =
+            new TimingWheel<>(REVOKED_TICK_MILLIS, REVOKED_WHEEL_SIZE, revokedFamilies::remove);
+
+    // 교체된 토큰 해시 -> 교체한 새 토큰 (CONCURRENT_REISSUE_GRACE_MILLIS 동안만 보관)
+    private final Map<String, String> rotatedTokens = new ConcurrentHashMap<>();
+    private final TimingWheel<String> rotatedTokenExpiry =
+            new TimingWheel<>(REVOKED_TICK_MILLIS, ROTATED_WHEEL_SIZE, rotatedTokens::remove);
+
+    /**
+     * 새 token family 로 refresh token 발급 후 저장 (로그인)
+     *
+     * @param user 유저
+     * @return refresh token
+     */
+    public String issue(User user) {
+        String familyId = UUID.randomUUID().toString();
+        Date expiration = jwtTokenizer.getTokenExpiration(jwtTokenizer.getRefreshTokenExpirationMillisecond());
+        String refreshToken = createRefreshToken(user.getUserId(), user.getUserRole(), familyId, expiration);
+
+        refreshTokenStore.save(familyId, user.getUserId(), refreshToken, expiration);
+
+        return refreshToken;
+    }
+
+    /**
+     * refresh token 교체 (재발급)
+     *
+     * @param claims       검증이 끝난 refresh token 의 claims
+     * @param refreshToken 요청한 refresh token
+     * @return 새 refresh token, 동시에 들어온 재발급 요청이면 먼저 교체한 요청의 새 토큰
+     * (다른 서버에서 교체돼서 넘겨줄 토큰이 없으면 null)
+     */
+    public String rotate(Claims claims, String refreshToken) {
+        String familyId = claims.get("familyId", String.class);
+        if (familyId == null || revokedFamilies.contains(familyId)) {
+            throw new BusinessLogicException(ExceptionCode.TOKEN_REUSED);
+        }
+
+        Long userId = Long.parseLong(claims.get("userId").toString());
+        String userRole = claims.get("userRole", String.class);
+        Date expiration = jwtTokenizer.getTokenExpiration(jwtTokenizer.getRefreshTokenExpirationMillisecond());
+        String newRefreshToken = createRefreshToken(userId, userRole, familyId, expiration);
+
+        RefreshTokenRotation rotation = refreshTokenStore.rotate(familyId, refreshToken, newRefreshToken,
+                expiration, CONCURRENT_REISSUE_GRACE_MILLIS);
+
+        String hash = TokenHasher.sha256(refreshToken);
+        switch (rotation) {
+            case ROTATED:
+                rotatedTokens.put(hash, newRefreshToken);
+                rotatedTokenExpiry.schedule(hash, System.currentTimeMillis() + CONCURRENT_REISSUE_GRACE_MILLIS);
+                return newRefreshToken;
+            case CONCURRENT:
+                return rotatedTokens.get(hash);
+            default:
+                log.warn("refresh token 재사용 감지, token family 폐기 : userId={}, familyId={}", userId, familyId);
+                revokedFamilies.add(familyId);
+                revokedFamilyExpiry.schedule(familyId, claims.getExpiration().getTime());
+                throw new BusinessLogicException(ExceptionCode.TOKEN_REUSED);
+        }
+    }
+
+    // refresh token 유효기간이 지난 토큰 삭제 (청크마다 별도 트랜잭션)
+    public int deleteExpiredToken() {
+        int deleted = refreshTokenStore.purgeExpired(Calendar.getInstance().getTime());
+        log.info("만료된 refresh token 삭제 : {} 건", deleted);
+        return deleted;
+    }
+
+    // 만료 시각이 지난 폐기 family 와 유예 시간이 지난 교체 토큰을 메모리에서 제거
+    @Scheduled(fixedDelay = REVOKED_TICK_MILLIS)
+    public void expireRevokedFamilies() {
+        long now = System.currentTimeMillis();
+        revokedFamilyExpiry.advance(now);
+        rotatedTokenExpiry.advance(now);
+    }
+
+    /**
+     * refresh token 생성
+     * jti 를 넣어서 같은 초에 교체해도 이전 토큰과 값이 달라지게 한다
+     */
+    private String createRefreshToken(Long userId, String userRole, String familyId, Date expiration) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("userId", userId);
+        claims.put("userRole", userRole);
+        claims.put("familyId", familyId);
+        claims.put("jti", UUID.randomUUID().toString());
+
+        String subject = userId.toString();
+        String base64EncodedSecretKey = jwtTokenizer.encodeBase64SecretKey(jwtTokenizer.getRefreshSecretKey());
+
+        return jwtTokenizer.generateRefreshToken(claims, subject, expiration, base64EncodedSecretKey);
     }
 }
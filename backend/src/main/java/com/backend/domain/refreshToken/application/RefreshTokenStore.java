@@ -0,0 +1,24 @@
+package com.backend.domain.refreshToken.application;
+
+import java.util.Date;
+
+/**
+ * refresh token 저장소
+ * 토큰 원문은 저장하지 않고 SHA-256 해시만 저장한다
+ * jwt.refresh-token-store 설정으로 구현체 선택 (jpa / memory)
+ */
+public interface RefreshTokenStore {
+
+    // 새 token family 의 refresh token 저장 (로그인)
+    void save(String familyId, Long userId, String refreshToken, Date expirationDate);
+
+    // 저장된 토큰과 일치하면 새 토큰으로 교체, 재사용된 토큰이면 family 삭제
+    RefreshTokenRotation rotate(String familyId, String refreshToken, String newRefreshToken,
+                                Date expirationDate, long graceMillis);
+
+    // 유저의 refresh token 모두 삭제, 삭제된 토큰이 있으면 true
+    boolean delete(Long userId);
+
+    // 유효기간이 지난 토큰 삭제, 삭제된 토큰 수 반환
+    int purgeExpired(Date now);
+}
@@ -1,19 +1,49 @@
 package com.backend.domain.refreshToken.dao;
 
 import com.backend.domain.refreshToken.domain.RefreshToken;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Date;
+import java.util.List;
 
-public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String> {
 
-    // key 값으로 refresh token 삭제
-    void deleteByKey(Long key);
+    // 저장된 해시가 일치할 때만 새 토큰으로 교체 (조회 없이 update 한 번), 교체된 건수 반환
+    @Modifying
+    @Query("update RefreshToken t set t.previousValue = t.value, t.value = :newValue, " +
+            "t.rotatedAt = :now, t.expirationDate = :expirationDate " +
+            "where t.value = :value and t.familyId = :familyId")
+    int rotate(@Param("familyId") String familyId,
+               @Param("value") String value,
+               @Param("newValue") String newValue,
+               @Param("now") Date now,
+               @Param("expirationDate") Date expirationDate);
+
+    // token family 삭제
+    @Modifying
+    @Query("delete from RefreshToken t where t.familyId = :familyId")
+    int deleteFamily(@Param("familyId") String familyId);
+
+    // 유저의 refresh token 모두 삭제 (조회 없이 delete 한 번), 삭제된 건수 반환
+    @Modifying
+    @Query("delete from RefreshToken t where t.userId = :userId")
+    int deleteAllByUserId(@Param("userId") Long userId);
+
+    // 게스트 정리
+    @Modifying
+    @Query("delete from RefreshToken t where t.userId in :userIds")
+    int deleteAllByUserIdIn(@Param("userIds") List<Long> userIds);
+
+    // 유효기간이 지난 토큰의 family id 조회 (만료일 인덱스 사용)
+    @Query("select t.familyId from RefreshToken t where t.expirationDate <= :now order by t.expirationDate")
+    List<String> findExpiredFamilyIds(@Param("now") Date now, Pageable pageable);
 
-    // refresh token 유효기간이 지난 토큰 삭제
+    // family id 목록으로 refresh token 삭제
     @Modifying
-    @Query("delete from RefreshToken t where t.expirationDate <= ?1")
-    void deleteAllExpiredSince(Date now);
+    @Query("delete from RefreshToken t where t.familyId in :familyIds")
+    int deleteAllByFamilyIdIn(@Param("familyIds") List<String> familyIds);
 }
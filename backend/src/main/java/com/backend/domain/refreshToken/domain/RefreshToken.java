@@ -9,28 +9,61 @@ import lombok.NoArgsConstructor;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
 import java.util.Date;
 
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+        @Index(name = "idx_refresh_token_value", columnList = "rt_value", unique = true),
+        @Index(name = "idx_refresh_token_user_id", columnList = "rt_user_id"),
+        @Index(name = "idx_refresh_token_expiration_date", columnList = "rt_expiration_date")
+})
 public class RefreshToken extends Auditable {
     @Id
-    @Column(name = "rt_key")
+    @Column(name = "rt_family_id", length = 36)
+    // 로그인 할 때 만들어지는 token family id, 재발급(rotation) 해도 유지됨
+    private String familyId;
+
+    @Column(name = "rt_user_id")
     // member id 값이 들어감
-    private Long key;
+    private Long userId;
 
-    @Column(name = "rt_value", length = 500)
-    // refresh token (String)
+    @Column(name = "rt_value", length = 64)
+    // 현재 유효한 refresh token 의 SHA-256 해시 (hex)
     private String value;
 
+    @Column(name = "rt_previous_value", length = 64)
+    // 직전 refresh token 의 해시, 동시에 들어온 재발급 요청 구분용
+    private String previousValue;
+
+    @Column(name = "rt_rotated_at")
+    private Date rotatedAt;
+
     @Column(name = "rt_expiration_date")
     private Date expirationDate;
 
     @Builder
-    public RefreshToken(Long key, String value, Date expirationDate) {
-        this.key = key;
+    public RefreshToken(String familyId, Long userId, String value, Date expirationDate) {
+        this.familyId = familyId;
+        this.userId = userId;
         this.value = value;
         this.expirationDate = expirationDate;
     }
+
+    /**
+     * 방금 rotation 으로 교체된 토큰인지 확인
+     *
+     * @param hash        요청한 refresh token 해시
+     * @param now         현재 시각
+     * @param graceMillis 동시 요청으로 인정할 시간
+     * @return graceMillis 안에 교체된 직전 토큰이면 true
+     */
+    public boolean isRotatedFrom(String hash, Date now, long graceMillis) {
+        return hash.equals(previousValue)
+                && rotatedAt != null
+                && now.getTime() - rotatedAt.getTime() <= graceMillis;
+    }
 }
@@ -2,18 +2,23 @@ package com.backend.domain.review.api;
 
 import com.backend.domain.review.Mapper.ReviewMapper;
 import com.backend.domain.review.application.ReviewService;
+import com.backend.domain.review.dao.ReviewRepository;
 import com.backend.domain.review.domain.Review;
 import com.backend.domain.review.dto.ReviewImg;
 import com.backend.global.annotation.CurrentUser;
 import com.backend.global.config.auth.userdetails.CustomUserDetails;
 import com.backend.global.dto.Response.MultiResponse;
 import com.backend.global.dto.Response.SingleResponseDto;
+import com.backend.global.export.ExportFormat;
+import com.backend.global.export.StreamingExporter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Objects;
@@ -25,6 +30,8 @@ public class ReviewController {
 
     private final ReviewService reviewService;
     private final ReviewMapper reviewMapper;
+    private final ReviewRepository reviewRepository;
+    private final StreamingExporter streamingExporter;
 
 
 
@@ -34,7 +41,7 @@ public class ReviewController {
                                  @RequestParam("reviewContent")String reviewContent,@RequestParam("star")int star,
                                   ReviewImg reviewImg){
         log.info(" post 맵핑 실행 ");
-        Long userId = authUser.getUser().getUserId();
+        Long userId = authUser.getUserId();
         log.info(" 유저 정보 완료 ");
         Review saveReview = reviewService.create(userId,productId,reviewContent,star,reviewImg);
         log.info(" getListCategory 실행 ");
@@ -49,7 +56,7 @@ public class ReviewController {
                                  ReviewImg reviewImg){
         log.info("update 맵핑 실행");
 
-        Long userId = authUser.getUser().getUserId();
+        Long userId = authUser.getUserId();
         log.info("userId : ",userId);
 
         Review response = reviewService.update(reviewId,userId,reviewContent,star,reviewImg,delete);
@@ -79,7 +86,7 @@ public class ReviewController {
             log.info("유저 정보가 없음");
             return ResponseEntity.ok().build();
         }
-        Long userId = authUser.getUser().getUserId();
+        Long userId = authUser.getUserId();
         log.info("userId : ",userId);
         Page<Review> reviewPage = reviewService.getList(userId, page-1, size);
         log.info("reviewPage :",reviewPage);
@@ -104,9 +111,17 @@ public class ReviewController {
     @GetMapping("/review/seller")
     public ResponseEntity getProductReview(@CurrentUser CustomUserDetails authUser,@RequestParam int page){
         int size = 15;
-        Long userId = authUser.getUser().getUserId();
+        Long userId = authUser.getUserId();
         Page<Review> reviews = reviewService.getProductReview(userId, page-1, size);
         List<Review> content = reviews.getContent();
         return new ResponseEntity(new MultiResponse<>(reviewMapper.reviewsToReviewResponseDto(content),reviews),HttpStatus.OK);
     }
+
+    // 관리자 전용 전체 리뷰 export (format : json / ndjson)
+    @GetMapping("/review/export")
+    public ResponseEntity<StreamingResponseBody> exportAll(@RequestParam(defaultValue = "ndjson") String format,
+                                                           @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        log.info("export 실행");
+        return streamingExporter.export("reviews", ExportFormat.from(format), acceptEncoding, reviewRepository::streamAll, reviewMapper::reviewToReviewResponseDto);
+    }
 }
@@ -0,0 +1,36 @@
+package com.backend.domain.review.application;
+
+import com.backend.domain.product.application.AwsS3Service;
+import com.backend.global.event.DomainEvent;
+import com.backend.global.event.DomainEventSubscriber;
+import com.backend.global.event.DomainEventType;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 리뷰 수정 / 삭제로 더 이상 쓰지 않는 리뷰 이미지를 S3 에서 삭제 (커밋 후 DomainEventRelay 가 호출)
+ * 이미 지운 이미지를 다시 지워도 S3 는 성공하므로 재전달돼도 안전
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReviewImageCleaner implements DomainEventSubscriber {
+    private final AwsS3Service awsS3Service;
+
+    @Override
+    public boolean supports(DomainEventType eventType) {
+        return eventType == DomainEventType.REVIEW_UPDATED || eventType == DomainEventType.REVIEW_DELETED;
+    }
+
+    @Override
+    public void handle(DomainEvent event, JsonNode payload) {
+        for (JsonNode removedImg : payload.path("removedImgs")) {
+            if (removedImg.isTextual()) {
+                awsS3Service.deleteImage(removedImg.asText());
+                log.info("리뷰 {} 이전 이미지 삭제", event.getAggregateId());
+            }
+        }
+    }
+}
@@ -16,6 +16,8 @@ import com.backend.domain.review.exception.ReviewNotFound;
 import com.backend.domain.user.dao.UserRepository;
 import com.backend.domain.user.domain.User;
 import com.backend.domain.user.exception.MemberNotFound;
+import com.backend.global.event.DomainEventPublisher;
+import com.backend.global.event.DomainEventType;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
@@ -25,6 +27,11 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -38,6 +45,7 @@ public class ReviewService {
     private final AwsS3Service awsS3Service;
 
     private final OrderProductRepository orderProductRepository;
+    private final DomainEventPublisher domainEventPublisher;
 
     @SneakyThrows
     @Transactional
@@ -77,7 +85,9 @@ public class ReviewService {
                 .titleImg(product.getTitleImg())
                 .build();
         log.info("리뷰 생성 ");
-        return reviewRepository.save(review);
+        Review saveReview = reviewRepository.save(review);
+        domainEventPublisher.publish(DomainEventType.REVIEW_CREATED, saveReview.getReviewId(), reviewPayload(saveReview));
+        return saveReview;
     }
     @SneakyThrows
     @Transactional
@@ -94,17 +104,21 @@ public class ReviewService {
                 .ifPresent(findReview::setReviewContent);
         Optional.ofNullable(star)
                 .ifPresent(findReview::setStar);
-        String reviewUrl ;
+        // 이전 이미지 S3 삭제는 커밋 후 ReviewImageCleaner 에서 (트랜잭션 안에서 S3 호출을 기다리지 않음)
+        List<String> removedImgs = new ArrayList<>();
 
         if(reviewImg.getReviewImg() != null){
-            awsS3Service.deleteImage(findReview.getReviewImg());
+            removedImgs.add(findReview.getReviewImg());
             findReview.setReviewImg(awsS3Service.StoreImage(reviewImg.getReviewImg()));
         }
         if (delete.equals("true")){
-            awsS3Service.deleteImage(findReview.getReviewImg());
+            removedImgs.add(findReview.getReviewImg());
             findReview.setReviewImg(null);
         }
         log.info("findReview : ",findReview);
+        Map<String, Object> payload = reviewPayload(findReview);
+        payload.put("removedImgs", removedImgs);
+        domainEventPublisher.publish(DomainEventType.REVIEW_UPDATED, reviewId, payload);
         return reviewRepository.save(findReview);
     }
 
@@ -121,23 +135,26 @@ public class ReviewService {
         }
         orderProduct.setReviewStatus(OrderProductReviewStatus.WRITING);
         log.info("review : ", review);
+        Map<String, Object> payload = reviewPayload(review);
+        payload.put("removedImgs", Collections.singletonList(review.getReviewImg()));
+        domainEventPublisher.publish(DomainEventType.REVIEW_DELETED, reviewId, payload);
         reviewRepository.delete(review);
         return reviewId;
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public Page<Review> getList(Long userId,int page,int size) {
         log.info("getList 실행");
         return reviewRepository.findByUser(userId, PageRequest.of(page, size, Sort.by("reviewId").descending()));
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public Page<Review> getListProduct(Long productId, int page, int size) {
         log.info("getListProduct 실행");
         return reviewRepository.findByProduct(productId,PageRequest.of(page,size,Sort.by("reviewId").descending()));
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public Review getRead(Long reviewId) {
         log.info("getRead 실행");
         Review review = reviewRepository.findById(reviewId).orElseThrow(ReviewNotFound::new);
@@ -151,4 +168,13 @@ public class ReviewService {
         return reviewRepository.findByUserId(userId,PageRequest.of(page,size,Sort.by("reviewId").descending()));
 
     }
+
+    private Map<String, Object> reviewPayload(Review review) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("reviewId", review.getReviewId());
+        payload.put("productId", review.getProduct().getProductId());
+        payload.put("userId", review.getUser().getUserId());
+        payload.put("star", review.getStar());
+        return payload;
+    }
 }
@@ -4,24 +4,44 @@ import com.backend.domain.review.domain.Review;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import javax.persistence.QueryHint;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
 
 public interface ReviewRepository extends JpaRepository<Review,Long> {
 
+    @QueryHints(@QueryHint(name = HINT_READONLY, value = "true"))
     @Query("select r from Review r where r.user.userId = :userId")
     Page<Review> findByUser(@Param("userId") long userId, Pageable pageable);
 
+    @QueryHints(@QueryHint(name = HINT_READONLY, value = "true"))
     @Query("select r from Review r where r.product.productId = :productId")
     Page<Review> findByProduct(@Param("productId") long productId, Pageable pageable);
 
-    @Query("select r from Review r where r.product.productId = :productId")
-    List<Review> findByProductId(@Param("productId") long productId);
+    // 평점 평균 (리뷰 엔티티를 불러오지 않고 DB 에서 계산, 리뷰가 없으면 null)
+    @Query("select avg(r.star) from Review r where r.product.productId = :productId")
+    Double findAverageStar(@Param("productId") long productId);
 
+    @QueryHints(@QueryHint(name = HINT_READONLY, value = "true"))
     @Query("select r from Review r join Product p on p.productId = r.proId where p.user.userId = :userId")
     Page<Review> findByUserId(@Param("userId") Long userId,Pageable pageable);
 
-    void deleteByUser_UserRoleOrUser_UserRole(String roleUserTest, String roleAdminTest);
+    // 게스트 정리 : 게스트가 쓴 리뷰 + 게스트가 등록한 상품의 리뷰
+    @Modifying
+    @Query("delete from Review r where r.user.userId in :userIds " +
+            "or r.product.productId in (select p.productId from Product p where p.user.userId in :userIds)")
+    int deleteByUserIds(@Param("userIds") List<Long> userIds);
+
+    // 관리자 export 용 커서 조회 (트랜잭션 안에서만 사용)
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "1000"), @QueryHint(name = HINT_READONLY, value = "true")})
+    @Query("select r from Review r order by r.reviewId")
+    Stream<Review> streamAll();
 }
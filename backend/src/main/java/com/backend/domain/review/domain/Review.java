@@ -3,19 +3,27 @@ package com.backend.domain.review.domain;
 import com.backend.domain.product.domain.Product;
 import com.backend.domain.user.domain.User;
 import com.backend.global.audit.Auditable;
+import com.backend.global.jpa.PooledIdGenerator;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
 
 import javax.persistence.*;
 
 @Entity
 @Getter
 @NoArgsConstructor
+@Table(indexes = {
+        @Index(name = "idx_review_product_id_review_id", columnList = "product_id, reviewId"), // 상품별 리뷰 (최신순)
+        @Index(name = "idx_review_user_id_review_id", columnList = "user_id, reviewId"), // 유저별 리뷰
+        @Index(name = "idx_review_pro_id_review_id", columnList = "proId, reviewId") // 판매자 상품의 리뷰 (product 조인)
+})
 public class Review extends Auditable {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = PooledIdGenerator.NAME)
+    @GenericGenerator(name = PooledIdGenerator.NAME, strategy = PooledIdGenerator.STRATEGY)
     private Long reviewId;
 
     @Column(nullable = false)
@@ -3,11 +3,17 @@ package com.backend.domain.user.api;
 
 import com.backend.domain.user.application.EmailService;
 import com.backend.domain.user.application.UserService;
+import com.backend.global.utils.ClientIpResolver;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.validation.Valid;
+
 import static com.backend.domain.user.dto.EmailDto.RequestSendMail;
+import static com.backend.domain.user.dto.EmailDto.RequestVerifyCode;
 
 @Slf4j
 @RestController
@@ -17,33 +23,38 @@ public class MailController {
 
     private final EmailService emailService;
     private final UserService userService;
+    private final ClientIpResolver clientIpResolver;
 
-    // 이메일 인증
-    @ResponseBody
+    // 이메일 인증 (인증 코드는 메일로만 전달, 발송 큐에 넣으면 202)
     @PostMapping("/confirm")
-    String mailConfirm(@RequestBody RequestSendMail emailDto) throws Exception {
+    public ResponseEntity<Void> mailConfirm(@Valid @RequestBody RequestSendMail emailDto, HttpServletRequest request) {
         String email = emailDto.getEmail();
-        log.info("회원가입 인증메일 발송 시작);");
+        log.info("회원가입 인증메일 발송 시작");
         log.info("email : {}", email);
 
-        String code = emailService.sendSimpleMessage(email, "회원가입");
-        log.info("인증코드 : " + code);
+        emailService.sendSimpleMessage(email, "회원가입", clientIpResolver.resolve(request));
 
-        return code;
+        return ResponseEntity.accepted().build();
     }
 
-    @ResponseBody
     @PostMapping("/registered")
-    String mailConfirmForUser(@RequestBody RequestSendMail emailDto) throws Exception {
+    public ResponseEntity<Void> mailConfirmForUser(@Valid @RequestBody RequestSendMail emailDto, HttpServletRequest request) {
         log.info("회원 찾기 메일 발송 시작");
         String email = emailDto.getEmail();
         log.info("email : {}", email);
         userService.getUserByEmail(email);
         log.info("가입된 이메일입니다.");
-        String code = emailService.sendSimpleMessage(email, "회원 정보");
-        log.info("인증코드 : " + code);
+        emailService.sendSimpleMessage(email, "회원 정보", clientIpResolver.resolve(request));
+
+        return ResponseEntity.accepted().build();
+    }
+
+    // 인증 코드 확인 (일치하지 않으면 400), 일치하면 회원가입 / 비밀번호 변경에 쓸 인증 완료 표시를 남김
+    @PostMapping("/verify")
+    public ResponseEntity<?> verifyCode(@Valid @RequestBody RequestVerifyCode verifyDto, HttpServletRequest request) {
+        emailService.verifyCode(verifyDto.getEmail(), verifyDto.getCode(), clientIpResolver.resolve(request));
 
-        return code;
+        return ResponseEntity.ok().build();
     }
 
 }
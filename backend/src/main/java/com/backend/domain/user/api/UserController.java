@@ -113,7 +113,7 @@ public class UserController {
     @DeleteMapping("/logout")
     public ResponseEntity<?> logout(@CurrentUser CustomUserDetails authUser) {
 
-        Long userId = authUser.getUser().getUserId();
+        Long userId = authUser.getUserId();
         userService.logout(userId);
 
         return ResponseEntity.ok().build();
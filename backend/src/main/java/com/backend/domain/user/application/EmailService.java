@@ -1,16 +1,17 @@
 package com.backend.domain.user.application;
 
+import com.backend.global.error.BusinessLogicException;
+import com.backend.global.error.ExceptionCode;
+import com.backend.global.mail.MailOutbox;
+import com.backend.global.mail.MailTemplate;
+import com.backend.global.mail.OutgoingMail;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.mail.MailException;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 
-import javax.mail.MessagingException;
-import javax.mail.internet.InternetAddress;
-import javax.mail.internet.MimeMessage;
-import javax.mail.internet.MimeMessage.RecipientType;
-import java.io.UnsupportedEncodingException;
+import java.security.SecureRandom;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Random;
 
 @Slf4j
@@ -18,57 +19,46 @@ import java.util.Random;
 @Service
 public class EmailService {
 
-    private final JavaMailSender emailSender;
+    private static final String FROM_ADDRESS = "pjwlover2005@naver.com";
+    private static final String FROM_NAME = "Luxmeal";
+    // 인증 메일 템플릿, 애플리케이션 시작할 때 한 번만 읽어서 컴파일
+    private static final MailTemplate VERIFICATION_TEMPLATE = MailTemplate.fromClasspath("mail/verification-code.html");
 
-    private String tempCode;
+    private final MailOutbox mailOutbox;
+    private final VerificationCodeStore verificationCodeStore;
+    private final MailRateLimiter mailRateLimiter;
+
+    private final Random rnd = new SecureRandom();
 
     // 메일 내용 작성
-    public MimeMessage createMessage(String to, String page) throws MessagingException, UnsupportedEncodingException {
-
-        MimeMessage message = emailSender.createMimeMessage();
-
-        message.addRecipients(RecipientType.TO, to);
-        message.setSubject(page +" 이메일 인증");
-
-        String msgg = "";
-        msgg += "<div style='margin:100px;'>";
-        msgg += "<h1> 안녕하세요</h1>";
-        msgg += "<h1> 럭셔리 애견 사료 쇼핑몰 Luxmeal 입니다</h1>";
-        msgg += "<br>";
-        msgg += "<p>아래 코드를 쇼핑몰에서 입력해주세요<p>";
-        msgg += "<br>";
-        msgg += "<div align='center' style='border:1px solid black; font-family:verdana';>";
-        msgg += "<h3 style='color:blue;'>" + page + " 인증 코드입니다.</h3>";
-        msgg += "<div style='font-size:130%'>";
-        msgg += "CODE : <strong>";
-        msgg += tempCode + "</strong><div><br/> ";
-        msgg += "</div>";
-        message.setText(msgg, "utf-8", "html");
-        // 보내는 사람의 이메일 주소, 보내는 사람 이름
-        message.setFrom(new InternetAddress("pjwlover2005@naver.com", "Luxmeal"));// 보내는 사람
-
-        return message;
+    public OutgoingMail createMessage(String to, String page, String code) {
+        Map<String, String> values = new HashMap<>();
+        values.put("page", page);
+        values.put("code", code);
+
+        return OutgoingMail.builder()
+                .from(FROM_ADDRESS)
+                .fromName(FROM_NAME)
+                .to(to)
+                .subject(page + " 이메일 인증")
+                .html(VERIFICATION_TEMPLATE.render(values))
+                .build();
     }
 
     // 랜덤 인증 코드
     public String createKey() {
-        StringBuffer key = new StringBuffer();
-        Random rnd = new Random();
+        StringBuilder key = new StringBuilder(8);
 
         for (int i = 0; i < 8; i++) { // 인증코드 8자리
-            int index = rnd.nextInt(2); // 0~2 까지 랜덤, rnd 값에 따라서 아래 switch 문이 실행됨
+            int index = rnd.nextInt(2); // 0~1 까지 랜덤, rnd 값에 따라서 아래 switch 문이 실행됨
 
             switch (index) {
                 case 0:
-                    key.append((char) ((int) (rnd.nextInt(26)) + 97));
+                    key.append((char) (rnd.nextInt(26) + 97));
                     // a~z (ex. 1+97=98 => (char)98 = 'b')
                     break;
-//                case 1:
-//                    key.append((char) ((int) (rnd.nextInt(26)) + 65));
-//                    // A~Z
-//                    break;
                 case 1:
-                    key.append((rnd.nextInt(10)));
+                    key.append(rnd.nextInt(10));
                     // 0~9
                     break;
             }
@@ -77,20 +67,46 @@ public class EmailService {
         return key.toString();
     }
 
-    public String sendSimpleMessage(String to, String page) throws Exception {
+    /**
+     * 인증 코드를 저장하고 메일 발송 큐에 넣는다 (SMTP 발송은 MailOutbox worker 가 처리)
+     *
+     * @param to       받는 사람
+     * @param page     인증 종류 (회원가입, 회원 정보)
+     * @param clientIp 요청한 IP
+     */
+    public void sendSimpleMessage(String to, String page, String clientIp) {
+        mailRateLimiter.checkSend(to, clientIp);
 
-        tempCode = createKey();
+        String code = createKey();
 
-        MimeMessage message = createMessage(to, page);
+        verificationCodeStore.save(to, code);
+        mailOutbox.enqueue(createMessage(to, page, code));
+    }
 
-        try {
-            emailSender.send(message);
-        } catch (MailException es) {
-            es.printStackTrace();
-            throw new IllegalArgumentException();
+    /**
+     * 인증 코드 확인
+     *
+     * @param email    이메일
+     * @param code     입력한 인증 코드
+     * @param clientIp 요청한 IP
+     */
+    public void verifyCode(String email, String code, String clientIp) {
+        mailRateLimiter.checkVerify(clientIp);
+
+        if (!verificationCodeStore.verify(email, code)) {
+            throw new BusinessLogicException(ExceptionCode.VERIFICATION_CODE_MISMATCH);
         }
+    }
 
-        return tempCode;
+    /**
+     * 이메일 인증 완료 여부 확인 후 소비 (회원가입, 비밀번호 변경)
+     *
+     * @param email 이메일
+     */
+    public void consumeVerifiedEmail(String email) {
+        if (!verificationCodeStore.consumeVerified(email)) {
+            throw new BusinessLogicException(ExceptionCode.EMAIL_NOT_VERIFIED);
+        }
     }
 
 }
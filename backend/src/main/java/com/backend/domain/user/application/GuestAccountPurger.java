@@ -0,0 +1,92 @@
+package com.backend.domain.user.application;
+
+import com.backend.domain.cart.dao.CartItemRepository;
+import com.backend.domain.order.dao.OrderProductRepository;
+import com.backend.domain.order.dao.OrderRepository;
+import com.backend.domain.point.dao.PointHistoryRepository;
+import com.backend.domain.product.dao.ProductRepository;
+import com.backend.domain.refreshToken.dao.RefreshTokenRepository;
+import com.backend.domain.review.dao.ReviewRepository;
+import com.backend.domain.user.dao.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게스트(체험) 계정과 그 데이터 삭제 (ScheduleTasks 에서 매일 실행)
+ * 1. 게스트 user id 를 id 순서로 chunk-size 명씩 읽음
+ * 2. chunk 마다 별도의 짧은 트랜잭션에서 외래키 순서대로 set 기반 delete (엔티티를 읽지 않음)
+ *    리뷰 -> 주문상품 -> 주문 -> 상품 -> 포인트 내역 (user.point_history_id 를 먼저 해제) -> 장바구니 / refresh token -> 유저
+ *    게스트가 등록한 상품은 다른 유저의 리뷰 / 주문상품과 함께 삭제 (이전 cascade 삭제와 같은 범위)
+ * 3. 실패하면 그 chunk 만 롤백, 다시 실행하면 남은 게스트부터 이어서 삭제 (이미 지운 데이터는 조건에 걸리지 않음)
+ * 주문을 지워도 재고는 되돌리지 않음 (체험 주문도 판매된 것으로 봄), 서버 메모리의 장바구니는 idle 후 내려감
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GuestAccountPurger {
+
+    private static final List<String> GUEST_ROLES = Arrays.asList("ROLE_USER_TEST", "ROLE_ADMIN_TEST");
+
+    private final UserRepository userRepository;
+    private final ReviewRepository reviewRepository;
+    private final OrderProductRepository orderProductRepository;
+    private final OrderRepository orderRepository;
+    private final ProductRepository productRepository;
+    private final PointHistoryRepository pointHistoryRepository;
+    private final CartItemRepository cartItemRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${guest-purge.chunk-size:100}")
+    private int chunkSize;
+
+    /**
+     * @return 삭제한 전체 row 수
+     */
+    public long purge() {
+        long guests = userRepository.countByUserRoleIn(GUEST_ROLES);
+        log.info("게스트 계정 정리 시작 : {} 명", guests);
+
+        Map<String, Long> deleted = new LinkedHashMap<>();
+        long purgedUsers = 0;
+        long afterId = 0;
+        List<Long> userIds;
+        while (!(userIds = userRepository.findIdsByUserRoleIn(GUEST_ROLES, afterId, PageRequest.of(0, chunkSize))).isEmpty()) {
+            List<Long> chunk = userIds;
+            Map<String, Integer> chunkDeleted = transactionTemplate.execute(status -> deleteChunk(chunk));
+            chunkDeleted.forEach((table, rows) -> deleted.merge(table, (long) rows, Long::sum));
+
+            purgedUsers += chunk.size();
+            afterId = chunk.get(chunk.size() - 1);
+            log.info("게스트 계정 정리 중 : {} / {} 명 (마지막 id {}) {}", purgedUsers, guests, afterId, chunkDeleted);
+        }
+
+        long total = deleted.values().stream().mapToLong(Long::longValue).sum();
+        log.info("게스트 계정 정리 완료 : {} 명, {} 건 {}", purgedUsers, total, deleted);
+        return total;
+    }
+
+    // 한 chunk 삭제 (외래키 순서), 테이블별 삭제 건수
+    private Map<String, Integer> deleteChunk(List<Long> userIds) {
+        Map<String, Integer> deleted = new LinkedHashMap<>();
+        deleted.put("review", reviewRepository.deleteByUserIds(userIds));
+        deleted.put("order_product", orderProductRepository.deleteByUserIds(userIds));
+        deleted.put("orders", orderRepository.deleteByUserIds(userIds));
+        deleted.put("product", productRepository.deleteByUserIds(userIds));
+        userRepository.clearPointHistory(userIds);
+        deleted.put("point_history", pointHistoryRepository.deleteByUserIds(userIds));
+        deleted.put("cart_item", cartItemRepository.deleteByUserIds(userIds));
+        deleted.put("refresh_token", refreshTokenRepository.deleteAllByUserIdIn(userIds));
+        deleted.put("user", userRepository.deleteByUserIds(userIds));
+        return deleted;
+    }
+}
@@ -0,0 +1,73 @@
+package com.backend.domain.user.application;
+
+import com.backend.domain.user.dto.UserLoginResponseDto;
+import com.backend.global.utils.TimingWheel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 토큰 재발급 응답용 유저 프로필 캐시 (메모리)
+ * 1. 재발급은 refresh token claims 로 access token 을 만들고, 응답 body 의 프로필만 여기서 꺼낸다
+ * 2. 없으면 한 번만 DB 에서 읽고 ttl-seconds 동안 보관 (1초 단위 timing wheel 로 제거)
+ * 3. 프로필 수정 / 탈퇴 시 evict, 다른 서버의 캐시는 ttl 이 지나면 갱신된다
+ */
+@Component
+public class LoginProfileCache {
+
+    @Value("${jwt.reissue.profile-cache-seconds:300}")
+    private long ttlSeconds;
+
+    private final Map<Long, UserLoginResponseDto> profiles = new ConcurrentHashMap<>();
+    private final TimingWheel<Long> expiryWheel = new TimingWheel<>(1000, 3600, profiles::remove);
+
+    public UserLoginResponseDto get(Long userId, Supplier<UserLoginResponseDto> loader) {
+        UserLoginResponseDto profile = profiles.get(userId);
+        if (profile != null) {
+            return profile;
+        }
+
+        profile = loader.get();
+        profiles.put(userId, profile);
+        expiryWheel.schedule(userId, System.currentTimeMillis() + ttlSeconds * 1000);
+        return profile;
+    }
+
+    public void evict(Long userId) {
+        profiles.remove(userId);
+        expiryWheel.cancel(userId);
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋된 뒤에 evict
+     * 커밋 전에 지우면 그 사이 재발급 요청이 수정 전 값을 다시 캐시에 넣을 수 있다
+     */
+    public void evictAfterCommit(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(userId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(userId);
+            }
+        });
+    }
+
+    public int size() {
+        return profiles.size();
+    }
+
+    @Scheduled(fixedDelay = 1000)
+    public void sweep() {
+        expiryWheel.advance(System.currentTimeMillis());
+    }
+}
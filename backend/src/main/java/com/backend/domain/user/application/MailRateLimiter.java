@@ -0,0 +1,56 @@
+package com.backend.domain.user.application;
+
+import com.backend.global.error.BusinessLogicException;
+import com.backend.global.error.ExceptionCode;
+import com.backend.global.utils.TokenBucketLimiter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인증 메일 발송 / 인증 코드 확인 요청 제한 (이메일별, IP별 token bucket)
+ */
+@Slf4j
+@Component
+public class MailRateLimiter {
+
+    private final TokenBucketLimiter emailLimiter;
+    private final TokenBucketLimiter ipLimiter;
+
+    public MailRateLimiter(@Value("${mail.rate-limit.email-capacity:3}") int emailCapacity,
+                           @Value("${mail.rate-limit.email-refill-seconds:60}") long emailRefillSeconds,
+                           @Value("${mail.rate-limit.ip-capacity:20}") int ipCapacity,
+                           @Value("${mail.rate-limit.ip-refill-seconds:10}") long ipRefillSeconds) {
+        this.emailLimiter = new TokenBucketLimiter(emailCapacity, emailRefillSeconds * 1000);
+        this.ipLimiter = new TokenBucketLimiter(ipCapacity, ipRefillSeconds * 1000);
+    }
+
+    // 메일 발송 요청 제한
+    public void checkSend(String email, String clientIp) {
+        checkIp(clientIp);
+
+        if (!emailLimiter.tryAcquire(email)) {
+            log.warn("인증 메일 발송 제한 : {}", email);
+            throw new BusinessLogicException(ExceptionCode.TOO_MANY_REQUESTS);
+        }
+    }
+
+    // 인증 코드 확인 요청 제한
+    public void checkVerify(String clientIp) {
+        checkIp(clientIp);
+    }
+
+    @Scheduled(fixedDelay = 1000)
+    public void evictIdle() {
+        emailLimiter.evictIdle();
+        ipLimiter.evictIdle();
+    }
+
+    private void checkIp(String clientIp) {
+        if (!ipLimiter.tryAcquire(clientIp)) {
+            log.warn("인증 메일 요청 제한 (IP) : {}", clientIp);
+            throw new BusinessLogicException(ExceptionCode.TOO_MANY_REQUESTS);
+        }
+    }
+}
@@ -3,9 +3,8 @@ package com.backend.domain.user.application;
 import com.backend.domain.point.application.PointService;
 import com.backend.domain.point.dao.PointHistoryRepository;
 import com.backend.domain.point.domain.PointType;
-import com.backend.domain.refreshToken.dao.RefreshTokenRepository;
-import com.backend.domain.refreshToken.domain.RefreshToken;
-import com.backend.domain.review.dao.ReviewRepository;
+import com.backend.domain.refreshToken.application.RefreshTokenService;
+import com.backend.domain.refreshToken.application.RefreshTokenStore;
 import com.backend.domain.user.dao.UserRepository;
 import com.backend.domain.user.domain.User;
 import com.backend.domain.user.dto.PasswordDto;
@@ -16,6 +15,7 @@ import com.backend.global.error.BusinessLogicException;
 import com.backend.global.error.ExceptionCode;
 import com.backend.global.utils.jwt.JwtTokenizer;
 import com.google.gson.JsonObject;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.security.SignatureException;
@@ -37,22 +37,26 @@ public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenizer jwtTokenizer;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
+    private final RefreshTokenService refreshTokenService;
     private final PointHistoryRepository pointHistoryRepository;
     private final PointService pointService;
-    private final ReviewRepository reviewRepository;
+    private final LoginProfileCache loginProfileCache;
+    private final EmailService emailService;
 
     private Long guestId;
     private Long adminTestId;
 
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder, JwtTokenizer jwtTokenizer, RefreshTokenRepository refreshTokenRepository, PointHistoryRepository pointHistoryRepository, PointService pointService, ReviewRepository reviewRepository) {
+    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder, JwtTokenizer jwtTokenizer, RefreshTokenStore refreshTokenStore, RefreshTokenService refreshTokenService, PointHistoryRepository pointHistoryRepository, PointService pointService, LoginProfileCache loginProfileCache, EmailService emailService) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtTokenizer = jwtTokenizer;
-        this.refreshTokenRepository = refreshTokenRepository;
+        this.refreshTokenStore = refreshTokenStore;
+        this.refreshTokenService = refreshTokenService;
         this.pointHistoryRepository = pointHistoryRepository;
         this.pointService = pointService;
-        this.reviewRepository = reviewRepository;
+        this.loginProfileCache = loginProfileCache;
+        this.emailService = emailService;
 
         guestId = userRepository.countByUserRole("ROLE_USER_TEST") + 1L;
         adminTestId = userRepository.countByUserRole("ROLE_ADMIN_TEST") + 1L;
@@ -100,6 +104,9 @@ public class UserService {
             }
         }
 
+        emailService.consumeVerifiedEmail(user.getEmail());
+        log.info("이메일 인증 확인");
+
         user.setPassword(passwordEncoder.encode(user.getPassword()));
         log.info("비밀번호 암호화");
         pointService.addCash(user, 1000000, PointType.SignUpPoint);
@@ -107,13 +114,13 @@ public class UserService {
     }
 
     private boolean isNotExistsEmailByOriginal(String email) {
-        log.info("탈퇴 여부 확인 : " + email);
+        log.info("탈퇴 여부 확인 : {}", email);
         Optional<User> notExistUser = userRepository.findByEmailAndUserStatusAndSocialLogin(email, User.UserStatus.USER_NOT_EXIST, "original");
         return notExistUser.isPresent();
     }
 
     private void verifyExistsEmailByOriginal(String email) { // 현재 활동중인 일반 회원가입으로 가입한 유저의 이미 등록된 이메일인지 확인
-        log.info("이메일 중복 확인 : " + email);
+        log.info("이메일 중복 확인 : {}", email);
         Optional<User> existUser = userRepository.findByEmailAndUserStatusAndSocialLogin(email, User.UserStatus.USER_EXIST, "original");
         if (existUser.isPresent()) {
             log.info("이미 등록된 이메일");
@@ -123,7 +130,7 @@ public class UserService {
     }
 
     private void verifyExistsNicknameByOriginal(String nickname) { //중복닉네임인지 확인
-        log.info("닉네임 중복 확인 : " + nickname);
+        log.info("닉네임 중복 확인 : {}", nickname);
         Optional<User> user = userRepository.findByNicknameAndUserStatusAndSocialLogin(nickname, User.UserStatus.USER_EXIST, "original");
         if (user.isPresent()) {
             log.info("이미 등록된 닉네임");
@@ -147,7 +154,7 @@ public class UserService {
     }
 
     public void getUserByEmail(String email) {
-        log.info("이메일로 유저 조회 : " + email);
+        log.info("이메일로 유저 조회 : {}", email);
         Optional<User> user = Optional.ofNullable(userRepository.findByEmail(email).orElseThrow(
                 () ->
                         new BusinessLogicException(ExceptionCode.USER_NOT_FOUND)));
@@ -161,6 +168,7 @@ public class UserService {
         if (!Objects.equals(user.getNickname(), findUser.getNickname())) {
             verifyExistsNicknameByOriginal(user.getNickname());
         }
+        loginProfileCache.evictAfterCommit(findUser.getUserId());
 
         Optional.ofNullable(user.getModifiedAt())
                 .ifPresent(findUser::setModifiedAt);
@@ -196,32 +204,44 @@ public class UserService {
 
     /**
      * Refresh Token으로 Access Token 재발급
+     * access token 은 검증이 끝난 refresh token claims (userId, userRole) 로 만든다
+     * 탈퇴한 유저는 refresh token 이 삭제되어 rotate 에서 거절되므로 유저를 다시 조회하지 않는다
      *
      * @param refreshToken 재발급 요청한 유저의 Refresh Token
      * @param response     재발급한 Access Token을 Response Header에 담기 위한 HttpServletResponse
      * @return 재발급 받은 User 정보
      */
     @SneakyThrows
+    @Transactional(noRollbackFor = BusinessLogicException.class) // 재사용 감지 시 token family 삭제는 유지
     public UserLoginResponseDto createAccessToken(String refreshToken, HttpServletResponse response) {
-        User user = getUser(refreshToken);
+        Claims claims = getRefreshTokenClaims(refreshToken);
+        String newRefreshToken = refreshTokenService.rotate(claims, refreshToken);
+
+        Long userId = Long.parseLong(claims.get("userId").toString());
+
+        Map<String, Object> accessClaims = new HashMap<>();
+        accessClaims.put("userId", userId);
+        accessClaims.put("userRole", claims.get("userRole", String.class));
 
-        String subject = user.getUserId().toString();
+        String subject = userId.toString();
         Date expiration = jwtTokenizer.getTokenExpiration(jwtTokenizer.getAccessTokenExpirationMillisecond());
         String base64EncodedSecretKey = jwtTokenizer.encodeBase64SecretKey(jwtTokenizer.getAccessSecretKey());
 
-        Map<String, Object> claims = jwtTokenizer.getClaims(refreshToken, base64EncodedSecretKey).getBody();
-
-        String accessToken = "Bearer " + jwtTokenizer.generateAccessToken(claims, subject, expiration, base64EncodedSecretKey);
-        log.info("재발급 : accessToken 생성완료 {}", accessToken);
-        log.info("accessToken : {}", accessToken);
+        String accessToken = "Bearer " + jwtTokenizer.generateAccessToken(accessClaims, subject, expiration, base64EncodedSecretKey);
+        log.info("재발급 : accessToken 생성완료 {}", userId);
 
         response.setHeader("Authorization", accessToken);
+        // 동시에 들어온 재발급 요청이면 먼저 교체한 요청의 새 토큰을 같이 내려줌 (다른 서버에서 교체됐으면 null)
+        if (newRefreshToken != null) {
+            response.setHeader("refreshToken", newRefreshToken);
+        }
 
-        return UserLoginResponseDto.toResponse(user);
+        return loginProfileCache.get(userId, () -> UserLoginResponseDto.toResponse(findVerifiedUser(userId)));
     }
 
     /**
-     * UserId로 유저, RefreshToken 조회 후 토큰 삭제
+     * UserId로 유저 조회 후 토큰 삭제
+     * 삭제된 토큰이 없으면 이미 로그아웃된 상태
      *
      * @param userId 유저 ID
      */
@@ -229,34 +249,22 @@ public class UserService {
     public void logout(Long userId) {
         findVerifiedUser(userId);
         log.info("로그아웃: {}", userId);
-        findVerifiedRefreshToken(userId);
-        refreshTokenRepository.deleteByKey(userId);
-    }
 
-    private void findVerifiedRefreshToken(Long userId) {
-        Optional<RefreshToken> optionalRefreshToken = refreshTokenRepository.findById(userId);
-
-        RefreshToken findUser = optionalRefreshToken.orElseThrow(() ->
-                new BusinessLogicException(ExceptionCode.ALRREADY_LOGOUT));
+        if (!refreshTokenStore.delete(userId)) {
+            throw new BusinessLogicException(ExceptionCode.ALRREADY_LOGOUT);
+        }
     }
 
 
-    private User getUser(String refreshToken) {
-        Map<String, Object> claims;
-        User user;
+    private Claims getRefreshTokenClaims(String refreshToken) {
         try {
             String base64EncodedSecretKey = jwtTokenizer.encodeBase64SecretKey(jwtTokenizer.getRefreshSecretKey());
-            claims = jwtTokenizer.getClaims(refreshToken, base64EncodedSecretKey).getBody();
-            Long userId = Long.parseLong(claims.get("userId").toString());
-            user = userRepository.findById(userId).get();
+            return jwtTokenizer.getClaims(refreshToken, base64EncodedSecretKey).getBody();
         } catch (SignatureException se) {
             throw new JwtException("사용자 인증 실패");
         } catch (ExpiredJwtException ee) {
             throw new JwtException("토큰 기한 만료");
-        } catch (Exception e) {
-            throw e;
         }
-        return user;
     }
 
     @Transactional
@@ -355,16 +363,17 @@ public class UserService {
 
     public void deleteUser(User user) {
         log.info("유저 삭제 : {}", user.getEmail());
+        loginProfileCache.evictAfterCommit(user.getUserId());
 
         if (user.getSocialLogin().equals("original")) {
             user.setUserStatus(User.UserStatus.USER_NOT_EXIST);
-            refreshTokenRepository.deleteByKey(user.getUserId());
+            refreshTokenStore.delete(user.getUserId());
 //            pointRepository.deleteByUser(user);
             userRepository.save(user);
         } else {
             log.info("소셜 로그인 회원탈퇴 : {}", user.getEmail());
             pointHistoryRepository.deleteByUser(user);
-            refreshTokenRepository.deleteByKey(user.getUserId());
+            refreshTokenStore.delete(user.getUserId());
             userRepository.delete(user);
         }
         log.info("유저 삭제 완료 : {}", user.getEmail());
@@ -378,6 +387,8 @@ public class UserService {
         log.info("새 비밀번호 발급 : {}", email);
         User user = userRepository.findByEmail(email).orElseThrow(() ->
                 new BusinessLogicException(ExceptionCode.USER_NOT_FOUND));
+        emailService.consumeVerifiedEmail(email);
+        log.info("이메일 인증 확인");
 
         user.changePassword(newPassword);
         log.info("비밀번호 변경 완료");
@@ -395,11 +406,4 @@ public class UserService {
 
         return email;
     }
-
-    @Transactional
-    public void deleteGustAccount() {
-        reviewRepository.deleteByUser_UserRoleOrUser_UserRole("ROLE_USER_TEST", "ROLE_ADMIN_TEST");
-        pointHistoryRepository.deleteByUser_UserRoleOrUser_UserRole("ROLE_USER_TEST", "ROLE_ADMIN_TEST");
-        userRepository.deleteAllByUserRoleOrUserRole("ROLE_USER_TEST", "ROLE_ADMIN_TEST");
-    }
 }
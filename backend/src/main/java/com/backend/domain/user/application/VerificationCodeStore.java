@@ -0,0 +1,132 @@
+package com.backend.domain.user.application;
+
+import com.backend.global.utils.TimingWheel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 이메일 인증 코드 저장소 (메모리, DB 쓰기 없음)
+ * 1. 이메일마다 마지막으로 발급한 코드만 유지
+ * 2. 유효시간이 지난 코드는 1초 단위 timing wheel 로 제거 (전체 map 을 훑지 않음)
+ * 3. 인증에 성공한 코드는 바로 삭제 (한 번만 사용 가능), max-failures 번 틀리면 코드 폐기
+ * 4. 인증에 성공한 이메일은 verified-ttl-seconds 동안 인증 완료로 남기고, 회원가입 / 비밀번호 변경에서 한 번 소비한다
+ */
+@Component
+public class VerificationCodeStore {
+
+    @Value("${mail.verification.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    @Value("${mail.verification.max-failures:5}")
+    private int maxFailures;
+
+    @Value("${mail.verification.verified-ttl-seconds:1800}")
+    private long verifiedTtlSeconds;
+
+    private final Map<String, VerificationCode> codes = new ConcurrentHashMap<>();
+    private final TimingWheel<String> expiryWheel = new TimingWheel<>(1000, 3600, codes::remove);
+
+    // 인증 완료 이메일 -> 만료 시각
+    private final Map<String, Long> verified = new ConcurrentHashMap<>();
+    private final TimingWheel<String> verifiedExpiryWheel = new TimingWheel<>(1000, 3600, verified::remove);
+
+    public void save(String email, String code) {
+        long expiresAt = System.currentTimeMillis() + ttlSeconds * 1000;
+
+        codes.put(email, new VerificationCode(code, expiresAt));
+        expiryWheel.schedule(email, expiresAt);
+    }
+
+    /**
+     * 인증 코드 확인 (비교 시간이 코드 내용에 따라 달라지지 않도록 MessageDigest.isEqual 사용)
+     *
+     * @param email 이메일
+     * @param code  입력한 인증 코드
+     * @return 일치하면 true
+     */
+    public boolean verify(String email, String code) {
+        VerificationCode verificationCode = codes.get(email);
+        if (verificationCode == null || code == null
+                || verificationCode.getExpiresAt() <= System.currentTimeMillis()) {
+            return false;
+        }
+
+        if (verificationCode.matches(code)) {
+            if (codes.remove(email, verificationCode)) {
+                expiryWheel.cancel(email);
+                markVerified(email);
+                return true;
+            }
+            return false;
+        }
+
+        if (verificationCode.fail() >= maxFailures) {
+            codes.remove(email, verificationCode);
+            expiryWheel.cancel(email);
+        }
+        return false;
+    }
+
+    /**
+     * 인증 완료 표시 소비 (한 번만 사용 가능)
+     *
+     * @param email 이메일
+     * @return 유효시간 안에 인증을 마친 이메일이면 true
+     */
+    public boolean consumeVerified(String email) {
+        Long expiresAt = verified.remove(email);
+        if (expiresAt == null) {
+            return false;
+        }
+        verifiedExpiryWheel.cancel(email);
+        return expiresAt > System.currentTimeMillis();
+    }
+
+    public int size() {
+        return codes.size();
+    }
+
+    @Scheduled(fixedDelay = 1000)
+    public void sweep() {
+        long now = System.currentTimeMillis();
+        expiryWheel.advance(now);
+        verifiedExpiryWheel.advance(now);
+    }
+
+    private void markVerified(String email) {
+        long expiresAt = System.currentTimeMillis() + verifiedTtlSeconds * 1000;
+
+        verified.put(email, expiresAt);
+        verifiedExpiryWheel.schedule(email, expiresAt);
+    }
+
+    private static class VerificationCode {
+        private final byte[] code;
+        private final long expiresAt;
+        private final AtomicInteger failures = new AtomicInteger();
+
+        private VerificationCode(String code, long expiresAt) {
+            this.code = code.getBytes(StandardCharsets.UTF_8);
+            this.expiresAt = expiresAt;
+        }
+
+        private long getExpiresAt() {
+            return expiresAt;
+        }
+
+        private boolean matches(String input) {
+            return MessageDigest.isEqual(code, input.getBytes(StandardCharsets.UTF_8));
+        }
+
+        private int fail() {
+            return failures.incrementAndGet();
+        }
+    }
+}
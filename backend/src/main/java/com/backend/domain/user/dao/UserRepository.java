@@ -1,8 +1,13 @@
 package com.backend.domain.user.dao;
 
 import com.backend.domain.user.domain.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -14,6 +19,20 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByNicknameAndUserStatusAndSocialLogin(String nickname, User.UserStatus userExist, String original);
     Optional<User> findByEmail(String email);
     Optional<User> findByPhone(String phoneNumber);
-    void deleteAllByUserRoleOrUserRole(String guestUserRole, String guestAdminRole);
+
+    // 게스트 정리 대상 id (id 순서로 afterId 다음부터)
+    @Query("select u.userId from User u where u.userRole in :userRoles and u.userId > :afterId order by u.userId")
+    List<Long> findIdsByUserRoleIn(@Param("userRoles") List<String> userRoles, @Param("afterId") long afterId, Pageable pageable);
+
+    long countByUserRoleIn(List<String> userRoles);
+
+    // user -> point_history 외래키를 먼저 끊어야 포인트 내역을 지울 수 있음
+    @Modifying
+    @Query("update User u set u.pointHistory = null where u.userId in :userIds")
+    int clearPointHistory(@Param("userIds") List<Long> userIds);
+
+    @Modifying
+    @Query("delete from User u where u.userId in :userIds")
+    int deleteByUserIds(@Param("userIds") List<Long> userIds);
     long countByUserRole(String userRole);
 }
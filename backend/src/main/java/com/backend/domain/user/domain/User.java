@@ -6,10 +6,12 @@ import com.backend.domain.point.domain.PointHistory;
 import com.backend.domain.product.domain.Product;
 import com.backend.domain.user.dto.UserPatchDto;
 import com.backend.global.audit.Auditable;
+import com.backend.global.jpa.PooledIdGenerator;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.GenericGenerator;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import javax.persistence.*;
@@ -20,10 +22,16 @@ import java.util.List;
 @Setter
 @Getter
 @NoArgsConstructor
+@Table(indexes = {
+        @Index(name = "idx_user_email", columnList = "email"), // 로그인, 이메일 중복 검사
+        @Index(name = "idx_user_nickname", columnList = "nickname"), // 닉네임 중복 검사
+        @Index(name = "idx_user_user_role_user_id", columnList = "userRole, userId") // 게스트 계정 정리 (id 순)
+})
 public class User extends Auditable {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = PooledIdGenerator.NAME)
+    @GenericGenerator(name = PooledIdGenerator.NAME, strategy = PooledIdGenerator.STRATEGY)
     private Long userId;
 
     @Column(nullable = false)
@@ -17,6 +17,18 @@ public class EmailDto {
         private String email;
     }
 
+    @Getter
+    @Builder
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class RequestVerifyCode {
+        @NotBlank
+        @Email
+        private String email;
+        @NotBlank
+        private String code;
+    }
+
     @Getter
     @Builder
     public static class ResponseMail {
@@ -0,0 +1,128 @@
+package com.backend.global.bulkhead;
+
+import com.backend.global.error.BusinessLogicException;
+import com.backend.global.error.ExceptionCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 외부 호출(결제, S3 등)을 연동별 전용 executor 에서 실행해서 느린 외부 서비스가 요청 스레드를 모두 잡지 않게 함
+ * 1. 동시 실행은 maxConcurrent, 대기는 queueCapacity 까지만 허용하고 넘치면 바로 BULKHEAD_FULL(503)
+ * 2. timeout 안에 끝나지 않으면 작업을 interrupt 하고 UPSTREAM_TIMEOUT(504)
+ * 3. 실행 스레드는 BulkheadExecutors 가 결정 (JDK 21+ 면 virtual thread, 아니면 maxConcurrent 크기의 전용 풀)
+ * 지표 : bulkhead.available (남은 자리), bulkhead.rejected, bulkhead.timeout (tag name)
+ */
+@Slf4j
+public class Bulkhead {
+
+    private final String name;
+    private final ExecutorService executor;
+    // 실행 중 + 대기 중 작업 수 제한
+    private final Semaphore admission;
+    // virtual thread 모드에서 동시 실행 수 제한 (전용 풀 모드는 풀 크기가 제한하므로 null)
+    private final Semaphore concurrency;
+    private final long timeoutMillis;
+    private final Counter rejected;
+    private final Counter timedOut;
+
+    public Bulkhead(String name, BulkheadExecutors.Mode mode, int maxConcurrent, int queueCapacity,
+                    long timeoutMillis, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.executor = BulkheadExecutors.create(name, mode, maxConcurrent);
+        this.admission = new Semaphore(maxConcurrent + queueCapacity);
+        this.concurrency = mode == BulkheadExecutors.Mode.VIRTUAL ? new Semaphore(maxConcurrent) : null;
+        this.timeoutMillis = timeoutMillis;
+        this.rejected = meterRegistry.counter("bulkhead.rejected", "name", name);
+        this.timedOut = meterRegistry.counter("bulkhead.timeout", "name", name);
+        Gauge.builder("bulkhead.available", admission, Semaphore::availablePermits)
+                .tag("name", name)
+                .register(meterRegistry);
+
+        log.info("bulkhead {} : {} 모드, 동시 실행 {}, 대기 {}, timeout {} ms", name, mode, maxConcurrent, queueCapacity, timeoutMillis);
+    }
+
+    /**
+     * 전용 executor 에서 task 를 실행하고 결과를 기다림
+     * task 가 던진 RuntimeException 은 그대로 다시 던지고, checked 예외는 UPSTREAM_FAILED 로 감쌈
+     */
+    public <T> T call(Callable<T> task) {
+        if (!admission.tryAcquire()) {
+            rejected.increment();
+            throw new BusinessLogicException(name + " 요청이 너무 많습니다.", ExceptionCode.BULKHEAD_FULL);
+        }
+
+        // 시작 전에 취소되면 task 가 실행되지 않으므로 done() 에서 자리를 반납
+        AtomicBoolean started = new AtomicBoolean();
+        FutureTask<T> future = new FutureTask<T>(() -> {
+            if (!started.compareAndSet(false, true)) {
+                return null;
+            }
+            try {
+                return concurrency == null ? task.call() : callLimited(task);
+            } finally {
+                admission.release();
+            }
+        }) {
+            @Override
+            protected void done() {
+                if (started.compareAndSet(false, true)) {
+                    admission.release();
+                }
+            }
+        };
+
+        try {
+            executor.execute(future);
+        } catch (RejectedExecutionException e) {
+            future.cancel(false);
+            rejected.increment();
+            throw new BusinessLogicException(name + " 요청이 너무 많습니다.", ExceptionCode.BULKHEAD_FULL);
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timedOut.increment();
+            throw new BusinessLogicException(name + " 응답 시간이 초과되었습니다.", ExceptionCode.UPSTREAM_TIMEOUT);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new BusinessLogicException(name + " 호출 중단", ExceptionCode.UPSTREAM_FAILED);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new BusinessLogicException(name + " 호출 실패 : " + cause.getMessage(), ExceptionCode.UPSTREAM_FAILED);
+        }
+    }
+
+    private <T> T callLimited(Callable<T> task) throws Exception {
+        concurrency.acquire();
+        try {
+            return task.call();
+        } finally {
+            concurrency.release();
+        }
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,64 @@
+package com.backend.global.bulkhead;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bulkhead 실행 스레드 생성
+ * 빌드는 Java 11 기준이라 virtual thread API 는 reflection 으로 찾고, 없으면 전용 풀을 사용
+ */
+@Slf4j
+public final class BulkheadExecutors {
+
+    public enum Mode {
+        VIRTUAL, // 작업마다 virtual thread (JDK 21+)
+        PLATFORM // maxConcurrent 크기의 전용 스레드 풀
+    }
+
+    private BulkheadExecutors() {
+    }
+
+    /**
+     * @param preferVirtualThreads true 면 virtual thread 를 사용할 수 있을 때 VIRTUAL
+     */
+    public static Mode mode(boolean preferVirtualThreads) {
+        return preferVirtualThreads && virtualThreadsAvailable() ? Mode.VIRTUAL : Mode.PLATFORM;
+    }
+
+    static ExecutorService create(String name, Mode mode, int maxConcurrent) {
+        if (mode == Mode.VIRTUAL) {
+            return newVirtualThreadPerTaskExecutor();
+        }
+        // 대기열 크기는 Bulkhead 의 admission 이 제한하므로 여기서는 제한 없는 큐
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(maxConcurrent, maxConcurrent,
+                60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                new CustomizableThreadFactory(name + "-bulkhead-"));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static boolean virtualThreadsAvailable() {
+        try {
+            newVirtualThreadPerTaskExecutor().shutdown();
+            return true;
+        } catch (UnsupportedOperationException e) {
+            return false;
+        }
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            // Java 21 미만 (메서드 없음 / preview 비활성화)
+            throw new UnsupportedOperationException("virtual thread 를 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.backend.global.bulkhead;
+
+import com.backend.global.error.BusinessLogicException;
+import com.backend.global.error.ExceptionCode;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.Callable;
+import java.util.function.Predicate;
+
+/**
+ * 외부 호출이 연속으로 실패하면 일정 시간 호출을 막는 circuit breaker
+ * CLOSED : 정상 호출, 연속 실패가 failureThreshold 에 도달하면 OPEN
+ * OPEN : openMillis 동안 호출 없이 바로 CIRCUIT_OPEN(503)
+ * HALF_OPEN : openMillis 가 지나면 한 건만 시험 호출, 성공하면 CLOSED / 실패하면 다시 OPEN
+ * 결과를 받은 호출만 성공으로 보고, recordAsFailure 에 해당하는 예외만 실패로 센다
+ * 그 밖의 예외 (bulkhead 가 가득 찬 BULKHEAD_FULL 등 외부 서비스까지 가지 않은 거절) 는 상태를 바꾸지 않고
+ * HALF_OPEN 시험 호출 자리만 반납한다
+ * 지표 : circuit.state (0 CLOSED, 1 HALF_OPEN, 2 OPEN, tag name)
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, HALF_OPEN, OPEN
+    }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openMillis;
+    private final Predicate<Throwable> recordAsFailure;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    public CircuitBreaker(String name, int failureThreshold, long openMillis,
+                          Predicate<Throwable> recordAsFailure, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openMillis;
+        this.recordAsFailure = recordAsFailure;
+        Gauge.builder("circuit.state", this, breaker -> breaker.getState().ordinal())
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    public <T> T call(Callable<T> task) throws Exception {
+        acquirePermission();
+        try {
+            T result = task.call();
+            onSuccess();
+            return result;
+        } catch (Exception e) {
+            if (recordAsFailure.test(e)) {
+                onFailure();
+            } else {
+                onIgnored();
+            }
+            throw e;
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    private synchronized void acquirePermission() {
+        if (state == State.OPEN && System.currentTimeMillis() - openedAt >= openMillis) {
+            state = State.HALF_OPEN;
+            trialInFlight = false;
+        }
+        if (state == State.OPEN || (state == State.HALF_OPEN && trialInFlight)) {
+            throw new BusinessLogicException(name + " 호출이 일시 중단되었습니다.", ExceptionCode.CIRCUIT_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            trialInFlight = true;
+        }
+    }
+
+    private synchronized void onSuccess() {
+        if (state != State.CLOSED) {
+            log.info("circuit {} : {} -> CLOSED", name, state);
+        }
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        trialInFlight = false;
+    }
+
+    // 외부 응답이 아닌 결과 : 연속 실패 수와 상태는 그대로 두고 시험 호출 자리만 반납
+    private synchronized void onIgnored() {
+        trialInFlight = false;
+    }
+
+    private synchronized void onFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            log.warn("circuit {} : {} -> OPEN (연속 실패 {} 회)", name, state, consecutiveFailures);
+            state = State.OPEN;
+            openedAt = System.currentTimeMillis();
+            trialInFlight = false;
+        }
+    }
+}
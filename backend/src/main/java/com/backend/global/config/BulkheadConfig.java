@@ -0,0 +1,37 @@
+package com.backend.global.config;
+
+import com.backend.global.bulkhead.Bulkhead;
+import com.backend.global.bulkhead.BulkheadExecutors;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 외부 연동별 bulkhead (결제 승인, S3 업로드)
+ * 메일은 MailOutbox 의 발송 worker / 대기열이 같은 역할을 하므로 따로 두지 않음
+ */
+@Configuration
+public class BulkheadConfig {
+
+    @Value("${bulkhead.virtual-threads:true}")
+    private boolean preferVirtualThreads;
+
+    @Bean(destroyMethod = "shutdown")
+    public Bulkhead paymentBulkhead(MeterRegistry meterRegistry,
+                                    @Value("${bulkhead.payment.max-concurrent:10}") int maxConcurrent,
+                                    @Value("${bulkhead.payment.queue-capacity:20}") int queueCapacity,
+                                    @Value("${bulkhead.payment.timeout-millis:10000}") long timeoutMillis) {
+        return new Bulkhead("payment", BulkheadExecutors.mode(preferVirtualThreads),
+                maxConcurrent, queueCapacity, timeoutMillis, meterRegistry);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public Bulkhead s3Bulkhead(MeterRegistry meterRegistry,
+                               @Value("${bulkhead.s3.max-concurrent:16}") int maxConcurrent,
+                               @Value("${bulkhead.s3.queue-capacity:32}") int queueCapacity,
+                               @Value("${bulkhead.s3.timeout-millis:15000}") long timeoutMillis) {
+        return new Bulkhead("s3", BulkheadExecutors.mode(preferVirtualThreads),
+                maxConcurrent, queueCapacity, timeoutMillis, meterRegistry);
+    }
+}
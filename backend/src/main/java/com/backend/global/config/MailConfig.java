@@ -45,12 +45,16 @@ public class MailConfig {
         properties.setProperty("mail.smtp.auth", "true");
         // smtp strattles 사용
         properties.setProperty("mail.smtp.starttls.enable", "true");
-        // 디버그 사용
-        properties.setProperty("mail.debug", "true");
+        // 디버그 사용 (SMTP 통신 내용 전체를 stdout 으로 출력하므로 운영에서는 끔)
+        properties.setProperty("mail.debug", "false");
         // ssl 인증 서버는 smtp.naver.com
         properties.setProperty("mail.smtp.ssl.trust", "smtp.naver.com");
         // ssl 사용
         properties.setProperty("mail.smtp.ssl.enable", "true");
+        // 연결 / 응답 대기 시간 (ms), 발송 worker 가 SMTP 서버 때문에 멈춰있지 않도록
+        properties.setProperty("mail.smtp.connectiontimeout", "5000");
+        properties.setProperty("mail.smtp.timeout", "10000");
+        properties.setProperty("mail.smtp.writetimeout", "10000");
         return properties;
     }
 }
@@ -0,0 +1,47 @@
+package com.backend.global.config;
+
+import com.backend.global.config.auth.login.BoundedPasswordEncoder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비밀번호 암호화 설정
+ * strength 를 바꿔도 기존 해시는 저장된 cost 로 비교되므로 그대로 로그인 가능
+ * (strength 별 비용은 jmh 의 PasswordEncoderBenchmark 로 확인)
+ */
+@Configuration
+public class PasswordEncoderConfig {
+
+    @Value("${security.password.bcrypt-strength:10}")
+    private int strength;
+
+    // 0 이면 CPU 코어 수
+    @Value("${security.password.hashing-threads:0}")
+    private int threads;
+
+    @Value("${security.password.hashing-queue-capacity:100}")
+    private int queueCapacity;
+
+    @Value("${security.password.hashing-timeout-millis:3000}")
+    private long timeoutMillis;
+
+    @Bean(destroyMethod = "shutdown")
+    public BoundedPasswordEncoder passwordEncoder() {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("password-hashing-"),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(strength), executor, timeoutMillis);
+    }
+}
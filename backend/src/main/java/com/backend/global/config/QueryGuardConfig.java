@@ -0,0 +1,60 @@
+package com.backend.global.config;
+
+import com.backend.global.query.QueryCountInspector;
+import com.backend.global.query.QueryGuard;
+import com.backend.global.query.QueryGuardAspect;
+import com.backend.global.query.QueryGuardFilter;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * SQL 실행 수 측정
+ * inspector 는 항상 등록되어 테스트에서 QueryCounter.start() 로 사용할 수 있고,
+ * 요청 / 서비스 메서드 단위 검사는 query-guard.enabled=true 일 때만 동작 (local / staging)
+ */
+@Configuration
+public class QueryGuardConfig {
+
+    @Value("${query-guard.mode:log}")
+    private String mode;
+
+    @Value("${query-guard.n-plus-one-threshold:5}")
+    private int nPlusOneThreshold;
+
+    @Value("${query-guard.request-budget:30}")
+    private int requestBudget;
+
+    @Value("${query-guard.method-budget:20}")
+    private int methodBudget;
+
+    @Bean
+    public HibernatePropertiesCustomizer queryCountInspectorCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCountInspector());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "query-guard.enabled", havingValue = "true")
+    public QueryGuard queryGuard() {
+        return new QueryGuard(mode, nPlusOneThreshold);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "query-guard.enabled", havingValue = "true")
+    public FilterRegistrationBean<QueryGuardFilter> queryGuardFilter(QueryGuard queryGuard) {
+        FilterRegistrationBean<QueryGuardFilter> registration = new FilterRegistrationBean<>(new QueryGuardFilter(queryGuard, requestBudget));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "query-guard.enabled", havingValue = "true")
+    public QueryGuardAspect queryGuardAspect(QueryGuard queryGuard) {
+        return new QueryGuardAspect(queryGuard, methodBudget);
+    }
+}
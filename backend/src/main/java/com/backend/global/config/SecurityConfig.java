@@ -1,13 +1,16 @@
 package com.backend.global.config;
 
-import com.backend.domain.refreshToken.dao.RefreshTokenRepository;
-import com.backend.domain.user.application.UserService;
+import com.backend.domain.refreshToken.application.RefreshTokenService;
 import com.backend.domain.user.dao.UserRepository;
 import com.backend.global.config.auth.filter.JwtAuthenticationFilter;
 import com.backend.global.config.auth.filter.JwtVerificationFilter;
 import com.backend.global.config.auth.handler.CustomOAuth2UserService;
+import com.backend.global.config.auth.handler.LoginFailureHandler;
 import com.backend.global.config.auth.handler.OAuth2userSuccessHandler;
+import com.backend.global.config.auth.login.LoginThrottle;
+import com.backend.global.utils.ClientIpResolver;
 import com.backend.global.utils.jwt.JwtTokenizer;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
@@ -20,11 +23,16 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * Spring Security 설정
@@ -35,10 +43,19 @@ import java.util.List;
 public class SecurityConfig {
 
     private final JwtTokenizer jwtTokenizer;
-    private final UserService userService;
     private final UserRepository userRepository;
     private final CustomOAuth2UserService customOAuth2UserService;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenService refreshTokenService;
+    private final LoginThrottle loginThrottle;
+    private final ClientIpResolver clientIpResolver;
+    private final MeterRegistry meterRegistry;
+
+    // 토큰 claims(userId, userRole)만으로 처리할 수 있는 조회 요청, 유저 엔티티는 필요할 때만 조회
+    private static final String[] CLAIMS_ONLY_GET_ROUTES = {
+            "/products/**", "/review/**", "/user/review",
+            "/orders", "/orders/all", "/orders/product/**", "/orders/export",
+            "/point", "/point/history", "/point/history/export"
+    };
 
     @Value("${address.front-local}")
     private String FRONT_LOCAL;
@@ -80,12 +97,16 @@ public class SecurityConfig {
                     authorize
                             .antMatchers(HttpMethod.DELETE, "/products/**").hasAnyRole("ADMIN", "ADMIN_TEST")
                             .antMatchers(HttpMethod.PATCH, "/products/**").hasAnyRole("ADMIN", "ADMIN_TEST")
+                            .antMatchers(HttpMethod.GET, "/orders/export", "/review/export", "/point/history/export").hasRole("ADMIN")
+                            .antMatchers(HttpMethod.POST, "/orders/flash-sale/**").hasRole("ADMIN")
+                            .antMatchers(HttpMethod.DELETE, "/orders/flash-sale/**").hasRole("ADMIN")
+                            .antMatchers("/admin/**").hasRole("ADMIN")
                             .anyRequest().permitAll();
                 })
                 .oauth2Login(oauth2 -> {
                     oauth2.userInfoEndpoint().userService(customOAuth2UserService);
                     log.info("customOAuth2UserService 완료하고 다시 filterChain 진입");
-                    oauth2.successHandler(new OAuth2userSuccessHandler(jwtTokenizer, userRepository, refreshTokenRepository));
+                    oauth2.successHandler(new OAuth2userSuccessHandler(jwtTokenizer, userRepository, refreshTokenService));
                 })
                 .build();
 
@@ -115,6 +136,17 @@ public class SecurityConfig {
         return source;
     }
 
+    /**
+     * @return CLAIMS_ONLY_GET_ROUTES 에 해당하는 GET 요청
+     */
+    private RequestMatcher claimsOnlyRoutes() {
+        List<RequestMatcher> matchers = Arrays.stream(CLAIMS_ONLY_GET_ROUTES)
+                .map(pattern -> new AntPathRequestMatcher(pattern, HttpMethod.GET.name()))
+                .collect(Collectors.toList());
+
+        return new OrRequestMatcher(matchers);
+    }
+
     /**
      * 커스팀 필터 설정
      */
@@ -123,9 +155,10 @@ public class SecurityConfig {
         public void configure(HttpSecurity builder) throws Exception {
             AuthenticationManager authenticationManager = builder.getSharedObject(AuthenticationManager.class);
 
-            JwtAuthenticationFilter jwtAuthenticationFilter = new JwtAuthenticationFilter(authenticationManager, userService, jwtTokenizer, refreshTokenRepository);
+            JwtAuthenticationFilter jwtAuthenticationFilter = new JwtAuthenticationFilter(authenticationManager, loginThrottle, clientIpResolver, jwtTokenizer, refreshTokenService);
             jwtAuthenticationFilter.setFilterProcessesUrl("/users/login");
-            JwtVerificationFilter jwtVerificationFilter = new JwtVerificationFilter(jwtTokenizer, userRepository);
+            jwtAuthenticationFilter.setAuthenticationFailureHandler(new LoginFailureHandler());
+            JwtVerificationFilter jwtVerificationFilter = new JwtVerificationFilter(jwtTokenizer, userRepository, claimsOnlyRoutes(), meterRegistry);
 
             builder
                     .addFilter(jwtAuthenticationFilter)
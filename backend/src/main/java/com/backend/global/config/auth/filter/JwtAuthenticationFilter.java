@@ -1,11 +1,11 @@
 package com.backend.global.config.auth.filter;
 
-import com.backend.domain.refreshToken.dao.RefreshTokenRepository;
-import com.backend.domain.refreshToken.domain.RefreshToken;
-import com.backend.domain.user.application.UserService;
+import com.backend.domain.refreshToken.application.RefreshTokenService;
 import com.backend.domain.user.domain.User;
 import com.backend.domain.user.dto.UserLoginDto;
+import com.backend.global.config.auth.login.LoginThrottle;
 import com.backend.global.config.auth.userdetails.CustomUserDetails;
+import com.backend.global.utils.ClientIpResolver;
 import com.backend.global.utils.jwt.JwtTokenizer;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.AllArgsConstructor;
@@ -37,9 +37,10 @@ import java.util.Map;
 public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilter {
 
     private final AuthenticationManager authenticationManager;
-    private final UserService userService;
+    private final LoginThrottle loginThrottle;
+    private final ClientIpResolver clientIpResolver;
     private final JwtTokenizer jwtTokenizer;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenService refreshTokenService;
 
 
     /**
@@ -61,9 +62,10 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
 
         userLoginDto = om.readValue(request.getInputStream(), UserLoginDto.class);
 
-        log.info("JwtAuthenticationFilter : " + userLoginDto);
+        log.debug("JwtAuthenticationFilter : {}", userLoginDto.getEmail());
 
-        userService.verifyExistUserByEmailAndOriginal(userLoginDto.getEmail());
+        // 유저 조회 / 비밀번호 해시 계산 전에 요청 제한 확인
+        loginThrottle.check(userLoginDto.getEmail(), clientIpResolver.resolve(request));
 
         UsernamePasswordAuthenticationToken authenticationToken =
                 new UsernamePasswordAuthenticationToken(
@@ -76,7 +78,7 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
         Authentication authenticate = authenticationManager.authenticate(authenticationToken);
 
         CustomUserDetails customUserDetails = (CustomUserDetails) authenticate.getPrincipal();
-        log.info("Authentication : " + customUserDetails.getUser().getEmail());
+        log.info("Authentication : {}", customUserDetails.getUser().getEmail());
 
         return authenticate;
     }
@@ -104,21 +106,13 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
 
         String accessToken = delegateAccessToken(user);
         log.info("JwtAuthenticationFilter: accessToken 생성완료");
-        String refreshToken = delegateRefreshToken(user);
-        log.info("JwtAuthenticationFilter: refreshToken 생성완료");
+        String refreshToken = refreshTokenService.issue(user);
+        log.info("JwtAuthenticationFilter: refreshToken 생성, 저장완료");
 
 
         response.setHeader("Authorization", "Bearer " + accessToken);
         response.setHeader("refreshToken", refreshToken);
 
-        RefreshToken refreshTokenEntity = RefreshToken.builder()
-                .key(user.getUserId())
-                .value(refreshToken)
-                .expirationDate(jwtTokenizer.getTokenExpiration(jwtTokenizer.getRefreshTokenExpirationMillisecond()))
-                .build();
-        refreshTokenRepository.save(refreshTokenEntity);
-        log.info("JwtAuthenticationFilter: refreshToken DB 저장완료");
-
         response.setContentType("application/json");
         response.setCharacterEncoding("UTF-8");
         response.getWriter().write("{\"email\":\"" + user.getEmail() + "\"," +
@@ -147,25 +141,4 @@ public class JwtAuthenticationFilter extends UsernamePasswordAuthenticationFilte
 
         return accessToken;
     }
-
-    /**
-     * refreshToken 생성
-     *
-     * @param user 유저
-     * @return refreshToken
-     */
-    private String delegateRefreshToken(User user) {
-
-        Map<String, Object> claims = new HashMap<>();
-        claims.put("userId", user.getUserId());
-        claims.put("userRole", user.getUserRole());
-
-        String subject = user.getUserId().toString();
-        Date expiration = jwtTokenizer.getTokenExpiration(jwtTokenizer.getRefreshTokenExpirationMillisecond());
-        String base64EncodedSecretKey = jwtTokenizer.encodeBase64SecretKey(jwtTokenizer.getRefreshSecretKey());
-
-        String refreshToken = jwtTokenizer.generateRefreshToken(claims, subject, expiration, base64EncodedSecretKey);
-
-        return refreshToken;
-    }
 }
@@ -4,16 +4,21 @@ package com.backend.global.config.auth.filter;
 import com.backend.domain.user.dao.UserRepository;
 import com.backend.domain.user.domain.User;
 import com.backend.global.config.auth.userdetails.CustomUserDetails;
+import com.backend.global.error.BusinessLogicException;
+import com.backend.global.error.ExceptionCode;
 import com.backend.global.utils.jwt.JwtTokenizer;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.AllArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import javax.servlet.FilterChain;
@@ -23,6 +28,10 @@ import java.util.Map;
 
 /**
  * JWT 인증을 담당
+ * claimsOnlyRoutes 에 해당하는 요청은 토큰의 userId / userRole 만으로 인증 정보를 만들고,
+ * 컨트롤러에서 유저 엔티티가 필요할 때(getUser) 조회한다
+ * 검증 시간은 jwt.verify 타이머에 result 태그(success / invalid_signature / expired / failure)로 기록
+ * 토큰 파싱 / 서명 / 만료 실패만 JwtException 으로 바꾸고, 유저 조회 실패(USER_NOT_FOUND) 같은 도메인 예외는 그대로 던짐
  */
 @AllArgsConstructor
 @Slf4j
@@ -30,6 +39,8 @@ public class JwtVerificationFilter extends OncePerRequestFilter {
 
     private final JwtTokenizer jwtTokenizer;
     private final UserRepository userRepository;
+    private final RequestMatcher claimsOnlyRoutes;
+    private final MeterRegistry meterRegistry;
 
 
     /**
@@ -44,23 +55,31 @@ public class JwtVerificationFilter extends OncePerRequestFilter {
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain) {
-        log.info("JwtVerificationFilter 실행");
+        log.debug("JwtVerificationFilter 실행");
 
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result = "failure";
         try {
             Map<String, Object> claims = verifyJws(request);
-            setAuthenticationToContext(claims);
+            setAuthenticationToContext(claims, claimsOnlyRoutes.matches(request));
+            result = "success";
 
         } catch (SignatureException se) {
+            result = "invalid_signature";
             throw new JwtException("사용자 인증 실패", se);
         } catch (ExpiredJwtException ee) {
+            result = "expired";
             throw new JwtException("토큰 기한 만료", ee);
-        } catch (Exception e) {
+        } catch (JwtException | IllegalArgumentException e) {
+            // 형식이 잘못된 토큰 / 지원하지 않는 토큰 / 빈 토큰 / userId claim 이 숫자가 아닌 토큰
             throw new JwtException("토큰 검증 실패", e);
+        } finally {
+            sample.stop(meterRegistry.timer("jwt.verify", "result", result));
         }
 
         filterChain.doFilter(request, response);
 
-        log.info("JwtVerificationFilter 종료");
+        log.debug("JwtVerificationFilter 종료");
     }
 
     /**
@@ -71,12 +90,10 @@ public class JwtVerificationFilter extends OncePerRequestFilter {
      */
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
-        log.info("JwtVerificationFilter - shouldNotFilter");
-
         String authorization = request.getHeader("Authorization");
         boolean bearer = authorization == null || !authorization.startsWith("Bearer");
 
-        log.info("shouldNotFilter : {}", bearer);
+        log.debug("shouldNotFilter : {}", bearer);
 
         return bearer;
     }
@@ -88,14 +105,12 @@ public class JwtVerificationFilter extends OncePerRequestFilter {
      * @return 토큰 검증 결과
      */
     private Map<String, Object> verifyJws(HttpServletRequest request) {
-        log.info("JwtVerificationFilter - verifyJws");
-
         String jws = request.getHeader("Authorization").replace("Bearer ", "");
         String base64EncodedSecretKey = jwtTokenizer.encodeBase64SecretKey(jwtTokenizer.getAccessSecretKey());
 
         Map<String, Object> claims = jwtTokenizer.getClaims(jws, base64EncodedSecretKey).getBody();
 
-        log.info("verifyJws 통과");
+        log.debug("verifyJws 통과");
 
         return claims;
     }
@@ -103,20 +118,28 @@ public class JwtVerificationFilter extends OncePerRequestFilter {
     /**
      * SecurityContext 에 Authentication 을 저장하는 함수
      *
-     * @param claims 토큰 검증 결과
+     * @param claims     토큰 검증 결과
+     * @param claimsOnly true 면 유저 조회를 getUser() 호출 시점으로 미룸
      */
-    private void setAuthenticationToContext(Map<String, Object> claims) {
-        log.info("JwtVerificationFilter - setAuthenticationToContext");
-
+    private void setAuthenticationToContext(Map<String, Object> claims, boolean claimsOnly) {
         Long userId = Long.parseLong(claims.get("userId").toString());
-        log.info("서명이 정상적으로 됌" + userId);
-        User user = userRepository.findById(userId).get();
+        log.debug("서명이 정상적으로 됌 {}", userId);
 
-        CustomUserDetails memberDetails = new CustomUserDetails(user);
+        CustomUserDetails memberDetails;
+        if (claimsOnly) {
+            memberDetails = CustomUserDetails.ofClaims(userId, claims.get("userRole").toString(), () -> findUser(userId));
+        } else {
+            memberDetails = new CustomUserDetails(findUser(userId));
+        }
 
         Authentication authentication = new UsernamePasswordAuthenticationToken(memberDetails, null, memberDetails.getAuthorities());
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
-        log.info("setAuthenticationToContext 통과");
+        log.debug("setAuthenticationToContext 통과");
+    }
+
+    private User findUser(Long userId) {
+        return userRepository.findById(userId)
+                .orElseThrow(() -> new BusinessLogicException(ExceptionCode.USER_NOT_FOUND));
     }
 }
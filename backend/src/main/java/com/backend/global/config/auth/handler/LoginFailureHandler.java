@@ -0,0 +1,43 @@
+package com.backend.global.config.auth.handler;
+
+import com.backend.global.config.auth.login.LoginThrottledException;
+import com.backend.global.error.ErrorResponse;
+import com.backend.global.error.ExceptionCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.authentication.AuthenticationFailureHandler;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * 로그인 실패 시 수행
+ * 요청 제한에 걸린 경우 429, 그 외에는 401
+ */
+@Slf4j
+public class LoginFailureHandler implements AuthenticationFailureHandler {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Override
+    public void onAuthenticationFailure(HttpServletRequest request,
+                                        HttpServletResponse response,
+                                        AuthenticationException exception) throws IOException {
+        if (exception instanceof LoginThrottledException) {
+            log.warn("로그인 요청 제한 : {}", exception.getMessage());
+
+            response.setStatus(ExceptionCode.TOO_MANY_REQUESTS.getStatus());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setCharacterEncoding("UTF-8");
+            objectMapper.writeValue(response.getWriter(), ErrorResponse.of(ExceptionCode.TOO_MANY_REQUESTS));
+            return;
+        }
+
+        log.info("로그인 실패 : {}", exception.getMessage());
+        response.sendError(HttpStatus.UNAUTHORIZED.value(), HttpStatus.UNAUTHORIZED.getReasonPhrase());
+    }
+}
@@ -1,7 +1,6 @@
 package com.backend.global.config.auth.handler;
 
-import com.backend.domain.refreshToken.dao.RefreshTokenRepository;
-import com.backend.domain.refreshToken.domain.RefreshToken;
+import com.backend.domain.refreshToken.application.RefreshTokenService;
 import com.backend.domain.user.dao.UserRepository;
 import com.backend.domain.user.domain.User;
 import com.backend.global.utils.jwt.JwtTokenizer;
@@ -30,7 +29,7 @@ import java.util.Map;
 public class OAuth2userSuccessHandler extends SimpleUrlAuthenticationSuccessHandler {
     private final JwtTokenizer jwtTokenizer;
     private final UserRepository userRepository;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenService refreshTokenService;
 
     /**
      * @param request        요청
@@ -50,7 +49,7 @@ public class OAuth2userSuccessHandler extends SimpleUrlAuthenticationSuccessHand
 
         String email;
 
-        log.info("authentication.getPrincipal():" + oAuth2User);
+        log.debug("authentication.getPrincipal(): {}", oAuth2User);
         if (registrationId.equals("kakao")) {
             Map<String, Object> kakaoAccount = (Map<String, Object>) oAuth2User.getAttributes().get("kakao_account");
             email = String.valueOf(kakaoAccount.get("email"));
@@ -58,16 +57,13 @@ public class OAuth2userSuccessHandler extends SimpleUrlAuthenticationSuccessHand
             email = String.valueOf(oAuth2User.getAttributes().get("email"));
         }
 
-        log.info("email:" + email + ", registrationId:" + registrationId);
+        log.info("email: {}, registrationId: {}", email, registrationId);
 
         User user = userRepository.findByEmailAndUserStatusAndSocialLogin(email, User.UserStatus.USER_EXIST, registrationId).get();
 
         String accessToken = delegateAccessToken(user);
-        String refreshToken = delegateRefreshToken(user);
-        log.info("JWT 발급 완료");
-
-        saveRefreshToken(refreshToken, user);
-        log.info("RefreshToken 저장 완료");
+        String refreshToken = refreshTokenService.issue(user);
+        log.info("JWT 발급, RefreshToken 저장 완료");
 
         String uri = createURI(accessToken, refreshToken, registrationId).toString();
 
@@ -77,17 +73,6 @@ public class OAuth2userSuccessHandler extends SimpleUrlAuthenticationSuccessHand
         log.info("OAuth2userSuccessHandler 종료");
     }
 
-    private void saveRefreshToken(String refreshToken, User user) {
-        Long userId = user.getUserId();
-        RefreshToken refreshTokenEntity = RefreshToken.builder()
-                .key(userId)
-                .value(refreshToken)
-                .expirationDate(jwtTokenizer.getTokenExpiration(jwtTokenizer.getRefreshTokenExpirationMillisecond()))
-                .build();
-
-        refreshTokenRepository.save(refreshTokenEntity);
-    }
-
     /**
      * URI 생성
      *
@@ -143,26 +128,4 @@ public class OAuth2userSuccessHandler extends SimpleUrlAuthenticationSuccessHand
 
         return accessToken;
     }
-
-    /**
-     * 리프레시 토큰 발급
-     *
-     * @param user 유저
-     * @return 리프레시 토큰
-     */
-    private String delegateRefreshToken(User user) {
-        Map<String, Object> claims = new HashMap<>();
-        claims.put("userId", user.getUserId());
-        claims.put("userRole", user.getUserRole());
-
-        String subject = user.getUserId().toString();
-        Date expiration = jwtTokenizer.getTokenExpiration(jwtTokenizer.getRefreshTokenExpirationMillisecond());
-        String base64EncodedSecretKey = jwtTokenizer.encodeBase64SecretKey(jwtTokenizer.getRefreshSecretKey());
-
-        String refreshToken = jwtTokenizer.generateRefreshToken(claims, subject, expiration, base64EncodedSecretKey);
-
-        return refreshToken;
-    }
-
-
 }
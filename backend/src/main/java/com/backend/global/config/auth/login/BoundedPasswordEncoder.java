@@ -0,0 +1,67 @@
+package com.backend.global.config.auth.login;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 비밀번호 비교(matches)를 제한된 전용 스레드 풀에서 실행하는 PasswordEncoder
+ * 1. 동시에 해시를 계산하는 스레드 수를 풀 크기로 제한해서 로그인이 몰려도 CPU 를 다 쓰지 않는다
+ * 2. 대기열이 가득 차거나 timeout 안에 끝나지 않으면 해시 계산 없이 바로 거절 (LoginThrottledException)
+ * 3. encode 는 회원가입 / 비밀번호 변경에서만 쓰이므로 호출한 스레드에서 그대로 실행
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, ThreadPoolExecutor executor, long timeoutMillis) {
+        this.delegate = delegate;
+        this.executor = executor;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return delegate.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        Future<Boolean> future;
+        try {
+            future = executor.submit(() -> delegate.matches(rawPassword, encodedPassword));
+        } catch (RejectedExecutionException e) {
+            throw new LoginThrottledException("비밀번호 확인 대기열이 가득 찼습니다.");
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new LoginThrottledException("비밀번호 확인 시간이 초과되었습니다.");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new AuthenticationServiceException("비밀번호 확인 중단", e);
+        } catch (ExecutionException e) {
+            throw new AuthenticationServiceException("비밀번호 확인 실패", e.getCause());
+        }
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
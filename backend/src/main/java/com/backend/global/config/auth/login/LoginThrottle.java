@@ -0,0 +1,50 @@
+package com.backend.global.config.auth.login;
+
+import com.backend.global.utils.TokenBucketLimiter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그인 요청 제한 (계정별, IP별 token bucket)
+ * 비밀번호 해시 계산이나 DB 조회 전에 확인해서 몰려드는 요청을 싸게 거절한다
+ */
+@Slf4j
+@Component
+public class LoginThrottle {
+
+    private final TokenBucketLimiter accountLimiter;
+    private final TokenBucketLimiter ipLimiter;
+
+    public LoginThrottle(@Value("${security.login.rate-limit.account-capacity:5}") int accountCapacity,
+                         @Value("${security.login.rate-limit.account-refill-seconds:30}") long accountRefillSeconds,
+                         @Value("${security.login.rate-limit.ip-capacity:30}") int ipCapacity,
+                         @Value("${security.login.rate-limit.ip-refill-seconds:2}") long ipRefillSeconds) {
+        this.accountLimiter = new TokenBucketLimiter(accountCapacity, accountRefillSeconds * 1000);
+        this.ipLimiter = new TokenBucketLimiter(ipCapacity, ipRefillSeconds * 1000);
+    }
+
+    /**
+     * @param email    로그인 요청한 이메일
+     * @param clientIp 요청한 IP
+     * @throws LoginThrottledException 요청 제한에 걸린 경우
+     */
+    public void check(String email, String clientIp) {
+        if (!ipLimiter.tryAcquire(clientIp)) {
+            log.warn("로그인 요청 제한 (IP) : {}", clientIp);
+            throw new LoginThrottledException("로그인 요청이 너무 많습니다.");
+        }
+
+        if (email != null && !accountLimiter.tryAcquire(email)) {
+            log.warn("로그인 요청 제한 (계정) : {}", email);
+            throw new LoginThrottledException("로그인 요청이 너무 많습니다.");
+        }
+    }
+
+    @Scheduled(fixedDelay = 1000)
+    public void evictIdle() {
+        accountLimiter.evictIdle();
+        ipLimiter.evictIdle();
+    }
+}
@@ -0,0 +1,13 @@
+package com.backend.global.config.auth.login;
+
+import org.springframework.security.core.AuthenticationException;
+
+/**
+ * 로그인 요청 제한에 걸렸거나 비밀번호 확인 대기열이 가득 찼을 때 발생 (429 응답)
+ */
+public class LoginThrottledException extends AuthenticationException {
+
+    public LoginThrottledException(String msg) {
+        super(msg);
+    }
+}
@@ -1,40 +1,77 @@
 package com.backend.global.config.auth.userdetails;
 
 import com.backend.domain.user.domain.User;
-import lombok.AllArgsConstructor;
 import lombok.Getter;
-import lombok.Setter;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.function.Supplier;
 
-@Getter
-@Setter
-@AllArgsConstructor
-@Slf4j
+/**
+ * 인증된 유저 정보
+ * claims 만으로 만든 경우(ofClaims) userId / userRole 만 갖고 있다가 getUser() 를 처음 호출할 때 유저를 조회한다
+ * 같은 인증 정보를 비동기 처리 스레드에서 같이 쓸 수 있으므로 getUser() 는 동기화 (조회는 한 번만)
+ */
 public class CustomUserDetails implements UserDetails {
 
+    @Getter
+    private final Long userId;
+
+    @Getter
+    private final String userRole;
+
+    private Supplier<User> userLoader;
     private User user;
 
+    public CustomUserDetails(User user) {
+        this.userId = user.getUserId();
+        this.userRole = user.getUserRole();
+        this.user = user;
+    }
+
+    private CustomUserDetails(Long userId, String userRole, Supplier<User> userLoader) {
+        this.userId = userId;
+        this.userRole = userRole;
+        this.userLoader = userLoader;
+    }
+
+    /**
+     * 토큰 claims 로 유저 정보 생성 (DB 조회 없음)
+     *
+     * @param userId     유저 ID
+     * @param userRole   유저 권한
+     * @param userLoader getUser() 를 처음 호출할 때 유저를 조회하는 함수
+     * @return 유저 정보
+     */
+    public static CustomUserDetails ofClaims(Long userId, String userRole, Supplier<User> userLoader) {
+        return new CustomUserDetails(userId, userRole, userLoader);
+    }
+
+    public synchronized User getUser() {
+        if (user == null) {
+            user = userLoader.get();
+            userLoader = null;
+        }
+        return user;
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         Collection<GrantedAuthority> authorities = new ArrayList<>();
-        authorities.add(() -> user.getUserRole());
-        log.info(user.getUserRole());
+        authorities.add(() -> userRole);
         return authorities;
     }
 
     @Override
     public String getPassword() {
-        return user.getPassword();
+        return getUser().getPassword();
     }
 
     @Override
     public String getUsername() {
-        return user.getEmail();
+        return getUser().getEmail();
     }
 
     @Override
@@ -54,6 +91,6 @@ public class CustomUserDetails implements UserDetails {
 
     @Override
     public boolean isEnabled() {
-        return (user.getUserStatus() == User.UserStatus.USER_EXIST);
+        return (getUser().getUserStatus() == User.UserStatus.USER_EXIST);
     }
 }
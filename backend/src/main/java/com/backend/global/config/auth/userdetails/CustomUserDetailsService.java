@@ -9,8 +9,6 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
 
-import java.util.Optional;
-
 @Component
 @AllArgsConstructor
 @Slf4j
@@ -27,9 +25,11 @@ public class CustomUserDetailsService implements UserDetailsService {
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
         log.info("CustomUserDetailsService : 진입");
-        Optional<User> userEntity = userRepository.findByEmailAndUserStatusAndSocialLogin(email, User.UserStatus.USER_EXIST, "original");
+        // 로그인 시 유저 조회는 여기서 한 번만 한다 (없는 유저는 BadCredentials 로 처리됨)
+        User user = userRepository.findByEmailAndUserStatusAndSocialLogin(email, User.UserStatus.USER_EXIST, "original")
+                .orElseThrow(() -> new UsernameNotFoundException("존재하지 않는 유저입니다."));
 
-        return new CustomUserDetails(userEntity.get());
+        return new CustomUserDetails(user);
     }
 
 
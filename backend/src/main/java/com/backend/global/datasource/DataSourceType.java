@@ -0,0 +1,6 @@
+package com.backend.global.datasource;
+
+public enum DataSourceType {
+    PRIMARY,
+    REPLICA
+}
@@ -0,0 +1,64 @@
+package com.backend.global.datasource;
+
+import com.backend.global.config.auth.userdetails.CustomUserDetails;
+import com.backend.global.utils.TimingWheel;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 쓰기 직후 replica 복제 지연 동안 자기가 쓴 데이터를 못 읽는 문제 방지
+ * 유저가 primary 에 쓰면 stickyMillis 동안 그 유저의 읽기 전용 트랜잭션도 primary 로 보냄
+ * 서버 메모리에 보관하므로 서버별로 동작 (로드밸런서 세션 고정이 없으면 다른 서버에서는 replica 로 읽을 수 있음)
+ */
+public class PrimaryStickiness {
+
+    private final long stickyMillis;
+    private final Map<Long, Long> stickyUntil = new ConcurrentHashMap<>();
+    private final TimingWheel<Long> expiryWheel = new TimingWheel<>(1000, 600, stickyUntil::remove);
+
+    public PrimaryStickiness(long stickyMillis) {
+        this.stickyMillis = stickyMillis;
+    }
+
+    // 현재 유저가 primary 에 쓰기 시작함
+    public void markWrite() {
+        Long userId = currentUserId();
+        if (userId == null || stickyMillis <= 0) {
+            return;
+        }
+        long until = System.currentTimeMillis() + stickyMillis;
+        stickyUntil.put(userId, until);
+        expiryWheel.schedule(userId, until);
+    }
+
+    // 현재 유저가 최근에 쓴 적이 있으면 true
+    public boolean isSticky() {
+        Long userId = currentUserId();
+        if (userId == null) {
+            return false;
+        }
+        Long until = stickyUntil.get(userId);
+        return until != null && until > System.currentTimeMillis();
+    }
+
+    public int size() {
+        return stickyUntil.size();
+    }
+
+    @Scheduled(fixedDelay = 1000)
+    public void sweep() {
+        expiryWheel.advance(System.currentTimeMillis());
+    }
+
+    private Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof CustomUserDetails)) {
+            return null;
+        }
+        return ((CustomUserDetails) authentication.getPrincipal()).getUserId();
+    }
+}
@@ -0,0 +1,35 @@
+package com.backend.global.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 종류에 따라 연결할 DB 선택
+ * - @Transactional(readOnly = true) : replica (단, 최근에 쓴 유저는 PrimaryStickiness 동안 primary)
+ * - 그 외 (쓰기 트랜잭션, 트랜잭션 없는 호출) : primary
+ * 트랜잭션 시작 시점에는 readOnly 여부가 아직 설정되지 않으므로 LazyConnectionDataSourceProxy 로 감싸서
+ * 첫 쿼리를 실행할 때 연결을 가져오도록 해야 함 (DataSourceConfig)
+ */
+@Slf4j
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final PrimaryStickiness primaryStickiness;
+
+    public ReplicationRoutingDataSource(PrimaryStickiness primaryStickiness) {
+        this.primaryStickiness = primaryStickiness;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            primaryStickiness.markWrite();
+            return DataSourceType.PRIMARY;
+        }
+        if (primaryStickiness.isSticky()) {
+            log.debug("최근 쓰기한 유저라 primary 에서 읽기");
+            return DataSourceType.PRIMARY;
+        }
+        return DataSourceType.REPLICA;
+    }
+}
@@ -6,6 +6,7 @@ public enum ExceptionCode {
 
     INVALID_INPUT_VALUE(400, "Invalid Input Value"),
     METHOD_NOT_ALLOWED(405, " Invalid Input Value"),
+    TOO_MANY_REQUESTS(429, "Too Many Requests"),
     INTERNAL_SERVER_ERROR(500, "Server Error"),
     HANDLE_ACCESS_DENIED(403, "Access is Denied"),
     // User
@@ -24,6 +25,7 @@ public enum ExceptionCode {
     TOKEN_MALFORMED(400, "Token Malformed"),
     TOKEN_UNSUPPORTED(400, "Token Unsupported"),
     TOKEN_ILLEGAL_ARGUMENT(400, "Token Illegal Argument"),
+    TOKEN_REUSED(401, "Token Reused"),
 
 
     ANSWER_NOT_FOUND(404, "ANSWER_NOT_FOUND"),
@@ -33,6 +35,7 @@ public enum ExceptionCode {
     // Product
     PRODUCT_EXIST(409,"PRODUCT EXIST"),
     PRODUCT_NOT_FOUND(404,"PRODUCT_NOT_FOUND"),
+    OUT_OF_STOCK(409,"OUT OF STOCK"),
 
     CATEGORY_NOT_FOUND(404,"CATEGORY_NOT_FOUND"),
 
@@ -47,9 +50,36 @@ public enum ExceptionCode {
     ORDER_NOT_FOUND(404, "Order not found"),
     CANNOT_CHANGE_ORDER(403, "Order can not change"),
     CANNOT_CANCEL_ORDER(403, "Order can not cancel"),
+    FLASH_SALE_ORDER_IN_PROGRESS(409, "Flash Sale Order In Progress"),
+
+    //Cart
+    CART_ITEM_NOT_FOUND(404, "Cart Item Not Found"),
+    CART_EMPTY(400, "Cart Is Empty"),
+    CART_CHANGED(409, "Cart Changed"),
+    CART_CHECKOUT_IN_PROGRESS(409, "Cart Checkout In Progress"),
 
     //Point
-    NOT_ENOUGH_POINT(403,"Point is not enough");
+    NOT_ENOUGH_POINT(403,"Point is not enough"),
+
+    //Payment
+    PAYMENT_AMOUNT_MISMATCH(409, "Payment Amount Mismatch"),
+    PAYMENT_ORDER_ID_DUPLICATION(409, "Payment Order Id Is Duplicated"),
+
+    //Mail
+    MAIL_QUEUE_FULL(503, "Mail Queue Is Full"),
+    VERIFICATION_CODE_MISMATCH(400, "Verification Code Mismatch"),
+    EMAIL_NOT_VERIFIED(403, "Email Is Not Verified"),
+
+    //Job
+    JOB_NOT_FOUND(404, "Job Not Found"),
+    JOB_RUNNING(409, "Job Is Running"),
+    JOB_LEASE_HELD(409, "Job Is Running On Another Server"),
+
+    //Outbound (결제, S3 등 외부 호출)
+    BULKHEAD_FULL(503, "Service Busy"),
+    UPSTREAM_TIMEOUT(504, "Upstream Timeout"),
+    UPSTREAM_FAILED(502, "Upstream Failed"),
+    CIRCUIT_OPEN(503, "Upstream Temporarily Unavailable");
 
     @Getter
     private int status;
@@ -0,0 +1,75 @@
+package com.backend.global.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 도메인 이벤트 outbox (주문 / 리뷰 변경과 같은 트랜잭션에서 저장, DomainEventRelay 가 구독자에게 전달)
+ * id 는 IDENTITY : 서버별로 미리 받아두는 PooledIdGenerator 는 id 순서가 저장 순서와 달라서
+ * 같은 주문의 이벤트 순서(생성 -> 상태 변경 -> 취소)를 id 로 정할 수 없음
+ */
+@Getter
+@Entity
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(indexes = {
+        @Index(name = "idx_domain_event_status_event_id", columnList = "status, eventId"), // 전달 대기 이벤트 (저장 순)
+        @Index(name = "idx_domain_event_aggregate", columnList = "aggregateType, aggregateId, status, eventId") // 같은 aggregate 의 앞 이벤트
+})
+public class DomainEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long eventId;
+
+    @Column(nullable = false)
+    private String aggregateType;
+
+    @Column(nullable = false)
+    private Long aggregateId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private DomainEventType eventType;
+
+    // JSON
+    @Lob
+    @Column(nullable = false)
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private DomainEventStatus status;
+
+    private int attempts;
+
+    private String lastError;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    // 재시도 대기 중이면 이 시각 이후에 다시 전달
+    private LocalDateTime nextAttemptAt;
+
+    private LocalDateTime publishedAt;
+
+    public String getAggregateKey() {
+        return aggregateType + ":" + aggregateId;
+    }
+
+    // 전달 실패 기록, max-attempts 에 도달하면 FAILED
+    public void failed(String error, int maxAttempts, LocalDateTime nextAttemptAt) {
+        this.attempts++;
+        this.lastError = error == null ? null : error.substring(0, Math.min(error.length(), 255));
+        this.nextAttemptAt = nextAttemptAt;
+        if (attempts >= maxAttempts) {
+            this.status = DomainEventStatus.FAILED;
+        }
+    }
+}
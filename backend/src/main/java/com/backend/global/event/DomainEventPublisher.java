@@ -0,0 +1,40 @@
+package com.backend.global.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 도메인 이벤트를 outbox(domain_event) 에 저장
+ * 호출한 서비스의 트랜잭션 안에서만 저장 (주문 / 리뷰 변경과 함께 커밋되거나 함께 롤백)
+ */
+@Component
+@RequiredArgsConstructor
+public class DomainEventPublisher {
+    private final DomainEventRepository domainEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(DomainEventType eventType, Long aggregateId, Map<String, Object> payload) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("도메인 이벤트 payload 변환 실패 : " + eventType, e);
+        }
+        domainEventRepository.save(DomainEvent.builder()
+                .aggregateType(eventType.getAggregateType())
+                .aggregateId(aggregateId)
+                .eventType(eventType)
+                .payload(json)
+                .status(DomainEventStatus.PENDING)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+}
@@ -0,0 +1,194 @@
+package com.backend.global.event;
+
+import com.backend.global.job.JobLeases;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * outbox(domain_event) 를 poll-millis 마다 읽어서 구독자에게 전달
+ * 1. 전달 대기 이벤트를 저장 순서대로 batch-size 건씩 읽음 (aggregate 마다 가장 앞의 이벤트만, DomainEventRepository.findPending)
+ * 2. 같은 aggregate (주문 / 리뷰 하나) 의 이벤트는 순서대로, 앞 이벤트가 실패하거나 재시도 대기 중이면 뒤 이벤트는 보류
+ * 3. 성공한 이벤트는 batch 마다 update 한 번으로 PUBLISHED, 실패한 이벤트는 retry-backoff-millis * 2^(시도횟수) 후 재시도
+ * 4. max-attempts 를 넘긴 이벤트는 FAILED 로 두고 (로그 확인 후 수동 처리) 같은 aggregate 의 뒤 이벤트를 계속 전달
+ * 같은 aggregate 의 이벤트를 두 서버가 동시에 전달하지 않도록 job_lease (domain-event-relay) 를 가진 서버 한 대만 전달
+ * lease 는 batch 마다 연장하고, 그 서버가 죽으면 lease-seconds 후에 다른 서버가 이어받음
+ * 구독자가 외부 연동 (S3 등) 을 호출하므로 @Scheduled 공용 스레드가 아닌 전용 스레드에서 실행
+ * (밀린 이벤트가 많아도 한정 판매 입장 / 장바구니 저장 같은 다른 정기 작업을 막지 않음)
+ */
+@Slf4j
+@Component
+public class DomainEventRelay {
+    private static final String LEASE_NAME = "domain-event-relay";
+
+    private final DomainEventRepository domainEventRepository;
+    private final JobLeases jobLeases;
+    private final List<DomainEventSubscriber> subscribers;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Counter publishedCounter;
+    private final Counter failedCounter;
+
+    private ThreadPoolTaskScheduler scheduler;
+
+    @Value("${domain-event.relay.enabled:true}")
+    private boolean enabled;
+
+    @Value("${domain-event.relay.poll-millis:500}")
+    private long pollMillis;
+
+    @Value("${domain-event.relay.batch-size:100}")
+    private int batchSize;
+
+    @Value("${domain-event.relay.max-batches-per-poll:10}")
+    private int maxBatchesPerPoll;
+
+    @Value("${domain-event.relay.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${domain-event.relay.retry-backoff-millis:1000}")
+    private long retryBackoffMillis;
+
+    @Value("${domain-event.relay.lease-seconds:60}")
+    private long leaseSeconds;
+
+    @Value("${domain-event.retention-days:7}")
+    private int retentionDays;
+
+    public DomainEventRelay(DomainEventRepository domainEventRepository, JobLeases jobLeases, List<DomainEventSubscriber> subscribers,
+                            TransactionTemplate transactionTemplate, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.domainEventRepository = domainEventRepository;
+        this.jobLeases = jobLeases;
+        this.subscribers = subscribers;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.publishedCounter = meterRegistry.counter("domain.event.relay", "result", "published");
+        this.failedCounter = meterRegistry.counter("domain.event.relay", "result", "failed");
+        Gauge.builder("domain.event.dead", domainEventRepository, r -> r.countByStatus(DomainEventStatus.FAILED))
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("domain-event-relay-");
+        scheduler.initialize();
+        scheduler.scheduleWithFixedDelay(this::poll, Duration.ofMillis(pollMillis));
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+    }
+
+    /**
+     * 밀린 이벤트가 있으면 다음 poll 을 기다리지 않고 이어서 전달 (같은 aggregate 의 다음 이벤트는 다음 batch 에 나옴)
+     * 전달할 이벤트가 없거나, 실패가 섞인 batch 거나, max-batches-per-poll 만큼 전달했으면 멈춤
+     */
+    public void poll() {
+        try {
+            for (int batch = 0; batch < maxBatchesPerPoll; batch++) {
+                if (!jobLeases.tryAcquire(LEASE_NAME, Duration.ofSeconds(leaseSeconds)) || relayBatch() == 0) {
+                    return;
+                }
+            }
+        } catch (RuntimeException e) {
+            // 예외가 나가면 scheduleWithFixedDelay 가 다음 poll 을 멈추므로 여기서 끝냄
+            log.error("도메인 이벤트 전달 중 오류", e);
+        }
+    }
+
+    /**
+     * @return 이번 batch 를 모두 PUBLISHED 로 바꿨으면 그 수, 실패가 있으면 0
+     */
+    public synchronized int relayBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<DomainEvent> events = domainEventRepository.findPending(now, PageRequest.of(0, batchSize));
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        // aggregate 마다 한 건씩이므로 batch 안에서는 순서를 따로 맞출 필요 없음
+        List<Long> published = new ArrayList<>();
+        List<DomainEvent> failed = new ArrayList<>();
+
+        for (DomainEvent event : events) {
+            try {
+                dispatch(event);
+                published.add(event.getEventId());
+            } catch (RuntimeException e) {
+                long delay = retryBackoffMillis << Math.min(event.getAttempts(), 16);
+                event.failed(e.toString(), maxAttempts, now.plus(delay, ChronoUnit.MILLIS));
+                failed.add(event);
+                if (event.getStatus() == DomainEventStatus.FAILED) {
+                    log.error("도메인 이벤트 전달 포기 ({} 회 시도) : {} {} {}", event.getAttempts(), event.getEventId(),
+                            event.getEventType(), event.getAggregateKey(), e);
+                } else {
+                    log.warn("도메인 이벤트 전달 실패, {} ms 후 재시도 : {} {} ({})", delay, event.getEventId(),
+                            event.getEventType(), e.getMessage());
+                }
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!published.isEmpty()) {
+                domainEventRepository.markPublished(published, now);
+            }
+            domainEventRepository.saveAll(failed);
+        });
+        publishedCounter.increment(published.size());
+        failedCounter.increment(failed.size());
+        return published.size() == events.size() ? published.size() : 0;
+    }
+
+    // 전달이 끝난 지 retention-days 가 지난 이벤트 삭제 (1000 건씩, ScheduleTasks 에서 매일 실행)
+    public long purgePublished() {
+        LocalDateTime before = LocalDateTime.now().minusDays(retentionDays);
+        long deleted = 0;
+        List<Long> eventIds;
+        while (!(eventIds = domainEventRepository.findPublishedIdsBefore(before, PageRequest.of(0, 1000))).isEmpty()) {
+            List<Long> chunk = eventIds;
+            transactionTemplate.executeWithoutResult(status -> domainEventRepository.deleteAllByIdInBatch(chunk));
+            deleted += chunk.size();
+        }
+        log.info("전달 완료된 도메인 이벤트 삭제 : {} 건", deleted);
+        return deleted;
+    }
+
+    private void dispatch(DomainEvent event) {
+        JsonNode payload;
+        try {
+            payload = objectMapper.readTree(event.getPayload());
+        } catch (IOException e) {
+            throw new IllegalStateException("도메인 이벤트 payload 읽기 실패 : " + event.getEventId(), e);
+        }
+        for (DomainEventSubscriber subscriber : subscribers) {
+            if (subscriber.supports(event.getEventType())) {
+                subscriber.handle(event, payload);
+            }
+        }
+    }
+}
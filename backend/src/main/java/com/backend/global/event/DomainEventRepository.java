@@ -0,0 +1,38 @@
+package com.backend.global.event;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface DomainEventRepository extends JpaRepository<DomainEvent, Long> {
+
+    /**
+     * 지금 전달할 수 있는 이벤트를 저장 순서대로
+     * aggregate 마다 가장 앞의 전달 대기 이벤트만, 그 이벤트가 재시도 대기 중 (next_attempt_at > now) 이면 그 aggregate 는 제외
+     * 재시도 대기 / 순서 대기 이벤트를 쿼리에서 거르므로 앞에 쌓인 보류 이벤트가 batch 를 채워서 다른 aggregate 가 막히지 않음
+     */
+    @Query("select e from DomainEvent e where e.status = com.backend.global.event.DomainEventStatus.PENDING " +
+            "and (e.nextAttemptAt is null or e.nextAttemptAt <= :now) " +
+            "and not exists (select p.eventId from DomainEvent p where p.status = com.backend.global.event.DomainEventStatus.PENDING " +
+            "and p.aggregateType = e.aggregateType and p.aggregateId = e.aggregateId and p.eventId < e.eventId) " +
+            "order by e.eventId")
+    List<DomainEvent> findPending(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 전달 완료 처리를 batch 마다 update 한 번으로
+    @Modifying
+    @Query("update DomainEvent e set e.status = com.backend.global.event.DomainEventStatus.PUBLISHED, e.publishedAt = :publishedAt " +
+            "where e.eventId in :eventIds")
+    int markPublished(@Param("eventIds") Collection<Long> eventIds, @Param("publishedAt") LocalDateTime publishedAt);
+
+    @Query("select e.eventId from DomainEvent e where e.status = com.backend.global.event.DomainEventStatus.PUBLISHED " +
+            "and e.publishedAt < :before order by e.eventId")
+    List<Long> findPublishedIdsBefore(@Param("before") LocalDateTime before, Pageable pageable);
+
+    long countByStatus(DomainEventStatus status);
+}
@@ -0,0 +1,7 @@
+package com.backend.global.event;
+
+public enum DomainEventStatus {
+    PENDING, // 전달 대기 (실패 후 재시도 대기 포함)
+    PUBLISHED, // 모든 구독자 처리 완료
+    FAILED // max-attempts 를 넘겨서 포기
+}
@@ -0,0 +1,15 @@
+package com.backend.global.event;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * 도메인 이벤트 구독자 (DomainEventRelay 가 서버 안에서 호출)
+ * 전달은 at-least-once : 다른 구독자가 실패하거나 서버가 완료 처리 전에 죽으면 같은 이벤트를 다시 받으므로 멱등하게 처리
+ * 예외를 던지면 그 이벤트와 같은 aggregate 의 뒤 이벤트는 재시도할 때까지 전달되지 않음
+ */
+public interface DomainEventSubscriber {
+
+    boolean supports(DomainEventType eventType);
+
+    void handle(DomainEvent event, JsonNode payload);
+}
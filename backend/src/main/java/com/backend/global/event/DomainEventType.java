@@ -0,0 +1,23 @@
+package com.backend.global.event;
+
+import lombok.Getter;
+
+/**
+ * outbox 에 저장하는 도메인 이벤트 종류
+ * aggregateType 이 같고 aggregateId 가 같은 이벤트는 저장된 순서대로 구독자에게 전달됨
+ */
+public enum DomainEventType {
+    ORDER_CREATED("order"),
+    ORDER_STATUS_CHANGED("order"),
+    ORDER_CANCELLED("order"),
+    REVIEW_CREATED("review"),
+    REVIEW_UPDATED("review"),
+    REVIEW_DELETED("review");
+
+    @Getter
+    private final String aggregateType;
+
+    DomainEventType(String aggregateType) {
+        this.aggregateType = aggregateType;
+    }
+}
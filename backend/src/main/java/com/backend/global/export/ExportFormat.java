@@ -0,0 +1,29 @@
+package com.backend.global.export;
+
+import com.backend.global.error.BusinessLogicException;
+import com.backend.global.error.ExceptionCode;
+import lombok.Getter;
+import org.springframework.http.MediaType;
+
+@Getter
+public enum ExportFormat {
+    JSON("json", MediaType.APPLICATION_JSON),
+    NDJSON("ndjson", MediaType.parseMediaType("application/x-ndjson"));
+
+    private final String extension;
+    private final MediaType mediaType;
+
+    ExportFormat(String extension, MediaType mediaType) {
+        this.extension = extension;
+        this.mediaType = mediaType;
+    }
+
+    public static ExportFormat from(String format) {
+        for (ExportFormat exportFormat : values()) {
+            if (exportFormat.extension.equalsIgnoreCase(format)) {
+                return exportFormat;
+            }
+        }
+        throw new BusinessLogicException(ExceptionCode.INVALID_INPUT_VALUE);
+    }
+}
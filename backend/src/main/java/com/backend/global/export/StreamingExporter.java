@@ -0,0 +1,172 @@
+package com.backend.global.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 관리자 export 용 스트리밍 응답 생성
+ * 1. 읽기 전용 트랜잭션 안에서 Repository 의 Stream(커서) 을 연다
+ * 2. CHUNK_SIZE 건씩 모아서 DTO 로 변환한다 (연관 엔티티를 chunk 단위로 한 번에 조회, 행마다 조회하지 않음)
+ * 3. JSON 배열 / NDJSON 으로 쓰고 chunk 마다 flush 하고 영속성 컨텍스트를 비워서 heap 사용량을 일정하게 유지한다
+ * 4. 클라이언트가 Accept-Encoding 으로 gzip 을 허용한 경우에만 gzip 으로 압축한다
+ */
+@Slf4j
+@Component
+public class StreamingExporter {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final int GZIP_BUFFER_SIZE = 8192;
+
+    private final ObjectWriter objectWriter;
+    private final TransactionTemplate readOnlyTransaction;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public StreamingExporter(ObjectMapper objectMapper, PlatformTransactionManager transactionManager) {
+        this.objectWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * @param fileName       다운로드 파일 이름 (확장자 제외)
+     * @param format         JSON 배열 또는 NDJSON
+     * @param acceptEncoding 요청의 Accept-Encoding 헤더 (gzip 허용 여부)
+     * @param source         트랜잭션 안에서 열릴 Stream
+     * @param mapper         엔티티 -> 응답 DTO 변환
+     * @return 스트리밍 응답
+     */
+    public <E, D> ResponseEntity<StreamingResponseBody> export(String fileName,
+                                                               ExportFormat format,
+                                                               String acceptEncoding,
+                                                               Supplier<Stream<E>> source,
+                                                               Function<E, D> mapper) {
+        return exportChunks(fileName, format, acceptEncoding, source,
+                chunk -> chunk.stream().map(mapper).collect(Collectors.toList()));
+    }
+
+    /**
+     * chunk 단위 변환 export (chunk 의 연관 엔티티를 한 번에 조회하는 경우)
+     *
+     * @param chunkMapper 엔티티 chunk -> 응답 DTO 목록 변환 (같은 순서)
+     */
+    public <E, D> ResponseEntity<StreamingResponseBody> exportChunks(String fileName,
+                                                                     ExportFormat format,
+                                                                     String acceptEncoding,
+                                                                     Supplier<Stream<E>> source,
+                                                                     Function<List<E>, List<D>> chunkMapper) {
+        boolean gzip = acceptsGzip(acceptEncoding);
+        StreamingResponseBody body = outputStream ->
+                readOnlyTransaction.executeWithoutResult(status -> write(outputStream, gzip, format, source, chunkMapper));
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "." + format.getExtension() + "\"")
+                .contentType(format.getMediaType());
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    private <E, D> void write(OutputStream outputStream, boolean gzip, ExportFormat format,
+                              Supplier<Stream<E>> source, Function<List<E>, List<D>> chunkMapper) {
+        long count = 0;
+
+        try (Stream<E> rows = source.get();
+             OutputStream encoded = gzip ? new GZIPOutputStream(outputStream, GZIP_BUFFER_SIZE) : outputStream;
+             SequenceWriter writer = createWriter(format, encoded)) {
+
+            List<E> chunk = new ArrayList<>(CHUNK_SIZE);
+            Iterator<E> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+
+                if (chunk.size() == CHUNK_SIZE || !iterator.hasNext()) {
+                    for (D dto : chunkMapper.apply(chunk)) {
+                        writer.write(dto);
+                    }
+                    count += chunk.size();
+                    chunk.clear();
+                    writer.flush();
+                    entityManager.clear();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        log.info("export 완료 : {} 건", count);
+    }
+
+    /**
+     * Accept-Encoding 의 모든 항목을 보고 gzip 허용 여부 판단
+     * gzip 이 직접 적혀 있으면 그 q 값을, 없으면 * 의 q 값을 따른다 (q=0 은 거절)
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzipQuality = null;
+        Double anyQuality = null;
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.trim().split(";");
+            String coding = parts[0].trim();
+            if (coding.equalsIgnoreCase("gzip")) {
+                gzipQuality = quality(parts);
+            } else if (coding.equals("*")) {
+                anyQuality = quality(parts);
+            }
+        }
+        if (gzipQuality != null) {
+            return gzipQuality > 0;
+        }
+        return anyQuality != null && anyQuality > 0;
+    }
+
+    // q 값이 없으면 1, 읽을 수 없으면 0 (허용하지 않음)
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String param = parts[i].trim();
+            if (param.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(param.substring(2));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    private SequenceWriter createWriter(ExportFormat format, OutputStream outputStream) throws IOException {
+        if (format == ExportFormat.NDJSON) {
+            return objectWriter.withRootValueSeparator("\n").writeValues(outputStream);
+        }
+        return objectWriter.writeValuesAsArray(outputStream);
+    }
+}
@@ -0,0 +1,67 @@
+package com.backend.global.job;
+
+import com.backend.global.dto.Response.MultiResponse;
+import com.backend.global.error.ErrorResponse;
+import com.backend.global.error.ExceptionCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+// 관리자 전용 정기 작업 조회 / 수동 실행
+@RestController
+@RequiredArgsConstructor
+@Slf4j
+public class JobController {
+    private final JobRunner jobRunner;
+    private final JobLeases jobLeases;
+    private final JobRunRepository jobRunRepository;
+
+    @GetMapping("/admin/jobs")
+    public ResponseEntity<List<JobStatusDto>> getJobs() {
+        List<JobStatusDto> jobs = new ArrayList<>();
+        for (JobDefinition job : jobRunner.getJobs()) {
+            Optional<JobLease> lease = job.isLeased() ? jobLeases.find(job.getName()) : Optional.empty();
+            JobRunDto lastRun = jobRunRepository.findFirstByJobNameOrderByRunIdDesc(job.getName()).map(JobRunDto::of).orElse(null);
+            jobs.add(new JobStatusDto(job.getName(), job.getSchedule(), job.getTimeout().getSeconds(), job.isLeased(),
+                    jobRunner.isRunning(job.getName()),
+                    lease.map(JobLease::getOwner).orElse(null), lease.map(JobLease::getLeaseUntil).orElse(null),
+                    lastRun));
+        }
+        return ResponseEntity.ok(jobs);
+    }
+
+    @GetMapping("/admin/jobs/{job-name}/runs")
+    public ResponseEntity<MultiResponse> getRuns(@PathVariable("job-name") String jobName, @RequestParam int page) {
+        jobRunner.find(jobName);
+        Page<JobRun> runs = jobRunRepository.findByJobNameOrderByRunIdDesc(jobName, PageRequest.of(page - 1, 15));
+        List<JobRunDto> content = new ArrayList<>();
+        for (JobRun run : runs.getContent()) {
+            content.add(JobRunDto.of(run));
+        }
+        return new ResponseEntity<>(new MultiResponse<>(content, runs), HttpStatus.OK);
+    }
+
+    // 실행 결과는 실행 기록으로 확인 (다른 서버가 실행 중이면 409 + lease 주인 / 만료 시각)
+    @PostMapping("/admin/jobs/{job-name}/run")
+    public ResponseEntity run(@PathVariable("job-name") String jobName) {
+        log.info("controller/ job {} 수동 실행", jobName);
+        jobRunner.trigger(jobName);
+        return new ResponseEntity<>(HttpStatus.ACCEPTED);
+    }
+
+    @ExceptionHandler(JobLeaseHeld.class)
+    public ResponseEntity<ErrorResponse> handleJobLeaseHeld(JobLeaseHeld e) {
+        log.warn("job 수동 실행 거절 : {} 가 {} 까지 실행권을 가지고 있음", e.getOwner(), e.getLeaseUntil());
+        List<ErrorResponse.FieldError> errors = ErrorResponse.FieldError.of("owner", e.getOwner(), "실행 중인 서버");
+        errors.addAll(ErrorResponse.FieldError.of("leaseUntil", String.valueOf(e.getLeaseUntil()), "lease 만료 시각"));
+        return new ResponseEntity<>(ErrorResponse.of(ExceptionCode.JOB_LEASE_HELD, errors), HttpStatus.CONFLICT);
+    }
+}
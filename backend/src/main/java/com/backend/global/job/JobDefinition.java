@@ -0,0 +1,30 @@
+package com.backend.global.job;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.scheduling.Trigger;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.function.LongSupplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * JobRunner 에 등록하는 job
+ * leased 가 false 면 서버마다 실행 (서버 메모리를 정리하는 job)
+ */
+@Getter
+@AllArgsConstructor
+public class JobDefinition {
+    private final String name;
+    private final String schedule; // 조회용 (cron 식 또는 주기)
+    private final Trigger trigger;
+    private final Duration timeout;
+    private final boolean leased;
+    private final LongSupplier task; // 처리한 row 수 반환
+    private final UnaryOperator<LocalDateTime> nextFire; // 주어진 시각 다음의 실행 시각
+
+    public LocalDateTime nextFireAfter(LocalDateTime time) {
+        return nextFire.apply(time);
+    }
+}
@@ -0,0 +1,30 @@
+package com.backend.global.job;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import java.time.LocalDateTime;
+
+/**
+ * job 실행권 (job 당 row 하나)
+ * leaseUntil 이 지났거나 내가 가진 lease 일 때만 조건부 update 로 가져감 -> 여러 서버 중 한 대만 실행
+ * owner 가 null 이면 실행이 끝난 뒤 다음 정기 실행 시각 직전까지 잡아둔 상태 (정기 실행은 못 가져가고 수동 실행은 가져감)
+ */
+@Getter
+@Entity
+@AllArgsConstructor
+@NoArgsConstructor
+public class JobLease {
+
+    @Id
+    private String jobName;
+
+    private String owner;
+
+    @Column(nullable = false)
+    private LocalDateTime leaseUntil;
+}
@@ -0,0 +1,20 @@
+package com.backend.global.job;
+
+import com.backend.global.error.BusinessLogicException;
+import com.backend.global.error.ExceptionCode;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 다른 서버가 job 을 실행 중이라 수동 실행할 수 없음 (lease 주인 / 만료 시각을 같이 응답)
+@Getter
+public class JobLeaseHeld extends BusinessLogicException {
+    private final String owner;
+    private final LocalDateTime leaseUntil;
+
+    public JobLeaseHeld(String owner, LocalDateTime leaseUntil) {
+        super(ExceptionCode.JOB_LEASE_HELD.getMessage(), ExceptionCode.JOB_LEASE_HELD);
+        this.owner = owner;
+        this.leaseUntil = leaseUntil;
+    }
+}
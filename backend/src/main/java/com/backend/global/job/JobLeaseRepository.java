@@ -0,0 +1,35 @@
+package com.backend.global.job;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface JobLeaseRepository extends JpaRepository<JobLease, String> {
+
+    // 만료됐거나 내 lease 면 leaseUntil 까지 가져감 (1 이면 성공)
+    @Modifying
+    @Query("update JobLease l set l.owner = :owner, l.leaseUntil = :leaseUntil " +
+            "where l.jobName = :jobName and (l.leaseUntil < :now or l.owner = :owner)")
+    int acquire(@Param("jobName") String jobName, @Param("owner") String owner,
+                @Param("now") LocalDateTime now, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    // 수동 실행 : 만료됐거나, 내 lease 거나, 실행이 끝나고 잡아만 둔 (owner 가 null) lease 면 가져감
+    @Modifying
+    @Query("update JobLease l set l.owner = :owner, l.leaseUntil = :leaseUntil " +
+            "where l.jobName = :jobName and (l.leaseUntil < :now or l.owner = :owner or l.owner is null)")
+    int takeOver(@Param("jobName") String jobName, @Param("owner") String owner,
+                 @Param("now") LocalDateTime now, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    // 처음 실행하는 job 의 row 생성 (이미 있으면 DataIntegrityViolationException, merge 로 남의 lease 를 덮어쓰지 않음)
+    @Modifying
+    @Query(value = "insert into job_lease (job_name, lease_until) values (:jobName, :leaseUntil)", nativeQuery = true)
+    int create(@Param("jobName") String jobName, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    // 내 lease 일 때만 owner 를 비우고 leaseUntil 에 만료되도록 바꿈 (지금 시각이면 바로 만료)
+    @Modifying
+    @Query("update JobLease l set l.owner = null, l.leaseUntil = :leaseUntil where l.jobName = :jobName and l.owner = :owner")
+    int release(@Param("jobName") String jobName, @Param("owner") String owner, @Param("leaseUntil") LocalDateTime leaseUntil);
+}
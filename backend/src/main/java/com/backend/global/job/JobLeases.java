@@ -0,0 +1,93 @@
+package com.backend.global.job;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * job_lease 테이블로 job 실행권을 서버 한 대에만 줌
+ * owner 는 서버 이름 + 기동할 때 만든 id (같은 서버가 재시작하면 다른 owner)
+ * 시각은 각 서버 시계 기준이므로 서버 간 시계 차이보다 lease 를 충분히 길게 잡음
+ */
+@Slf4j
+@Component
+public class JobLeases {
+    private final JobLeaseRepository jobLeaseRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Getter
+    private final String owner;
+
+    public JobLeases(JobLeaseRepository jobLeaseRepository, TransactionTemplate transactionTemplate) {
+        this.jobLeaseRepository = jobLeaseRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.owner = hostName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /**
+     * lease 획득 / 연장 (처음 보는 job 이면 row 를 만들고 다시 시도)
+     *
+     * @return 이 서버가 duration 동안 실행권을 가지면 true
+     */
+    public boolean tryAcquire(String jobName, Duration duration) {
+        return tryAcquire(jobName, duration, false);
+    }
+
+    /**
+     * 수동 실행용 lease 획득, 정기 실행이 끝난 뒤 다음 실행 시각까지 잡아둔 lease 도 가져감
+     * 다른 서버가 실행 중이면 false
+     */
+    public boolean tryTakeOver(String jobName, Duration duration) {
+        return tryAcquire(jobName, duration, true);
+    }
+
+    private boolean tryAcquire(String jobName, Duration duration, boolean takeOver) {
+        LocalDateTime now = LocalDateTime.now();
+        if (acquire(jobName, now, now.plus(duration), takeOver)) {
+            return true;
+        }
+        if (jobLeaseRepository.existsById(jobName)) {
+            return false;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    jobLeaseRepository.create(jobName, now.minusSeconds(1)));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 서버가 먼저 만듦
+        }
+        return acquire(jobName, now, now.plus(duration), takeOver);
+    }
+
+    // 내 lease 를 놓고 leaseUntil 에 만료되도록 바꿈 (지금보다 뒤면 그때까지 정기 실행은 가져가지 못함, 수동 실행은 가능)
+    public void releaseAt(String jobName, LocalDateTime leaseUntil) {
+        transactionTemplate.executeWithoutResult(status -> jobLeaseRepository.release(jobName, owner, leaseUntil));
+    }
+
+    public Optional<JobLease> find(String jobName) {
+        return jobLeaseRepository.findById(jobName);
+    }
+
+    private boolean acquire(String jobName, LocalDateTime now, LocalDateTime leaseUntil, boolean takeOver) {
+        Integer updated = transactionTemplate.execute(status -> takeOver
+                ? jobLeaseRepository.takeOver(jobName, owner, now, leaseUntil)
+                : jobLeaseRepository.acquire(jobName, owner, now, leaseUntil));
+        return updated != null && updated == 1;
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
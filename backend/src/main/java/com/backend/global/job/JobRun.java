@@ -0,0 +1,86 @@
+package com.backend.global.job;
+
+import com.backend.global.jpa.PooledIdGenerator;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
+
+import javax.persistence.*;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * job 실행 기록 (실행 서버, 소요 시간, 처리한 row 수)
+ */
+@Getter
+@Entity
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(indexes = {
+        @Index(name = "idx_job_run_job_name_run_id", columnList = "jobName, runId") // job 별 최근 실행
+})
+public class JobRun {
+
+    @Id
+    @GeneratedValue(generator = PooledIdGenerator.NAME)
+    @GenericGenerator(name = PooledIdGenerator.NAME, strategy = PooledIdGenerator.STRATEGY)
+    private Long runId;
+
+    @Column(nullable = false)
+    private String jobName;
+
+    @Column(nullable = false)
+    private String owner;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private JobTrigger jobTrigger;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private JobRunStatus status;
+
+    @Column(nullable = false)
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+    private Long durationMillis;
+
+    private Long rowsAffected;
+
+    private String error;
+
+    public static JobRun start(String jobName, String owner, JobTrigger jobTrigger) {
+        return JobRun.builder()
+                .jobName(jobName)
+                .owner(owner)
+                .jobTrigger(jobTrigger)
+                .status(JobRunStatus.RUNNING)
+                .startedAt(LocalDateTime.now())
+                .build();
+    }
+
+    public void succeeded(long rowsAffected) {
+        finish(JobRunStatus.SUCCEEDED, null);
+        this.rowsAffected = rowsAffected;
+    }
+
+    public void failed(Throwable cause) {
+        finish(JobRunStatus.FAILED, cause.toString());
+    }
+
+    public void timedOut(Duration timeout) {
+        finish(JobRunStatus.TIMED_OUT, "timeout " + timeout.getSeconds() + "s");
+    }
+
+    private void finish(JobRunStatus status, String error) {
+        this.status = status;
+        this.finishedAt = LocalDateTime.now();
+        this.durationMillis = Duration.between(startedAt, finishedAt).toMillis();
+        this.error = error == null ? null : error.substring(0, Math.min(error.length(), 255));
+    }
+}
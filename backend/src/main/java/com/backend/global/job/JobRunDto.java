@@ -0,0 +1,26 @@
+package com.backend.global.job;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class JobRunDto {
+    private Long runId;
+    private String owner;
+    private JobTrigger jobTrigger;
+    private JobRunStatus status;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private Long durationMillis;
+    private Long rowsAffected;
+    private String error;
+
+    public static JobRunDto of(JobRun jobRun) {
+        return new JobRunDto(jobRun.getRunId(), jobRun.getOwner(), jobRun.getJobTrigger(), jobRun.getStatus(),
+                jobRun.getStartedAt(), jobRun.getFinishedAt(), jobRun.getDurationMillis(), jobRun.getRowsAffected(),
+                jobRun.getError());
+    }
+}
@@ -0,0 +1,22 @@
+package com.backend.global.job;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface JobRunRepository extends JpaRepository<JobRun, Long> {
+
+    Page<JobRun> findByJobNameOrderByRunIdDesc(String jobName, Pageable pageable);
+
+    Optional<JobRun> findFirstByJobNameOrderByRunIdDesc(String jobName);
+
+    @Modifying
+    @Query("delete from JobRun r where r.startedAt < :before")
+    int deleteStartedBefore(@Param("before") LocalDateTime before);
+}
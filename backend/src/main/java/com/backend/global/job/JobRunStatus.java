@@ -0,0 +1,8 @@
+package com.backend.global.job;
+
+public enum JobRunStatus {
+    RUNNING,
+    SUCCEEDED,
+    FAILED,
+    TIMED_OUT // timeout 안에 끝나지 않아서 interrupt (작업은 멈출 때까지 같은 job 을 다시 실행하지 않음)
+}
@@ -0,0 +1,255 @@
+package com.backend.global.job;
+
+import com.backend.global.error.BusinessLogicException;
+import com.backend.global.error.ExceptionCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.scheduling.support.CronTrigger;
+import org.springframework.scheduling.support.PeriodicTrigger;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+/**
+ * 정기 작업 실행기 (Spring @Scheduled 공용 스레드 풀과 분리된 전용 스레드 풀)
+ * 1. 서버 여러 대에서 같은 시각에 깨어나도 job_lease 를 가져간 한 대만 실행 (leased job)
+ * 2. 같은 job 이 아직 실행 중이면 이번 실행은 건너뜀 (timeout 으로 interrupt 한 작업도 실제로 끝날 때까지)
+ * 3. timeout 안에 끝나지 않으면 interrupt 하고 TIMED_OUT 기록, 다른 job 은 기다리지 않음
+ * 4. 실행마다 job_run 에 실행 서버 / 소요 시간 / 처리한 row 수 기록, 실행 시간은 scheduled.job 으로도 기록
+ * 5. 정기 실행이 끝나면 lease 를 바로 풀지 않고 다음 실행 시각 - lease-release-margin-seconds 까지 유지
+ *    (일찍 끝난 뒤 바로 풀면 시계가 조금 늦은 서버가 같은 실행 시각에 깨어나서 lease 를 가져가고 한 번 더 실행함)
+ *    잡아만 둔 lease 는 owner 가 비어 있어서 어느 서버의 수동 실행이든 가져갈 수 있음
+ * lease 는 timeout + lease-grace-seconds 동안 유지되므로 그 안에 끝나지 않은 작업은 다른 서버와 겹칠 수 있음
+ */
+@Slf4j
+@Component
+public class JobRunner {
+    private final JobLeases jobLeases;
+    private final JobRunRepository jobRunRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, JobDefinition> jobs = new ConcurrentSkipListMap<>();
+    private final Map<String, AtomicBoolean> running = new ConcurrentHashMap<>();
+
+    @Value("${job.pool-size:4}")
+    private int poolSize;
+
+    @Value("${job.lease-grace-seconds:60}")
+    private long leaseGraceSeconds;
+
+    @Value("${job.lease-release-margin-seconds:30}")
+    private long leaseReleaseMarginSeconds;
+
+    @Value("${job.history-days:30}")
+    private int historyDays;
+
+    private ThreadPoolTaskScheduler scheduler;
+    private ExecutorService workers;
+
+    public JobRunner(JobLeases jobLeases, JobRunRepository jobRunRepository,
+                     TransactionTemplate transactionTemplate, MeterRegistry meterRegistry) {
+        this.jobLeases = jobLeases;
+        this.jobRunRepository = jobRunRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void start() {
+        // scheduler 스레드는 trigger + timeout 대기, 실제 작업은 workers 에서 실행 (interrupt 대상)
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("job-scheduler-");
+        scheduler.initialize();
+        workers = Executors.newFixedThreadPool(poolSize, new CustomizableThreadFactory("job-worker-"));
+    }
+
+    /**
+     * 실행 중인 작업은 30초까지 기다렸다가 종료
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        scheduler.shutdown();
+        workers.shutdown();
+        if (!workers.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("실행 중인 job 을 중단하고 종료합니다.");
+            workers.shutdownNow();
+        }
+    }
+
+    public void cron(String name, String cron, Duration timeout, boolean leased, LongSupplier task) {
+        CronExpression expression = CronExpression.parse(cron);
+        register(new JobDefinition(name, cron, new CronTrigger(cron), timeout, leased, task, expression::next));
+    }
+
+    public void fixedRate(String name, Duration period, Duration timeout, boolean leased, LongSupplier task) {
+        PeriodicTrigger trigger = new PeriodicTrigger(period.toMillis());
+        trigger.setFixedRate(true);
+        register(new JobDefinition(name, "every " + period.getSeconds() + "s", trigger, timeout, leased, task,
+                time -> time.plus(period)));
+    }
+
+    private void register(JobDefinition job) {
+        if (jobs.putIfAbsent(job.getName(), job) != null) {
+            throw new IllegalStateException("이미 등록된 job 입니다 : " + job.getName());
+        }
+        running.put(job.getName(), new AtomicBoolean());
+        scheduler.schedule(() -> run(job, JobTrigger.SCHEDULED), job.getTrigger());
+        log.info("job 등록 : {} ({}, timeout {}s, {})", job.getName(), job.getSchedule(), job.getTimeout().getSeconds(),
+                job.isLeased() ? "서버 한 대" : "서버마다");
+    }
+
+    /**
+     * 관리자 수동 실행 (job 스레드에서 비동기로 실행, 결과는 실행 기록으로 확인)
+     * leased job 은 요청 스레드에서 lease 를 먼저 가져옴, 다른 서버가 실행 중이면 JobLeaseHeld (409, lease 주인 / 만료 시각)
+     */
+    public void trigger(String name) {
+        JobDefinition job = find(name);
+        if (isRunning(name)) {
+            throw new BusinessLogicException(ExceptionCode.JOB_RUNNING);
+        }
+        if (job.isLeased() && !jobLeases.tryTakeOver(name, job.getTimeout().plusSeconds(leaseGraceSeconds))) {
+            JobLease lease = jobLeases.find(name).orElse(null);
+            throw new JobLeaseHeld(lease == null ? null : lease.getOwner(), lease == null ? null : lease.getLeaseUntil());
+        }
+        scheduler.execute(() -> run(job, JobTrigger.MANUAL));
+    }
+
+    public Collection<JobDefinition> getJobs() {
+        return jobs.values();
+    }
+
+    public JobDefinition find(String name) {
+        JobDefinition job = jobs.get(name);
+        if (job == null) {
+            throw new BusinessLogicException(ExceptionCode.JOB_NOT_FOUND);
+        }
+        return job;
+    }
+
+    // 이 서버에서 실행 중인지
+    public boolean isRunning(String name) {
+        AtomicBoolean flag = running.get(name);
+        return flag != null && flag.get();
+    }
+
+    // history-days 가 지난 실행 기록 삭제
+    public long purgeHistory() {
+        LocalDateTime before = LocalDateTime.now().minusDays(historyDays);
+        Integer deleted = transactionTemplate.execute(status -> jobRunRepository.deleteStartedBefore(before));
+        return deleted == null ? 0 : deleted;
+    }
+
+    private void run(JobDefinition job, JobTrigger jobTrigger) {
+        String name = job.getName();
+        AtomicBoolean flag = running.get(name);
+        if (!flag.compareAndSet(false, true)) {
+            log.warn("job {} : 이전 실행이 끝나지 않아 건너뜀", name);
+            meterRegistry.counter("scheduled.job.skipped", "job", name).increment();
+            return;
+        }
+
+        boolean submitted = false;
+        LocalDateTime firedAt = LocalDateTime.now();
+        try {
+            if (job.isLeased() && !jobLeases.tryAcquire(name, job.getTimeout().plusSeconds(leaseGraceSeconds))) {
+                log.debug("job {} : 다른 서버가 실행권을 가지고 있음", name);
+                return;
+            }
+
+            JobRun jobRun = jobRunRepository.save(JobRun.start(name, jobLeases.getOwner(), jobTrigger));
+            Timer.Sample sample = Timer.start(meterRegistry);
+            Future<Long> future = workers.submit(() -> {
+                try {
+                    return job.getTask().getAsLong();
+                } finally {
+                    finished(job, jobTrigger, firedAt);
+                }
+            });
+            submitted = true;
+
+            String outcome = "failure";
+            try {
+                long rows = future.get(job.getTimeout().toMillis(), TimeUnit.MILLISECONDS);
+                jobRun.succeeded(rows);
+                meterRegistry.summary("scheduled.job.rows", "job", name).record(rows);
+                outcome = "success";
+                log.info("job {} 완료 : {} 건 ({} ms)", name, rows, jobRun.getDurationMillis());
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                jobRun.timedOut(job.getTimeout());
+                outcome = "timeout";
+                log.error("job {} : {}s 안에 끝나지 않아 중단", name, job.getTimeout().getSeconds());
+            } catch (ExecutionException e) {
+                jobRun.failed(e.getCause());
+                log.error("job {} 실패", name, e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.cancel(true);
+                jobRun.failed(e);
+            } finally {
+                sample.stop(meterRegistry.timer("scheduled.job", "job", name, "outcome", outcome));
+            }
+            jobRunRepository.save(jobRun);
+        } catch (RuntimeException e) {
+            log.error("job {} 실행 준비 실패", name, e);
+        } finally {
+            if (!submitted) {
+                flag.set(false);
+            }
+        }
+    }
+
+    // 작업이 실제로 끝난 뒤 (timeout 이후 포함) 다음 실행 허용
+    private void finished(JobDefinition job, JobTrigger jobTrigger, LocalDateTime firedAt) {
+        try {
+            if (job.isLeased()) {
+                jobLeases.releaseAt(job.getName(), leaseUntilAfterRun(job, jobTrigger, firedAt));
+            }
+        } catch (RuntimeException e) {
+            log.warn("job {} lease 반납 실패 (만료 후 다른 서버가 가져감)", job.getName(), e);
+        } finally {
+            running.get(job.getName()).set(false);
+        }
+    }
+
+    /**
+     * 실행이 끝난 뒤 lease 만료 시각
+     * 정기 실행은 이번 실행 시각의 다음 실행 시각 - lease-release-margin-seconds (이미 지났으면 지금)
+     * 수동 실행은 정기 실행 시각과 상관없으므로 바로 반납
+     */
+    private LocalDateTime leaseUntilAfterRun(JobDefinition job, JobTrigger jobTrigger, LocalDateTime firedAt) {
+        LocalDateTime now = LocalDateTime.now();
+        if (jobTrigger != JobTrigger.SCHEDULED) {
+            return now;
+        }
+        LocalDateTime nextFire = job.nextFireAfter(firedAt);
+        if (nextFire == null) {
+            return now;
+        }
+        LocalDateTime leaseUntil = nextFire.minusSeconds(leaseReleaseMarginSeconds);
+        return leaseUntil.isAfter(now) ? leaseUntil : now;
+    }
+}
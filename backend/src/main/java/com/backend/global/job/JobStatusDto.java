@@ -0,0 +1,19 @@
+package com.backend.global.job;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class JobStatusDto {
+    private String name;
+    private String schedule;
+    private long timeoutSeconds;
+    private boolean leased;
+    private boolean running; // 요청을 받은 서버에서 실행 중인지
+    private String leaseOwner;
+    private LocalDateTime leaseUntil;
+    private JobRunDto lastRun;
+}
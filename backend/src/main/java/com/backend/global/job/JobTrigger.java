@@ -0,0 +1,6 @@
+package com.backend.global.job;
+
+public enum JobTrigger {
+    SCHEDULED,
+    MANUAL // POST /admin/jobs/{job-name}/run
+}
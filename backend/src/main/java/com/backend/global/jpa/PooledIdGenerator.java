@@ -0,0 +1,36 @@
+package com.backend.global.jpa;
+
+import org.hibernate.MappingException;
+import org.hibernate.id.enhanced.TableGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.util.Properties;
+
+/**
+ * id_generator 테이블에서 id 를 ALLOCATION_SIZE 개씩 미리 받아오는 id 생성기
+ * IDENTITY 는 insert 를 실행해야 id 를 알 수 있어서 hibernate 가 insert 를 모으지(batch) 못함
+ * -> persist 시점에 메모리에서 id 를 정하고 insert 는 flush 때 hibernate.jdbc.batch_size 단위로 한 번에 보냄
+ *
+ * 엔티티마다 테이블 이름이 id_generator 의 sequence_name 이 됨 (orders, order_product ...)
+ * 사용 : @GeneratedValue(generator = PooledIdGenerator.NAME) + @GenericGenerator(name = PooledIdGenerator.NAME, strategy = PooledIdGenerator.STRATEGY)
+ */
+public class PooledIdGenerator extends TableGenerator {
+
+    public static final String NAME = "pooled-id";
+    public static final String STRATEGY = "com.backend.global.jpa.PooledIdGenerator";
+
+    // 서버가 재시작되면 받아둔 id 중 쓰지 않은 만큼은 건너뜀
+    public static final int ALLOCATION_SIZE = 100;
+
+    @Override
+    public void configure(Type type, Properties params, ServiceRegistry serviceRegistry) throws MappingException {
+        params.putIfAbsent(TABLE_PARAM, "id_generator");
+        params.putIfAbsent(SEGMENT_COLUMN_PARAM, "sequence_name");
+        params.putIfAbsent(VALUE_COLUMN_PARAM, "next_val");
+        params.putIfAbsent(CONFIG_PREFER_SEGMENT_PER_ENTITY, "true");
+        params.putIfAbsent(INCREMENT_PARAM, String.valueOf(ALLOCATION_SIZE));
+        params.putIfAbsent(OPT_PARAM, "pooled");
+        super.configure(type, params, serviceRegistry);
+    }
+}
@@ -0,0 +1,57 @@
+package com.backend.global.loadtest;
+
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.AbstractAmazonS3;
+import com.amazonaws.services.s3.model.DeleteObjectRequest;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.PutObjectResult;
+import com.amazonaws.util.IOUtils;
+
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * loadtest 프로필용 S3 대역
+ * AwsS3Service 가 사용하는 putObject / getUrl / deleteObject 만 구현하고 나머지는 UnsupportedOperationException
+ * 업로드한 내용은 끝까지 읽어서 (실제 전송처럼 스트림을 소비) 크기만 보관
+ */
+public class InMemoryAmazonS3 extends AbstractAmazonS3 {
+
+    private final Map<String, Integer> objects = new ConcurrentHashMap<>();
+
+    @Override
+    public PutObjectResult putObject(PutObjectRequest putObjectRequest) {
+        try {
+            byte[] content = IOUtils.toByteArray(putObjectRequest.getInputStream());
+            objects.put(key(putObjectRequest.getBucketName(), putObjectRequest.getKey()), content.length);
+        } catch (IOException e) {
+            throw new SdkClientException("업로드 스트림 읽기 실패", e);
+        }
+        return new PutObjectResult();
+    }
+
+    @Override
+    public URL getUrl(String bucketName, String key) {
+        try {
+            return new URL("http", "loadtest-s3.local", "/" + bucketName + ".com/" + key);
+        } catch (MalformedURLException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    @Override
+    public void deleteObject(DeleteObjectRequest deleteObjectRequest) {
+        objects.remove(key(deleteObjectRequest.getBucketName(), deleteObjectRequest.getKey()));
+    }
+
+    public int size() {
+        return objects.size();
+    }
+
+    private String key(String bucketName, String key) {
+        return bucketName + "/" + key;
+    }
+}
@@ -0,0 +1,20 @@
+package com.backend.global.loadtest;
+
+import com.amazonaws.services.s3.AmazonS3;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * loadtest 프로필 : 내장 H2(MySQL 모드) + InMemoryAmazonS3 + 토스 stub 으로 외부 의존 없이 기동
+ * 실행 : ./gradlew bootRun --args='--spring.profiles.active=loadtest' 후 ./gradlew loadTest
+ */
+@Profile("loadtest")
+@Configuration
+public class LoadTestConfig {
+
+    @Bean
+    public AmazonS3 amazonS3() {
+        return new InMemoryAmazonS3();
+    }
+}
@@ -0,0 +1,205 @@
+package com.backend.global.loadtest;
+
+import com.backend.domain.category.dao.CategoryRepository;
+import com.backend.domain.category.domain.Category;
+import com.backend.domain.order.dao.OrderRepository;
+import com.backend.domain.order.domain.Order;
+import com.backend.domain.order.domain.OrderProduct;
+import com.backend.domain.order.domain.OrderProductReviewStatus;
+import com.backend.domain.order.domain.OrderStatus;
+import com.backend.domain.order.dto.OrderDto;
+import com.backend.domain.product.dao.ProductRepository;
+import com.backend.domain.product.domain.Product;
+import com.backend.domain.review.dao.ReviewRepository;
+import com.backend.domain.review.domain.Review;
+import com.backend.domain.user.dao.UserRepository;
+import com.backend.domain.user.domain.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.IntFunction;
+
+/**
+ * loadtest 프로필 기동 시 데이터 생성 (seed 고정이라 매번 같은 데이터)
+ * 1. shopper : 부하 드라이버가 로그인하는 계정 (loadtest{n}@luxmeal.com), 주문 이력 없음
+ *    -> 드라이버가 주문한 상품에만 리뷰를 쓰므로 리뷰 중복 / 주문 상품 중복 조회가 생기지 않음
+ * 2. buyer : 주문 / 리뷰 이력을 가진 계정 (주문 내역, 리뷰 목록, 상품 상세 조회 부하용)
+ * 3. 카테고리, 상품 (판매자 계정 1개), 첫 상품만 재고 hot-product-stock 개
+ * 청크마다 별도 트랜잭션으로 저장
+ */
+@Slf4j
+@Profile("loadtest")
+@Component
+@RequiredArgsConstructor
+public class LoadTestDataSeeder implements ApplicationRunner {
+
+    public static final String PASSWORD = "loadtest1234!";
+    private static final int CHUNK_SIZE = 500;
+
+    private final UserRepository userRepository;
+    private final CategoryRepository categoryRepository;
+    private final ProductRepository productRepository;
+    private final OrderRepository orderRepository;
+    private final ReviewRepository reviewRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${loadtest.seed.shoppers}")
+    private int shoppers;
+
+    @Value("${loadtest.seed.buyers}")
+    private int buyers;
+
+    @Value("${loadtest.seed.categories}")
+    private int categories;
+
+    @Value("${loadtest.seed.products}")
+    private int products;
+
+    @Value("${loadtest.seed.orders-per-buyer}")
+    private int ordersPerBuyer;
+
+    @Value("${loadtest.seed.products-per-order}")
+    private int productsPerOrder;
+
+    @Value("${loadtest.seed.hot-product-stock}")
+    private int hotProductStock;
+
+    private final Random random = new Random(42);
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.currentTimeMillis();
+        // BCrypt 는 비싸므로 한 번만 계산해서 모든 계정에 사용
+        String encodedPassword = passwordEncoder.encode(PASSWORD);
+
+        User seller = saveAll(userRepository::saveAll, 1, i -> user("seller", i, "ROLE_ADMIN", encodedPassword)).get(0);
+        saveAll(userRepository::saveAll, shoppers, i -> user("loadtest", i, "ROLE_USER", encodedPassword));
+        List<User> buyerList = saveAll(userRepository::saveAll, buyers, i -> user("buyer", i, "ROLE_USER", encodedPassword));
+
+        List<Category> categoryList = saveAll(categoryRepository::saveAll, categories,
+                i -> Category.create("카테고리 " + i, "C" + i));
+        List<Product> productList = saveAll(productRepository::saveAll, products,
+                i -> product(i, seller, categoryList.get(i % categoryList.size())));
+        Long hotProductId = productList.get(0).getProductId();
+        new TransactionTemplate(transactionManager)
+                .executeWithoutResult(status -> productRepository.updateStock(hotProductId, hotProductStock));
+
+        int orderCount = buyers * ordersPerBuyer;
+        List<Order> orderList = saveAll(orderRepository::saveAll, orderCount,
+                i -> order(buyerList.get(i / ordersPerBuyer), productList));
+
+        List<OrderProduct> reviewed = new ArrayList<>();
+        for (Order order : orderList) {
+            for (OrderProduct orderProduct : order.getOrderProducts()) {
+                if (orderProduct.getReviewStatus() == OrderProductReviewStatus.WRITED) {
+                    reviewed.add(orderProduct);
+                }
+            }
+        }
+        saveAll(reviewRepository::saveAll, reviewed.size(), i -> review(reviewed.get(i)));
+
+        log.info("loadtest 데이터 생성 완료 : shopper {} / buyer {} / 상품 {} / 주문 {} / 리뷰 {} ({} ms)",
+                shoppers, buyers, products, orderCount, reviewed.size(), System.currentTimeMillis() - start);
+    }
+
+    private <T> List<T> saveAll(SaveAll<T> repository, int count, IntFunction<T> factory) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        List<T> saved = new ArrayList<>(count);
+        for (int from = 0; from < count; from += CHUNK_SIZE) {
+            List<T> chunk = new ArrayList<>(CHUNK_SIZE);
+            for (int i = from; i < Math.min(from + CHUNK_SIZE, count); i++) {
+                chunk.add(factory.apply(i));
+            }
+            saved.addAll(transactionTemplate.execute(status -> repository.saveAll(chunk)));
+        }
+        return saved;
+    }
+
+    private User user(String prefix, int index, String userRole, String encodedPassword) {
+        User user = User.builder()
+                .email(prefix + index + "@luxmeal.com")
+                .password(encodedPassword)
+                .nickname(prefix + index)
+                .profileImage("http://loadtest-s3.local/profile.png")
+                .userRole(userRole)
+                .socialLogin("original")
+                .address("서울특별시 강남구 테헤란로 427")
+                .zipCode("16164")
+                .restCash(1_000_000_000L)
+                .build();
+        user.setUsername(prefix + index);
+        return user;
+    }
+
+    private Product product(int index, User seller, Category category) {
+        return Product.builder()
+                .productName("loadtest 상품 " + index)
+                .price(5000 + random.nextInt(50) * 1000)
+                .discountPrice(random.nextInt(5) * 500)
+                .titleImg("http://loadtest-s3.local/title-" + index + ".jpg")
+                .detailImg("http://loadtest-s3.local/detail-" + index + ".jpg")
+                .tag("loadtest")
+                .viewCount(random.nextInt(1000))
+                .user(seller)
+                .category(category)
+                .reviews(new ArrayList<>())
+                .orderProducts(new ArrayList<>())
+                .build();
+    }
+
+    private Order order(User buyer, List<Product> productList) {
+        // 한 주문 안에서는 서로 다른 상품
+        int first = random.nextInt(productList.size());
+        List<OrderProduct> orderProducts = new ArrayList<>(productsPerOrder);
+        for (int i = 0; i < productsPerOrder; i++) {
+            Product product = productList.get((first + i) % productList.size());
+            orderProducts.add(OrderProduct.createOrderProduct(product, 1 + random.nextInt(3)));
+        }
+
+        OrderDto orderDto = new OrderDto();
+        orderDto.setReceiverAddress(buyer.getAddress());
+        orderDto.setReceiverName(buyer.getNickname());
+        orderDto.setReceiverZipcode(buyer.getZipCode());
+        orderDto.setReceiverPhone("010-0000-0000");
+
+        Order order = Order.createOrder(buyer, orderProducts, orderDto);
+        order.setOrderStatus(OrderStatus.values()[random.nextInt(3)]); // 준비중 / 배송중 / 배송완료
+        if (order.getOrderStatus() == OrderStatus.SHIPPED) {
+            // 배송 완료된 주문은 첫 상품에 리뷰를 남김 (review 에서 생성)
+            orderProducts.get(0).setReviewStatus(OrderProductReviewStatus.WRITED);
+        }
+        return order;
+    }
+
+    private Review review(OrderProduct orderProduct) {
+        Product product = orderProduct.getProduct();
+        User user = orderProduct.getOrder().getUser();
+        return Review.builder()
+                .reviewWriter(user.getNickname())
+                .reviewContent("loadtest 리뷰 " + product.getProductName())
+                .star(1 + random.nextInt(5))
+                .user(user)
+                .product(product)
+                .productId(product.getProductId())
+                .productName(product.getProductName())
+                .titleImg(product.getTitleImg())
+                .build();
+    }
+
+    @FunctionalInterface
+    private interface SaveAll<T> {
+        List<T> saveAll(Iterable<T> entities);
+    }
+}
@@ -0,0 +1,51 @@
+package com.backend.global.loadtest;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * loadtest 프로필용 토스 결제 승인 / 조회 API stub (payment.toss.base-url 이 이 주소를 가리킴)
+ * 외부 API 지연을 latency-millis 만큼 흉내낸다, 같은 서버의 요청 스레드를 사용하므로 지연만큼 스레드를 점유함
+ */
+@Profile("loadtest")
+@RestController
+public class TossPaymentStubController {
+
+    @Value("${loadtest.toss.latency-millis:80}")
+    private long latencyMillis;
+
+    @PostMapping("/loadtest/toss/v1/payments/{paymentKey}")
+    public ResponseEntity<ObjectNode> confirm(@PathVariable String paymentKey, @RequestBody Map<String, String> payload)
+            throws InterruptedException {
+        Thread.sleep(latencyMillis);
+
+        ObjectNode response = JsonNodeFactory.instance.objectNode();
+        response.put("paymentKey", paymentKey);
+        response.put("orderId", payload.get("orderId"));
+        response.put("totalAmount", payload.get("amount"));
+        response.put("status", "DONE");
+        response.put("secret", UUID.randomUUID().toString());
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/loadtest/toss/v1/payments/{paymentKey}")
+    public ResponseEntity<ObjectNode> get(@PathVariable String paymentKey) throws InterruptedException {
+        Thread.sleep(latencyMillis);
+
+        ObjectNode response = JsonNodeFactory.instance.objectNode();
+        response.put("paymentKey", paymentKey);
+        response.put("status", "DONE");
+        return ResponseEntity.ok(response);
+    }
+}
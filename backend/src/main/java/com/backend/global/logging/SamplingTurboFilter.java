@@ -0,0 +1,65 @@
+package com.backend.global.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 지정한 logger(패키지) 의 INFO 이하 로그를 rate 건 중 1 건만 남기는 필터 (logback-spring.xml 에서 설정)
+ * 1. 요청마다 실행되는 필터 / 서비스 로그처럼 같은 내용이 반복되는 로그의 I/O 를 줄이기 위해 사용
+ * 2. WARN, ERROR 는 항상 남긴다
+ * 3. 메시지 포맷팅 / appender 호출 전에 거절하므로 버려지는 로그는 비용이 거의 없다
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    private final List<String> loggers = new ArrayList<>();
+    private final Map<String, AtomicLong> counters = new ConcurrentHashMap<>();
+    private int rate = 1;
+
+    // <logger> 항목마다 호출됨
+    public void addLogger(String logger) {
+        loggers.add(logger);
+    }
+
+    public void setRate(int rate) {
+        this.rate = Math.max(1, rate);
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // isInfoEnabled() 같은 레벨 확인 호출(format == null)은 샘플링하지 않는다
+        if (!isStarted() || rate == 1 || format == null || level == null || level.isGreaterOrEqual(Level.WARN)) {
+            return FilterReply.NEUTRAL;
+        }
+
+        // 어차피 레벨 때문에 버려질 로그는 카운트하지 않음
+        if (!level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+
+        String name = logger.getName();
+        if (!isSampled(name)) {
+            return FilterReply.NEUTRAL;
+        }
+
+        long count = counters.computeIfAbsent(name, key -> new AtomicLong()).getAndIncrement();
+        return count % rate == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    private boolean isSampled(String name) {
+        for (String logger : loggers) {
+            if (name.startsWith(logger)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,196 @@
+package com.backend.global.mail;
+
+import com.backend.global.error.BusinessLogicException;
+import com.backend.global.error.ExceptionCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.mail.MessagingException;
+import javax.mail.internet.InternetAddress;
+import javax.mail.internet.MimeMessage;
+import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메일 비동기 발송 큐
+ * 1. 요청 스레드는 큐에 넣기만 하고 바로 반환 (큐가 가득 차면 MAIL_QUEUE_FULL)
+ * 2. worker 가 큐에서 최대 batch-size 건을 꺼내 JavaMailSender.send(MimeMessage...) 로 한 번에 발송
+ *    -> SMTP 연결 / 인증을 batch 당 한 번만 한다
+ * 3. 실패한 메일만 retry-backoff-millis * 2^(시도횟수) 후에 다시 큐에 넣고, max-attempts 를 넘으면 버린다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MailOutbox {
+
+    private final JavaMailSender mailSender;
+
+    @Value("${mail.outbox.capacity:1000}")
+    private int capacity;
+
+    @Value("${mail.outbox.workers:2}")
+    private int workers;
+
+    @Value("${mail.outbox.batch-size:20}")
+    private int batchSize;
+
+    @Value("${mail.outbox.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${mail.outbox.retry-backoff-millis:1000}")
+    private long retryBackoffMillis;
+
+    private BlockingQueue<OutgoingMail> queue;
+    private ExecutorService workerPool;
+    private ScheduledExecutorService retryScheduler;
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        queue = new LinkedBlockingQueue<>(capacity);
+        workerPool = Executors.newFixedThreadPool(workers, new CustomizableThreadFactory("mail-outbox-"));
+        retryScheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("mail-retry-"));
+        running = true;
+
+        for (int i = 0; i < workers; i++) {
+            workerPool.execute(this::work);
+        }
+    }
+
+    /**
+     * 종료할 때 큐에 남은 메일은 worker 가 마저 보내고 끝난다
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        retryScheduler.shutdownNow();
+        workerPool.shutdown();
+        if (!workerPool.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("메일 발송 대기 {} 건을 보내지 못하고 종료합니다.", queue.size());
+            workerPool.shutdownNow();
+        }
+    }
+
+    /**
+     * 메일 발송 요청
+     *
+     * @param mail 보낼 메일
+     */
+    public void enqueue(OutgoingMail mail) {
+        if (!queue.offer(mail)) {
+            log.warn("메일 발송 큐가 가득 찼습니다. (capacity : {})", capacity);
+            throw new BusinessLogicException(ExceptionCode.MAIL_QUEUE_FULL);
+        }
+    }
+
+    public int pending() {
+        return queue.size();
+    }
+
+    private void work() {
+        List<OutgoingMail> batch = new ArrayList<>(batchSize);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                OutgoingMail first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+
+                send(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("메일 발송 worker 오류", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void send(List<OutgoingMail> batch) {
+        // MimeMessage 는 equals 를 재정의하지 않으므로 실패 목록(failedMessages)과 객체 그대로 매칭된다
+        Map<MimeMessage, OutgoingMail> messages = new LinkedHashMap<>();
+        for (OutgoingMail mail : batch) {
+            try {
+                messages.put(toMimeMessage(mail), mail);
+            } catch (MessagingException | UnsupportedEncodingException e) {
+                log.error("메일 생성 실패 : {}", mail.getTo(), e);
+            }
+        }
+
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        try {
+            mailSender.send(messages.keySet().toArray(new MimeMessage[0]));
+            log.info("메일 {} 건 발송 완료", messages.size());
+        } catch (MailSendException e) {
+            Map<Object, Exception> failedMessages = e.getFailedMessages();
+            if (failedMessages.isEmpty()) {
+                retryAll(messages.values(), e);
+                return;
+            }
+            failedMessages.forEach((message, cause) -> retry(messages.get(message), cause));
+        } catch (MailException e) {
+            retryAll(messages.values(), e);
+        }
+    }
+
+    private MimeMessage toMimeMessage(OutgoingMail mail) throws MessagingException, UnsupportedEncodingException {
+        MimeMessage message = mailSender.createMimeMessage();
+
+        message.addRecipients(MimeMessage.RecipientType.TO, mail.getTo());
+        message.setSubject(mail.getSubject());
+        message.setText(mail.getHtml(), "utf-8", "html");
+        message.setFrom(new InternetAddress(mail.getFrom(), mail.getFromName()));
+
+        return message;
+    }
+
+    private void retryAll(Collection<OutgoingMail> mails, Exception cause) {
+        mails.forEach(mail -> retry(mail, cause));
+    }
+
+    private void retry(OutgoingMail mail, Exception cause) {
+        if (mail == null) {
+            return;
+        }
+
+        if (mail.getAttempt() + 1 >= maxAttempts || !running) {
+            log.error("메일 발송 실패 ({} 회 시도) : {}", mail.getAttempt() + 1, mail.getTo(), cause);
+            return;
+        }
+
+        long delay = retryBackoffMillis << mail.getAttempt();
+        log.warn("메일 발송 실패, {} ms 후 재시도 : {} ({})", delay, mail.getTo(), cause.getMessage());
+
+        retryScheduler.schedule(() -> {
+            if (!queue.offer(mail.nextAttempt())) {
+                log.error("메일 재시도 실패 (큐가 가득 참) : {}", mail.getTo());
+            }
+        }, delay, TimeUnit.MILLISECONDS);
+    }
+}
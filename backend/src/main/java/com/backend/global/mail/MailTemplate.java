@@ -0,0 +1,77 @@
+package com.backend.global.mail;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.util.HtmlUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {{name}} 형태의 placeholder 를 가진 메일 HTML 템플릿
+ * 생성할 때 한 번만 고정 문자열 / placeholder 로 나눠두고, render 는 값을 escape 해서 이어붙이기만 한다
+ */
+public class MailTemplate {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    // literals.size() == names.size() + 1
+    private final List<String> literals = new ArrayList<>();
+    private final List<String> names = new ArrayList<>();
+    private final int literalLength;
+
+    private MailTemplate(String template) {
+        int position = 0;
+        int open;
+        while ((open = template.indexOf(OPEN, position)) >= 0) {
+            int close = template.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                break;
+            }
+            literals.add(template.substring(position, open));
+            names.add(template.substring(open + OPEN.length(), close).trim());
+            position = close + CLOSE.length();
+        }
+        literals.add(template.substring(position));
+
+        this.literalLength = literals.stream().mapToInt(String::length).sum();
+    }
+
+    public static MailTemplate compile(String template) {
+        return new MailTemplate(template);
+    }
+
+    /**
+     * @param path classpath 기준 템플릿 경로
+     * @return 컴파일된 템플릿
+     */
+    public static MailTemplate fromClasspath(String path) {
+        try (InputStream inputStream = new ClassPathResource(path).getInputStream()) {
+            return compile(StreamUtils.copyToString(inputStream, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException("메일 템플릿을 읽을 수 없습니다 : " + path, e);
+        }
+    }
+
+    /**
+     * @param values placeholder 이름 -> 값 (없는 값은 빈 문자열)
+     * @return 완성된 HTML
+     */
+    public String render(Map<String, String> values) {
+        StringBuilder html = new StringBuilder(literalLength + names.size() * 16);
+
+        for (int i = 0; i < names.size(); i++) {
+            html.append(literals.get(i));
+            html.append(HtmlUtils.htmlEscape(values.getOrDefault(names.get(i), "")));
+        }
+        html.append(literals.get(names.size()));
+
+        return html.toString();
+    }
+}
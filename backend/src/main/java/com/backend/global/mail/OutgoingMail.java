@@ -0,0 +1,27 @@
+package com.backend.global.mail;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 발송 대기중인 메일
+ * 재시도할 때는 attempt 만 올린 새 객체를 만든다
+ */
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class OutgoingMail {
+    private final String from;
+    private final String fromName;
+    private final String to;
+    private final String subject;
+    private final String html;
+    // 지금까지 발송을 시도한 횟수
+    private final int attempt;
+
+    public OutgoingMail nextAttempt() {
+        return new OutgoingMail(from, fromName, to, subject, html, attempt + 1);
+    }
+}
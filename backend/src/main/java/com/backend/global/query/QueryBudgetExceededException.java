@@ -0,0 +1,11 @@
+package com.backend.global.query;
+
+/**
+ * 쿼리 수 예산 초과 / N+1 의심 (query-guard.mode=fail 또는 테스트 assert)
+ */
+public class QueryBudgetExceededException extends IllegalStateException {
+
+    public QueryBudgetExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,73 @@
+package com.backend.global.query;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 하나의 측정 구간(요청 / 서비스 메서드 / 테스트 블록)에서 실행된 SQL 집계
+ * 파라미터는 ? 로 치환된 상태로 들어오므로 같은 SQL 이 여러 번 나오면
+ * 파라미터만 바꿔 반복 조회한 것(N+1 의심)으로 본다
+ *
+ * <pre>
+ * try (QueryCount count = QueryCounter.start("order")) {
+ *     orderService.getOrderList(userId, pageable);
+ *     count.assertAtMost(3);
+ *     count.assertNoNPlusOne(2);
+ * }
+ * </pre>
+ */
+public class QueryCount implements AutoCloseable {
+
+    private final String name;
+    private final Map<String, Integer> statements = new LinkedHashMap<>();
+    private int total;
+
+    QueryCount(String name) {
+        this.name = name;
+    }
+
+    void add(String sql) {
+        total++;
+        statements.merge(sql, 1, Integer::sum);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    /**
+     * @param threshold 이 횟수 이상 반복된 SQL 만 반환
+     * @return SQL -> 실행 횟수
+     */
+    public Map<String, Integer> getNPlusOneSuspects(int threshold) {
+        return statements.entrySet().stream()
+                .filter(entry -> entry.getValue() >= threshold)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, LinkedHashMap::new));
+    }
+
+    public void assertAtMost(int budget) {
+        if (total > budget) {
+            throw new QueryBudgetExceededException(name + " : SQL " + total + " 건 실행 (허용 " + budget + " 건)");
+        }
+    }
+
+    public void assertNoNPlusOne(int threshold) {
+        Map<String, Integer> suspects = getNPlusOneSuspects(threshold);
+        if (!suspects.isEmpty()) {
+            throw new QueryBudgetExceededException(name + " : N+1 의심 " + suspects);
+        }
+    }
+
+    /**
+     * 측정 종료, 바깥 구간은 계속 집계된다
+     */
+    @Override
+    public void close() {
+        QueryCounter.end(this);
+    }
+}
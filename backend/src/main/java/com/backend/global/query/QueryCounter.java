@@ -0,0 +1,36 @@
+package com.backend.global.query;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * 스레드별로 열려 있는 측정 구간에 SQL 을 기록
+ * 구간은 중첩될 수 있고 (요청 > 서비스 메서드 > 내부 서비스 호출) 실행된 SQL 은 열려 있는 모든 구간에 더해진다
+ */
+public final class QueryCounter {
+
+    private static final ThreadLocal<Deque<QueryCount>> SCOPES = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private QueryCounter() {
+    }
+
+    /**
+     * @param name 로그 / 예외 메시지에 표시할 구간 이름
+     * @return try-with-resources 로 닫아야 하는 측정 구간
+     */
+    public static QueryCount start(String name) {
+        QueryCount count = new QueryCount(name);
+        SCOPES.get().push(count);
+        return count;
+    }
+
+    static void record(String sql) {
+        for (QueryCount count : SCOPES.get()) {
+            count.add(sql);
+        }
+    }
+
+    static void end(QueryCount count) {
+        SCOPES.get().remove(count);
+    }
+}
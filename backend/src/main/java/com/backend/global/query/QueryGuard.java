@@ -0,0 +1,35 @@
+package com.backend.global.query;
+
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.helpers.MessageFormatter;
+
+/**
+ * 구간이 끝날 때 쿼리 수 예산과 N+1 의심 SQL 을 검사
+ * mode 가 fail 이면 QueryBudgetExceededException, log 면 WARN 로그만 남김
+ */
+@Slf4j
+public class QueryGuard {
+
+    private final boolean fail;
+    private final int nPlusOneThreshold;
+
+    public QueryGuard(String mode, int nPlusOneThreshold) {
+        this.fail = "fail".equalsIgnoreCase(mode);
+        this.nPlusOneThreshold = nPlusOneThreshold;
+    }
+
+    public void check(QueryCount count, int budget) {
+        if (count.getTotal() > budget) {
+            report("{} : SQL {} 건 실행 (허용 {} 건)", count.getName(), count.getTotal(), budget);
+        }
+        count.getNPlusOneSuspects(nPlusOneThreshold)
+                .forEach((sql, times) -> report("{} : N+1 의심 {} 회 반복 - {}", count.getName(), times, sql));
+    }
+
+    private void report(String format, Object... args) {
+        log.warn(format, args);
+        if (fail) {
+            throw new QueryBudgetExceededException(MessageFormatter.arrayFormat(format, args).getMessage());
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.backend.global.query;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+/**
+ * domain.*.application 의 Service public 메서드 하나에서 실행된 SQL 수 검사
+ */
+@Aspect
+@RequiredArgsConstructor
+public class QueryGuardAspect {
+
+    private final QueryGuard queryGuard;
+    private final int budget;
+
+    @Around("execution(public * com.backend.domain..application.*Service.*(..))")
+    public Object guard(ProceedingJoinPoint joinPoint) throws Throwable {
+        String name = joinPoint.getSignature().getDeclaringType().getSimpleName() + "." + joinPoint.getSignature().getName();
+        try (QueryCount count = QueryCounter.start(name)) {
+            Object result = joinPoint.proceed();
+            queryGuard.check(count, budget);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.backend.global.query;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * HTTP 요청 하나에서 실행된 SQL 수 검사 (Security 필터의 유저 조회 포함)
+ */
+@RequiredArgsConstructor
+public class QueryGuardFilter extends OncePerRequestFilter {
+
+    private final QueryGuard queryGuard;
+    private final int budget;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        try (QueryCount count = QueryCounter.start(request.getMethod() + " " + request.getRequestURI())) {
+            filterChain.doFilter(request, response);
+            queryGuard.check(count, budget);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.backend.global.utils;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 요청한 클라이언트 IP 조회 (메일 / 로그인 요청 제한 key)
+ * 1. 직접 연결한 주소가 security.client-ip.trusted-proxies (IP 또는 CIDR) 가 아니면 X-Forwarded-For 는 무시한다
+ * 2. 신뢰하는 프록시에서 온 요청이면 X-Forwarded-For 를 뒤에서부터 보면서 신뢰하는 프록시가 아닌 첫 주소를 클라이언트로 본다
+ *    (클라이언트가 임의로 넣은 값은 앞쪽에 남고, 프록시는 자신이 받은 연결 주소를 뒤에 붙인다)
+ */
+@Component
+public class ClientIpResolver {
+
+    private final List<IpAddressMatcher> trustedProxies = new ArrayList<>();
+
+    public ClientIpResolver(@Value("${security.client-ip.trusted-proxies:}") List<String> trustedProxies) {
+        for (String proxy : trustedProxies) {
+            if (!proxy.isBlank()) {
+                this.trustedProxies.add(new IpAddressMatcher(proxy.trim()));
+            }
+        }
+    }
+
+    public String resolve(HttpServletRequest request) {
+        String remoteAddr = request.getRemoteAddr();
+        if (!isTrusted(remoteAddr)) {
+            return remoteAddr;
+        }
+
+        String forwardedFor = request.getHeader("X-Forwarded-For");
+        if (forwardedFor == null || forwardedFor.isBlank()) {
+            return remoteAddr;
+        }
+
+        String[] addresses = forwardedFor.split(",");
+        String client = remoteAddr;
+        for (int i = addresses.length - 1; i >= 0; i--) {
+            client = addresses[i].trim();
+            if (!isTrusted(client)) {
+                return client;
+            }
+        }
+        return client;
+    }
+
+    private boolean isTrusted(String address) {
+        for (IpAddressMatcher trustedProxy : trustedProxies) {
+            try {
+                if (trustedProxy.matches(address)) {
+                    return true;
+                }
+            } catch (IllegalArgumentException e) {
+                // 주소 형식이 아닌 X-Forwarded-For 값
+                return false;
+            }
+        }
+        return false;
+    }
+}
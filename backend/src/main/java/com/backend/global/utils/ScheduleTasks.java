@@ -2,40 +2,46 @@ package com.backend.global.utils;
 
 import com.backend.domain.order.application.OrderService;
 import com.backend.domain.refreshToken.application.RefreshTokenService;
-import com.backend.domain.user.application.UserService;
+import com.backend.domain.user.application.GuestAccountPurger;
+import com.backend.global.event.DomainEventRelay;
+import com.backend.global.job.JobRunner;
 import lombok.RequiredArgsConstructor;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import javax.transaction.Transactional;
+import javax.annotation.PostConstruct;
+import java.time.Duration;
 
+/**
+ * 정기 작업 등록 (JobRunner 전용 스레드 풀에서 실행, 실행 기록은 GET /admin/jobs)
+ * DB 를 바꾸는 작업은 서버 여러 대 중 lease 를 가진 한 대만 실행
+ */
 @RequiredArgsConstructor
 @Component
 public class ScheduleTasks {
+    private final JobRunner jobRunner;
     private final OrderService orderService;
-    private final UserService userService;
+    private final GuestAccountPurger guestAccountPurger;
     private final RefreshTokenService refreshTokenService;
+    private final DomainEventRelay domainEventRelay;
 
-    private static final Logger log = LoggerFactory.getLogger(ScheduleTasks.class);
+    @Value("${jwt.refresh-token-store:jpa}")
+    private String refreshTokenStore;
 
-    //@Scheduled(fixedDelay = 5000)//테스트용 5초마다 실행
-    @Transactional
-    @Scheduled(cron = "0 0 7 * * *") //매일아침 7시마다 그 전에 배송중으로 바꾼 주문들을 전부 배송완료로 변경
-    public void AutoOrderTask() {
-        orderService.autoUpdate();
-        log.info("배송된 주문들이 배송완료처리 되었습니다");
-    }
+    @PostConstruct
+    public void register() {
+        //매일아침 7시마다 그 전에 배송중으로 바꾼 주문들을 전부 배송완료로 변경
+        jobRunner.cron("auto-order", "0 0 7 * * *", Duration.ofMinutes(10), true, orderService::autoUpdate);
 
-    @Transactional
-    @Scheduled(cron = "0 0 6 * * *")
-    public void deleteGustAccount() {
-        userService.deleteGustAccount();
-    }
+        // 게스트 계정과 그 데이터를 chunk 단위로 삭제
+        jobRunner.cron("delete-guest-account", "0 0 6 * * *", Duration.ofMinutes(30), true, guestAccountPurger::purge);
+
+        // memory 저장소면 서버마다 자기 메모리의 토큰을 정리
+        jobRunner.fixedRate("delete-expired-token", Duration.ofMinutes(10), Duration.ofMinutes(5),
+                "jpa".equals(refreshTokenStore), refreshTokenService::deleteExpiredToken);
+
+        jobRunner.cron("purge-domain-event", "0 30 4 * * *", Duration.ofMinutes(30), true, domainEventRelay::purgePublished);
 
-    @Scheduled(fixedRate = 600000)
-    public void deleteExpiredToken() {
-        refreshTokenService.deleteExpiredToken();
+        jobRunner.cron("purge-job-run", "0 0 5 * * *", Duration.ofMinutes(5), true, jobRunner::purgeHistory);
     }
 }
@@ -0,0 +1,53 @@
+package com.backend.global.utils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * 같은 key 로 동시에 들어온 작업을 한 번만 실행하고 결과를 함께 사용
+ * 먼저 들어온 요청이 작업을 실행하고, 실행 중에 들어온 요청은 그 결과(또는 예외)를 기다려서 받는다
+ * 작업이 끝나면 key 를 지우므로 이후 요청은 다시 실행됨 (결과 보관은 호출하는 쪽 책임)
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * @param key    같은 작업을 구분하는 key
+     * @param action 실행할 작업
+     * @param shared 기다렸다가 결과를 받은 요청에 돌려줄 값 (예 : 재요청 표시)
+     */
+    public V execute(K key, Supplier<V> action, UnaryOperator<V> shared) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            return shared.apply(await(running));
+        }
+
+        try {
+            V result = action.get();
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private V await(CompletableFuture<V> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
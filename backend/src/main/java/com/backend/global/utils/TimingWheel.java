@@ -0,0 +1,118 @@
+package com.backend.global.utils;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 만료 시각이 있는 key 를 관리하는 hashed timing wheel
+ * 1. key 는 만료 시각이 속한 tick 의 bucket 에 들어간다
+ * 2. advance 를 호출하면 지나간 tick 의 bucket 만 확인해서 만료된 key 를 onExpire 로 넘긴다
+ * 3. 전체 key 를 훑지 않으므로 key 가 많아도 tick 당 비용은 해당 bucket 크기에만 비례한다
+ * 4. wheel 한 바퀴보다 먼 만료 시각은 bucket 에 남겨두었다가 다음 바퀴에 다시 확인한다
+ * 5. 이미 지난 만료 시각은 현재 tick 의 bucket 에 넣고, key 마다 실제로 넣은 bucket 을 기억해서 재등록 여부를 판단한다
+ *
+ * @param <K> 만료 대상 key
+ */
+public class TimingWheel<K> {
+
+    private final long tickMillis;
+    private final Set<K>[] buckets;
+    private final Map<K, Timeout> timeouts = new ConcurrentHashMap<>();
+    private final Consumer<K> onExpire;
+
+    private long lastTick;
+
+    @SuppressWarnings("unchecked")
+    public TimingWheel(long tickMillis, int wheelSize, Consumer<K> onExpire) {
+        this.tickMillis = tickMillis;
+        this.buckets = new Set[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = ConcurrentHashMap.newKeySet();
+        }
+        this.onExpire = onExpire;
+        this.lastTick = System.currentTimeMillis() / tickMillis;
+    }
+
+    /**
+     * key 의 만료 시각 등록 (이미 등록된 key 면 만료 시각을 갱신)
+     *
+     * @param key            만료 대상
+     * @param deadlineMillis 만료 시각 (epoch millis)
+     */
+    public void schedule(K key, long deadlineMillis) {
+        int bucket = index(Math.max(deadlineMillis, System.currentTimeMillis()) / tickMillis);
+        timeouts.put(key, new Timeout(deadlineMillis, bucket));
+        buckets[bucket].add(key);
+    }
+
+    /**
+     * key 만료 취소, bucket 에 남은 key 는 다음 advance 때 정리된다
+     *
+     * @param key 만료 대상
+     */
+    public void cancel(K key) {
+        timeouts.remove(key);
+    }
+
+    public int size() {
+        return timeouts.size();
+    }
+
+    /**
+     * 마지막으로 확인한 tick 부터 현재 tick 까지의 bucket 을 확인해서 만료된 key 를 처리
+     *
+     * @param nowMillis 현재 시각 (epoch millis)
+     * @return 만료 처리된 key 수
+     */
+    public synchronized int advance(long nowMillis) {
+        long nowTick = nowMillis / tickMillis;
+        long fromTick = Math.max(lastTick, nowTick - buckets.length + 1);
+
+        int expired = 0;
+        for (long tick = fromTick; tick <= nowTick; tick++) {
+            expired += expireBucket(index(tick), nowMillis);
+        }
+
+        lastTick = nowTick;
+        return expired;
+    }
+
+    private int expireBucket(int bucket, long nowMillis) {
+        int expired = 0;
+
+        Iterator<K> iterator = buckets[bucket].iterator();
+        while (iterator.hasNext()) {
+            K key = iterator.next();
+            Timeout timeout = timeouts.get(key);
+
+            if (timeout == null || timeout.bucket != bucket) {
+                // 취소됐거나 다른 bucket 으로 재등록된 key
+                iterator.remove();
+            } else if (timeout.deadlineMillis <= nowMillis && timeouts.remove(key, timeout)) {
+                iterator.remove();
+                onExpire.accept(key);
+                expired++;
+            }
+        }
+
+        return expired;
+    }
+
+    private int index(long tick) {
+        return (int) (tick % buckets.length);
+    }
+
+    // 만료 시각과 key 를 넣은 bucket (지난 만료 시각이면 등록할 때의 tick)
+    private static final class Timeout {
+        private final long deadlineMillis;
+        private final int bucket;
+
+        private Timeout(long deadlineMillis, int bucket) {
+            this.deadlineMillis = deadlineMillis;
+            this.bucket = bucket;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.backend.global.utils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * key 별 token bucket 요청 제한
+ * 1. key 마다 capacity 개의 토큰을 갖고 시작하고, refillMillis 마다 1개씩 다시 채워진다
+ * 2. 요청할 때 토큰이 남아있으면 1개 쓰고 통과, 없으면 거절
+ * 3. 다 채워질 만큼 쓰이지 않은 bucket 은 새 bucket 과 같으므로 timing wheel 로 제거한다 (evictIdle)
+ */
+public class TokenBucketLimiter {
+
+    private final int capacity;
+    private final long refillMillis;
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final TimingWheel<String> idleBuckets;
+
+    public TokenBucketLimiter(int capacity, long refillMillis) {
+        this.capacity = capacity;
+        this.refillMillis = refillMillis;
+        this.idleBuckets = new TimingWheel<>(1000, 3600, buckets::remove);
+    }
+
+    /**
+     * @param key 제한 대상 (이메일, IP 등)
+     * @return 토큰을 얻었으면 true
+     */
+    public boolean tryAcquire(String key) {
+        long now = System.currentTimeMillis();
+        Bucket bucket = buckets.computeIfAbsent(key, k -> new Bucket(capacity, now));
+
+        boolean acquired;
+        synchronized (bucket) {
+            acquired = bucket.tryAcquire(now);
+        }
+
+        idleBuckets.schedule(key, now + capacity * refillMillis);
+        return acquired;
+    }
+
+    // 다 채워진 bucket 제거, 주기적으로 호출해야 한다
+    public int evictIdle() {
+        return idleBuckets.advance(System.currentTimeMillis());
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    private class Bucket {
+        private double tokens;
+        private long lastRefill;
+
+        private Bucket(double tokens, long now) {
+            this.tokens = tokens;
+            this.lastRefill = now;
+        }
+
+        private boolean tryAcquire(long now) {
+            tokens = Math.min(capacity, tokens + (double) (now - lastRefill) / refillMillis);
+            lastRefill = now;
+
+            if (tokens < 1) {
+                return false;
+            }
+            tokens -= 1;
+            return true;
+        }
+    }
+}
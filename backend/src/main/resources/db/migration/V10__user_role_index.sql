@@ -0,0 +1,2 @@
+-- 게스트 계정 정리 (GuestAccountPurger) : 역할별 user id 순 조회
+create index idx_user_user_role_user_id on user (user_role, user_id);
@@ -0,0 +1,2 @@
+-- 도메인 이벤트 전달 (DomainEventRepository.findPending) : 같은 aggregate 의 앞선 전달 대기 이벤트 확인 (not exists)
+create index idx_domain_event_aggregate on domain_event (aggregate_type, aggregate_id, status, event_id);
@@ -0,0 +1,126 @@
+-- 운영 DB 기준 스키마 (ddl-auto 로 만들어진 상태)
+-- 이미 테이블이 있는 운영 DB 는 baseline-on-migrate 로 V1 을 건너뛰고 V2 부터 적용
+
+create table category (
+    category_id       bigint       not null auto_increment,
+    category_name     varchar(255) not null,
+    category_ref_code varchar(255) not null,
+    primary key (category_id)
+) engine = InnoDB;
+
+create table point_history (
+    point_history_id bigint      not null auto_increment,
+    cash             integer     not null,
+    point_type       integer,
+    created_at       datetime(6) not null,
+    rest_cash        bigint,
+    user_id          bigint,
+    primary key (point_history_id)
+) engine = InnoDB;
+
+create table user (
+    user_id          bigint       not null auto_increment,
+    created_at       datetime(6),
+    last_modified_at datetime(6),
+    email            varchar(255) not null,
+    password         varchar(255) not null,
+    nickname         varchar(255) not null,
+    profile_image    varchar(255) not null,
+    user_role        varchar(255),
+    social_login     varchar(255) not null,
+    status           varchar(255) not null,
+    zip_code         varchar(255),
+    address          varchar(255),
+    phone            varchar(255),
+    username         varchar(255),
+    rest_cash        bigint,
+    point_history_id bigint,
+    primary key (user_id),
+    constraint uk_user_phone unique (phone)
+) engine = InnoDB;
+
+create table product (
+    product_id       bigint       not null auto_increment,
+    created_at       datetime(6),
+    last_modified_at datetime(6),
+    price            integer      not null,
+    product_name     varchar(255) not null,
+    discount_price   integer      not null,
+    title_img        varchar(255),
+    detail_img       varchar(255),
+    tag              varchar(255),
+    view_count       integer default 0,
+    user_id          bigint,
+    category_id      bigint,
+    primary key (product_id)
+) engine = InnoDB;
+
+create table orders (
+    order_id          bigint       not null auto_increment,
+    created_at        datetime(6)  not null,
+    last_modified_at  datetime(6),
+    zip_code          varchar(255) not null,
+    receiver_address  varchar(255) not null,
+    receiver_name     varchar(255) not null,
+    receiver_phone    varchar(255) not null,
+    order_status      varchar(255),
+    order_total_price integer      not null,
+    user_id           bigint,
+    primary key (order_id)
+) engine = InnoDB;
+
+create table order_product (
+    order_product_id bigint  not null auto_increment,
+    created_at       datetime(6),
+    last_modified_at datetime(6),
+    price            integer not null,
+    quantity         integer not null,
+    review_status    integer,
+    order_id         bigint,
+    product_id       bigint,
+    primary key (order_product_id)
+) engine = InnoDB;
+
+create table review (
+    review_id        bigint       not null auto_increment,
+    created_at       datetime(6),
+    last_modified_at datetime(6),
+    review_writer    varchar(255) not null,
+    review_content   varchar(255) not null,
+    star             integer      not null,
+    review_img       varchar(255),
+    pro_id           bigint,
+    product_name     varchar(255),
+    title_img        varchar(255),
+    product_id       bigint,
+    user_id          bigint,
+    primary key (review_id)
+) engine = InnoDB;
+
+create table payment (
+    payment_id  bigint       not null auto_increment,
+    payment_key varchar(255),
+    order_id    varchar(255),
+    amount      integer      not null,
+    secret      varchar(255),
+    primary key (payment_id)
+) engine = InnoDB;
+
+create table refresh_token (
+    rt_key             bigint not null,
+    created_at         datetime(6),
+    last_modified_at   datetime(6),
+    rt_value           varchar(500),
+    rt_expiration_date datetime(6),
+    primary key (rt_key)
+) engine = InnoDB;
+
+alter table point_history add constraint fk_point_history_user foreign key (user_id) references user (user_id);
+alter table user add constraint fk_user_point_history foreign key (point_history_id) references point_history (point_history_id);
+alter table product add constraint fk_product_user foreign key (user_id) references user (user_id);
+alter table product add constraint fk_product_category foreign key (category_id) references category (category_id);
+alter table orders add constraint fk_orders_user foreign key (user_id) references user (user_id);
+alter table order_product add constraint fk_order_product_orders foreign key (order_id) references orders (order_id);
+alter table order_product add constraint fk_order_product_product foreign key (product_id) references product (product_id);
+alter table review add constraint fk_review_product foreign key (product_id) references product (product_id);
+alter table review add constraint fk_review_user foreign key (user_id) references user (user_id);
@@ -0,0 +1,18 @@
+-- refresh token 을 해시로 저장하고 family 단위로 교체 (기존 토큰은 원문이라 재사용 불가 -> 재로그인 필요)
+drop table refresh_token;
+
+create table refresh_token (
+    rt_family_id       varchar(36) not null,
+    created_at         datetime(6),
+    last_modified_at   datetime(6),
+    rt_user_id         bigint,
+    rt_value           varchar(64),
+    rt_previous_value  varchar(64),
+    rt_rotated_at      datetime(6),
+    rt_expiration_date datetime(6),
+    primary key (rt_family_id),
+    constraint idx_refresh_token_value unique (rt_value)
+) engine = InnoDB;
+
+create index idx_refresh_token_user_id on refresh_token (rt_user_id);
+create index idx_refresh_token_expiration_date on refresh_token (rt_expiration_date);
@@ -0,0 +1,5 @@
+-- 결제 승인 멱등 처리 : paymentKey 당 한 건, 승인 응답 보관
+alter table payment add column confirm_response longtext;
+
+alter table payment add constraint uk_payment_payment_key unique (payment_key);
+alter table payment add constraint uk_payment_order_id unique (order_id);
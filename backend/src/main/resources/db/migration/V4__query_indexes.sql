@@ -0,0 +1,30 @@
+-- 조회 쿼리별 인덱스 (엔티티 @Table(indexes) 와 같은 이름)
+
+-- OrderRepository.findOrders / countOrder : where user_id = ? order by created_at desc
+create index idx_orders_user_id_created_at on orders (user_id, created_at);
+-- OrderRepository.findByOrderStatus : 자동 배송 상태 변경
+create index idx_orders_order_status on orders (order_status);
+
+-- OrderProductRepository.findByOrderProduct : product_id 로 좁힌 뒤 orders(user_id) 조인
+create index idx_order_product_product_id_order_id on order_product (product_id, order_id);
+
+-- PointHistoryRepository.findPointHistoryList / countPoint : where user_id = ? order by created_at desc
+create index idx_point_history_user_id_created_at on point_history (user_id, created_at);
+
+-- ReviewRepository.findByProduct / findByUser : order by review_id desc
+create index idx_review_product_id_review_id on review (product_id, review_id);
+create index idx_review_user_id_review_id on review (user_id, review_id);
+-- ReviewRepository.findByUserId : review.pro_id = product.product_id 조인
+create index idx_review_pro_id_review_id on review (pro_id, review_id);
+
+-- ProductRepository.findByCategory / findAll : 최신(product_id) / 조회수 / 가격 정렬
+create index idx_product_category_id_view_count on product (category_id, view_count);
+create index idx_product_category_id_price on product (category_id, price);
+create index idx_product_view_count on product (view_count);
+create index idx_product_price on product (price);
+-- ProductRepository.existsByProductName
+create index idx_product_product_name on product (product_name);
+
+-- UserRepository.findByEmail... / findByNickname...
+create index idx_user_email on user (email);
+create index idx_user_nickname on user (nickname);
@@ -0,0 +1,14 @@
+-- PooledIdGenerator : id 를 100 개씩 미리 받아서 insert batch 가능하게 함
+-- next_val 은 다음에 받을 구간의 마지막 id (구간 = next_val - 99 ~ next_val) 이므로 기존 최대 id + 100 으로 시작
+create table id_generator (
+    sequence_name varchar(255) not null,
+    next_val      bigint,
+    primary key (sequence_name)
+) engine = InnoDB;
+
+insert into id_generator (sequence_name, next_val) select 'orders', coalesce(max(order_id), 0) + 100 from orders;
+insert into id_generator (sequence_name, next_val) select 'order_product', coalesce(max(order_product_id), 0) + 100 from order_product;
+insert into id_generator (sequence_name, next_val) select 'payment', coalesce(max(payment_id), 0) + 100 from payment;
+insert into id_generator (sequence_name, next_val) select 'point_history', coalesce(max(point_history_id), 0) + 100 from point_history;
+insert into id_generator (sequence_name, next_val) select 'review', coalesce(max(review_id), 0) + 100 from review;
+insert into id_generator (sequence_name, next_val) select 'user', coalesce(max(user_id), 0) + 100 from user;
@@ -0,0 +1,2 @@
+-- 상품 재고 (null 이면 재고 관리 안 함, 기존 상품은 모두 null)
+alter table product add column stock integer;
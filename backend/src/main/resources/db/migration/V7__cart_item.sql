@@ -0,0 +1,16 @@
+-- 서버 장바구니 (CartStore 가 write-behind 로 유저 단위 전체 교체)
+create table cart_item (
+    cart_item_id bigint       not null,
+    user_id      bigint       not null,
+    product_id   bigint       not null,
+    quantity     integer      not null,
+    product_name varchar(255),
+    price        integer      not null,
+    title_img    varchar(255),
+    position     integer      not null,
+    primary key (cart_item_id)
+) engine = InnoDB;
+
+alter table cart_item add constraint uk_cart_item_user_id_product_id unique (user_id, product_id);
+
+insert into id_generator (sequence_name, next_val) values ('cart_item', 100);
@@ -0,0 +1,17 @@
+-- 도메인 이벤트 outbox (주문 / 리뷰 변경과 같은 트랜잭션에서 저장, DomainEventRelay 가 전달)
+create table domain_event (
+    event_id        bigint       not null auto_increment,
+    aggregate_type  varchar(255) not null,
+    aggregate_id    bigint       not null,
+    event_type      varchar(255) not null,
+    payload         longtext     not null,
+    status          varchar(255) not null,
+    attempts        integer      not null,
+    last_error      varchar(255),
+    created_at      datetime(6)  not null,
+    next_attempt_at datetime(6),
+    published_at    datetime(6),
+    primary key (event_id)
+) engine = InnoDB;
+
+create index idx_domain_event_status_event_id on domain_event (status, event_id);
@@ -0,0 +1,25 @@
+-- 정기 작업 실행권 (JobLeases) 과 실행 기록 (JobRunner)
+create table job_lease (
+    job_name    varchar(255) not null,
+    owner       varchar(255),
+    lease_until datetime(6)  not null,
+    primary key (job_name)
+) engine = InnoDB;
+
+create table job_run (
+    run_id          bigint       not null,
+    job_name        varchar(255) not null,
+    owner           varchar(255) not null,
+    job_trigger     varchar(255) not null,
+    status          varchar(255) not null,
+    started_at      datetime(6)  not null,
+    finished_at     datetime(6),
+    duration_millis bigint,
+    rows_affected   bigint,
+    error           varchar(255),
+    primary key (run_id)
+) engine = InnoDB;
+
+create index idx_job_run_job_name_run_id on job_run (job_name, run_id);
+
+insert into id_generator (sequence_name, next_val) values ('job_run', 100);
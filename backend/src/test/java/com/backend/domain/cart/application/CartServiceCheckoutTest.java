@@ -0,0 +1,118 @@
+package com.backend.domain.cart.application;
+
+import com.backend.domain.cart.dao.CartItemRepository;
+import com.backend.domain.cart.domain.CartItem;
+import com.backend.domain.cart.dto.CartCheckoutDto;
+import com.backend.domain.order.application.FlashSaleGate;
+import com.backend.domain.order.application.OrderService;
+import com.backend.domain.order.domain.Order;
+import com.backend.domain.product.dao.ProductRepository;
+import com.backend.domain.product.domain.Product;
+import com.backend.global.error.BusinessLogicException;
+import com.backend.global.error.ExceptionCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 같은 장바구니로 주문 요청이 동시에 두 번 들어와도 주문은 한 번만 생성되는지 확인
+ * 장바구니에는 상품 1 (2개), OrderService 는 mock (첫 주문이 끝나지 않도록 latch 로 붙잡음)
+ */
+class CartServiceCheckoutTest {
+
+    private static final long USER = 7L;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private OrderService orderService;
+    private CartService cartService;
+
+    @BeforeEach
+    void setUp() {
+        CartItemRepository cartItemRepository = mock(CartItemRepository.class);
+        when(cartItemRepository.findByUserIdOrderByPosition(USER)).thenReturn(Collections.singletonList(CartItem.builder()
+                .userId(USER).productId(1L).productName("상품").price(1000).quantity(2).position(0).build()));
+
+        Product product = Product.builder().productName("상품").price(1000).build();
+        product.setProductId(1L);
+        ProductRepository productRepository = mock(ProductRepository.class);
+        when(productRepository.findAllById(any())).thenReturn(Collections.singletonList(product));
+
+        // 트랜잭션 없이 callback 만 실행
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        orderService = mock(OrderService.class);
+        cartService = new CartService(new CartStore(cartItemRepository, transactionTemplate, meterRegistry),
+                productRepository, orderService, new FlashSaleGate(productRepository, meterRegistry), transactionTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void 주문_중인_장바구니의_두번째_주문은_거절() throws Exception {
+        CountDownLatch ordering = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Order order = mock(Order.class);
+        when(orderService.orders(any(), anyLong(), anyMap())).thenAnswer(invocation -> {
+            ordering.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return order;
+        });
+
+        Future<?> first = executor.submit(() -> cartService.checkout(USER, new CartCheckoutDto()));
+        assertThat(ordering.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> cartService.checkout(USER, new CartCheckoutDto()))
+                .isInstanceOfSatisfying(BusinessLogicException.class,
+                        e -> assertThat(e.getExceptionCode()).isEqualTo(ExceptionCode.CART_CHECKOUT_IN_PROGRESS));
+
+        release.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        verify(orderService, times(1)).orders(any(), anyLong(), anyMap());
+
+        // 첫 주문이 장바구니를 비웠으므로 이후 요청은 빈 장바구니
+        assertThatThrownBy(() -> cartService.checkout(USER, new CartCheckoutDto()))
+                .isInstanceOfSatisfying(BusinessLogicException.class,
+                        e -> assertThat(e.getExceptionCode()).isEqualTo(ExceptionCode.CART_EMPTY));
+    }
+
+    @Test
+    void 주문이_실패하면_주문_중_표시를_풀어서_다시_주문_가능() {
+        Order order = mock(Order.class);
+        when(orderService.orders(any(), anyLong(), anyMap()))
+                .thenThrow(new BusinessLogicException(ExceptionCode.NOT_ENOUGH_POINT))
+                .thenReturn(order);
+
+        assertThatThrownBy(() -> cartService.checkout(USER, new CartCheckoutDto()))
+                .isInstanceOfSatisfying(BusinessLogicException.class,
+                        e -> assertThat(e.getExceptionCode()).isEqualTo(ExceptionCode.NOT_ENOUGH_POINT));
+
+        assertThat(cartService.checkout(USER, new CartCheckoutDto()).getOrder()).isSameAs(order);
+        assertThat(cartService.getCart(USER).getItems()).isEmpty();
+    }
+}
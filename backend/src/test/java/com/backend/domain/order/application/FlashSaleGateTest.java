@@ -0,0 +1,158 @@
+package com.backend.domain.order.application;
+
+import com.backend.domain.order.dto.FlashSaleTicket;
+import com.backend.domain.product.dao.ProductRepository;
+import com.backend.domain.product.domain.Product;
+import com.backend.domain.product.exception.OutOfStock;
+import com.backend.global.error.BusinessLogicException;
+import com.backend.global.error.ExceptionCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 장바구니 주문 (상품 여러 개) 의 한정 판매 입장 / 토큰 정리 확인
+ * 상품 1, 2 는 한정 판매 (재고 STOCK), 상품 3 은 일반 상품
+ */
+class FlashSaleGateTest {
+
+    private static final int STOCK = 5;
+    private static final long USER = 7L;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ProductRepository productRepository;
+    private FlashSaleGate gate;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        productRepository = mock(ProductRepository.class);
+        gate = new FlashSaleGate(productRepository, meterRegistry);
+        ReflectionTestUtils.setField(gate, "admittedTtlSeconds", 30L);
+        ReflectionTestUtils.setField(gate, "defaultQueueCapacity", 100);
+
+        open(1L, STOCK);
+        open(2L, STOCK);
+    }
+
+    @Test
+    void 한정_판매가_아닌_상품만_있으면_바로_허용() {
+        assertThat(gate.enter(USER, Collections.singletonMap(3L, 10)).isAdmitted()).isTrue();
+    }
+
+    @Test
+    void 한정_판매_상품은_1개씩만_주문_가능() {
+        assertThatThrownBy(() -> gate.enter(USER, quantities(3L, 1, 1L, 2)))
+                .isInstanceOfSatisfying(BusinessLogicException.class,
+                        e -> assertThat(e.getExceptionCode()).isEqualTo(ExceptionCode.INVALID_INPUT_VALUE));
+        assertThat(waiting(1L)).isZero();
+    }
+
+    @Test
+    void 한정_판매_상품이_모두_허용되어야_주문() throws InterruptedException {
+        FlashSaleTicket ticket = gate.enter(USER, quantities(1L, 1, 2L, 1));
+        assertThat(ticket.getStatus()).isEqualTo(FlashSaleTicket.Status.WAITING);
+
+        admit();
+        assertThat(gate.enter(USER, quantities(1L, 1, 2L, 1)).isAdmitted()).isTrue();
+        String result = gate.order(USER, Arrays.asList(1L, 2L), () -> "ordered");
+
+        assertThat(result).isEqualTo("ordered");
+        assertThat(remaining(1L)).isEqualTo(STOCK - 1);
+        assertThat(remaining(2L)).isEqualTo(STOCK - 1);
+    }
+
+    @Test
+    void 입장은_한_번의_주문에만_사용() throws InterruptedException {
+        gate.enter(USER, quantities(1L, 1, 3L, 1));
+        admit();
+
+        assertThat(gate.enter(USER, quantities(1L, 1, 3L, 1)).isAdmitted()).isTrue();
+        // 주문이 끝나기 전에 같은 입장으로 들어온 요청은 다시 대기열로
+        assertThat(gate.status(1L, USER).isAdmitted()).isFalse();
+        assertThat(gate.enter(USER, quantities(1L, 1, 3L, 1)).getStatus()).isEqualTo(FlashSaleTicket.Status.WAITING);
+
+        gate.order(USER, Arrays.asList(1L, 3L), () -> "ordered");
+        assertThat(remaining(1L)).isEqualTo(STOCK - 1);
+    }
+
+    @Test
+    void 하나가_품절이면_다른_상품의_허용을_돌려줌() throws InterruptedException {
+        open(2L, 0);
+        gate.enter(USER, quantities(1L, 1, 3L, 1));
+        admit();
+        assertThat(remaining(1L)).isEqualTo(STOCK - 1);
+
+        assertThatThrownBy(() -> gate.enter(USER, quantities(1L, 1, 2L, 1)))
+                .isInstanceOfSatisfying(OutOfStock.class, e -> assertThat(e.getProductId()).isEqualTo(2L));
+        assertThat(remaining(1L)).isEqualTo(STOCK);
+    }
+
+    @Test
+    void 주문_중_재고_부족이면_그_상품만_품절_나머지는_토큰_반환() throws InterruptedException {
+        gate.enter(USER, quantities(1L, 1, 2L, 1));
+        admit();
+        gate.enter(USER, quantities(1L, 1, 2L, 1));
+
+        assertThatThrownBy(() -> gate.order(USER, Arrays.asList(1L, 2L), () -> {
+            throw new OutOfStock(2L);
+        })).isInstanceOf(OutOfStock.class);
+
+        assertThat(remaining(1L)).isEqualTo(STOCK);
+        assertThat(remaining(2L)).isZero();
+        assertThat(gate.status(2L, USER + 1).getStatus()).isEqualTo(FlashSaleTicket.Status.SOLD_OUT);
+    }
+
+    @Test
+    void 주문이_다른_이유로_실패하면_토큰_반환() throws InterruptedException {
+        gate.enter(USER, quantities(1L, 1, 2L, 1));
+        admit();
+
+        assertThatThrownBy(() -> gate.order(USER, Arrays.asList(1L, 2L), () -> {
+            throw new BusinessLogicException(ExceptionCode.CART_CHANGED);
+        })).isInstanceOf(BusinessLogicException.class);
+
+        assertThat(remaining(1L)).isEqualTo(STOCK);
+        assertThat(remaining(2L)).isEqualTo(STOCK);
+    }
+
+    private void open(Long productId, int stock) {
+        Product product = Product.builder().productName("한정 상품 " + productId).price(1000).build();
+        product.setStock(stock);
+        when(productRepository.findById(productId)).thenReturn(Optional.of(product));
+        gate.open(productId, 1000.0, null);
+    }
+
+    // 대기열 앞의 유저를 허용 (초당 1000 명이라 잠깐 기다리면 허용 수가 채워짐)
+    private void admit() throws InterruptedException {
+        Thread.sleep(20);
+        gate.dispatch();
+    }
+
+    private static Map<Long, Integer> quantities(Long productId, int quantity, Long otherProductId, int otherQuantity) {
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        quantities.put(productId, quantity);
+        quantities.put(otherProductId, otherQuantity);
+        return quantities;
+    }
+
+    private int remaining(Long productId) {
+        return (int) meterRegistry.get("flashsale.remaining").tag("product", String.valueOf(productId)).gauge().value();
+    }
+
+    private int waiting(Long productId) {
+        return (int) meterRegistry.get("flashsale.waiting").tag("product", String.valueOf(productId)).gauge().value();
+    }
+}
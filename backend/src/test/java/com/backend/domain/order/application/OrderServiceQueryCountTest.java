@@ -0,0 +1,124 @@
+package com.backend.domain.order.application;
+
+import com.backend.domain.order.domain.Order;
+import com.backend.domain.order.domain.OrderProduct;
+import com.backend.domain.order.dto.OrderDto;
+import com.backend.domain.order.dto.OrderHistoryDto;
+import com.backend.domain.product.application.StockService;
+import com.backend.domain.product.domain.Product;
+import com.backend.domain.user.domain.User;
+import com.backend.global.config.QueryGuardConfig;
+import com.backend.global.event.DomainEventPublisher;
+import com.backend.global.query.QueryCount;
+import com.backend.global.query.QueryCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문 내역 조회 SQL 수 고정 (주문 / 주문상품 / 상품 수가 늘어도 같은 수의 SQL)
+ * 주문 목록 1 + 주문 수 1 + 주문상품 batch 1 + 상품 batch 3
+ * (hibernate 기본 batch fetch 는 id 45 개를 31 / 10 / 4 개 in 절로 나눠서 조회, 같은 SQL 반복은 없음)
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QueryGuardConfig.class, OrderService.class})
+class OrderServiceQueryCountTest {
+
+    private static final int ORDERS = 15;
+    private static final int PRODUCTS_PER_ORDER = 3;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @MockBean
+    private StockService stockService;
+
+    @MockBean
+    private DomainEventPublisher domainEventPublisher;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        User buyer = em.persist(user("buyer"));
+        User seller = em.persist(user("seller"));
+
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < ORDERS * PRODUCTS_PER_ORDER; i++) {
+            products.add(em.persist(Product.builder()
+                    .productName("상품 " + i)
+                    .price(1000 + i)
+                    .user(seller)
+                    .reviews(new ArrayList<>())
+                    .orderProducts(new ArrayList<>())
+                    .build()));
+        }
+
+        for (int i = 0; i < ORDERS; i++) {
+            List<OrderProduct> orderProducts = new ArrayList<>();
+            for (int j = 0; j < PRODUCTS_PER_ORDER; j++) {
+                orderProducts.add(OrderProduct.createOrderProduct(products.get(i * PRODUCTS_PER_ORDER + j), 1));
+            }
+            em.persist(Order.createOrder(buyer, orderProducts, orderDto()));
+        }
+        em.flush();
+        em.clear();
+
+        userId = buyer.getUserId();
+    }
+
+    @Test
+    void 주문_내역_조회는_주문_수와_관계없이_SQL_6_건_이하() {
+        try (QueryCount count = QueryCounter.start("OrderService.getOrderList")) {
+            Page<OrderHistoryDto> page = orderService.getOrderList(userId, PageRequest.of(0, ORDERS));
+
+            assertThat(page.getContent()).hasSize(ORDERS);
+            assertThat(page.getContent()).allSatisfy(history ->
+                    assertThat(history.getOrderProductDtoList()).hasSize(PRODUCTS_PER_ORDER));
+
+            count.assertAtMost(6);
+            count.assertNoNPlusOne(2);
+        }
+    }
+
+    private User user(String name) {
+        User user = User.builder()
+                .email(name + "@luxmeal.com")
+                .password("password")
+                .nickname(name)
+                .profileImage("profile.png")
+                .userRole("ROLE_USER")
+                .socialLogin("original")
+                .restCash(0L)
+                .build();
+        user.setPhone(name);
+        return user;
+    }
+
+    private OrderDto orderDto() {
+        OrderDto orderDto = new OrderDto();
+        orderDto.setReceiverAddress("서울특별시 강남구 테헤란로 427");
+        orderDto.setReceiverName("buyer");
+        orderDto.setReceiverZipcode("16164");
+        orderDto.setReceiverPhone("010-0000-0000");
+        return orderDto;
+    }
+}
@@ -0,0 +1,168 @@
+package com.backend.domain.payment.application;
+
+import com.backend.domain.payment.dao.PaymentRepository;
+import com.backend.domain.payment.domain.Payment;
+import com.backend.domain.payment.dto.PaymentConfirmation;
+import com.backend.domain.payment.dto.TossPaymentResult;
+import com.backend.domain.point.application.PointService;
+import com.backend.domain.point.domain.PointType;
+import com.backend.domain.user.dao.UserRepository;
+import com.backend.domain.user.domain.User;
+import com.backend.global.error.BusinessLogicException;
+import com.backend.global.error.ExceptionCode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 결제 승인 멱등 처리 확인
+ * 동시 요청은 토스를 한 번만 호출하고, 저장된 paymentKey 는 재호출 / 재충전 없이 저장된 응답을 돌려준다
+ */
+class PaymentServiceTest {
+
+    private static final Long USER = 1L;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private PaymentRepository paymentRepository;
+    private TossPaymentClient tossPaymentClient;
+    private PointService pointService;
+    private PaymentService paymentService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        paymentRepository = mock(PaymentRepository.class);
+        tossPaymentClient = mock(TossPaymentClient.class);
+        pointService = mock(PointService.class);
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findById(USER)).thenReturn(Optional.of(new User()));
+        when(paymentRepository.findByPaymentKey(anyString())).thenReturn(Optional.empty());
+
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        doAnswer(invocation -> {
+            ((Consumer<TransactionStatus>) invocation.getArgument(0)).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        paymentService = new PaymentService(paymentRepository, tossPaymentClient, userRepository, pointService, transactionTemplate);
+    }
+
+    @Test
+    void 같은_paymentKey_동시_요청은_토스를_한_번만_호출() throws Exception {
+        CountDownLatch arrived = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(tossPaymentClient.confirm("pk", "order-1", 1000)).thenAnswer(invocation -> {
+            arrived.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return new TossPaymentResult(200, body("order-1", 1000));
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<PaymentConfirmation> first = executor.submit(() -> paymentService.confirm(USER, payment("pk", "order-1", 1000)));
+            assertThat(arrived.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<PaymentConfirmation> second = executor.submit(() -> paymentService.confirm(USER, payment("pk", "order-1", 1000)));
+            Thread.sleep(100);
+            release.countDown();
+
+            assertThat(first.get(5, TimeUnit.SECONDS).isReplayed()).isFalse();
+            assertThat(second.get(5, TimeUnit.SECONDS).isReplayed()).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(tossPaymentClient, times(1)).confirm(anyString(), anyString(), anyInt());
+        verify(pointService, times(1)).addCash(any(), any(Integer.class), any());
+    }
+
+    @Test
+    void 저장된_paymentKey_는_저장된_응답을_다시_돌려준다() {
+        Payment saved = payment("pk", "order-1", 1000);
+        saved.setConfirmResponse(body("order-1", 1000).toString());
+        when(paymentRepository.findByPaymentKey("pk")).thenReturn(Optional.of(saved));
+
+        PaymentConfirmation confirmation = paymentService.confirm(USER, payment("pk", "order-1", 1000));
+
+        assertThat(confirmation.isSuccess()).isTrue();
+        assertThat(confirmation.isReplayed()).isTrue();
+        assertThat(confirmation.getBody().path("orderId").asText()).isEqualTo("order-1");
+        verify(tossPaymentClient, never()).confirm(anyString(), anyString(), anyInt());
+        verify(pointService, never()).addCash(any(), any(Integer.class), any());
+    }
+
+    @Test
+    void 응답_없는_승인은_조회한_금액이_다르면_충전하지_않는다() {
+        when(tossPaymentClient.confirm("pk", "order-1", 100000)).thenThrow(new ResourceAccessException("timeout"));
+        when(tossPaymentClient.getPayment("pk")).thenReturn(new TossPaymentResult(200, body("order-1", 1000)));
+
+        assertThatThrownBy(() -> paymentService.confirm(USER, payment("pk", "order-1", 100000)))
+                .isInstanceOf(BusinessLogicException.class)
+                .extracting("exceptionCode")
+                .isEqualTo(ExceptionCode.PAYMENT_AMOUNT_MISMATCH);
+        verify(pointService, never()).addCash(any(), any(Integer.class), any());
+    }
+
+    @Test
+    void 응답_없는_승인은_조회한_금액이_같으면_충전() {
+        when(tossPaymentClient.confirm("pk", "order-1", 1000)).thenThrow(new ResourceAccessException("timeout"));
+        when(tossPaymentClient.getPayment("pk")).thenReturn(new TossPaymentResult(200, body("order-1", 1000)));
+
+        assertThat(paymentService.confirm(USER, payment("pk", "order-1", 1000)).isSuccess()).isTrue();
+        verify(pointService).addCash(any(), any(Integer.class), any(PointType.class));
+    }
+
+    @Test
+    void 다른_paymentKey_로_저장된_orderId_는_PAYMENT_ORDER_ID_DUPLICATION() {
+        when(tossPaymentClient.confirm("pk-2", "order-1", 1000)).thenReturn(new TossPaymentResult(200, body("order-1", 1000)));
+        doThrow(new DataIntegrityViolationException("uk_payment_order_id")).when(paymentRepository).saveAndFlush(any());
+        when(paymentRepository.existsByOrderId("order-1")).thenReturn(true);
+
+        assertThatThrownBy(() -> paymentService.confirm(USER, payment("pk-2", "order-1", 1000)))
+                .isInstanceOf(BusinessLogicException.class)
+                .extracting("exceptionCode")
+                .isEqualTo(ExceptionCode.PAYMENT_ORDER_ID_DUPLICATION);
+    }
+
+    private Payment payment(String paymentKey, String orderId, int amount) {
+        Payment payment = new Payment();
+        payment.setPaymentKey(paymentKey);
+        payment.setOrderId(orderId);
+        payment.setAmount(amount);
+        return payment;
+    }
+
+    private ObjectNode body(String orderId, int totalAmount) {
+        ObjectNode body = objectMapper.createObjectNode();
+        body.put("status", "DONE");
+        body.put("orderId", orderId);
+        body.put("totalAmount", totalAmount);
+        return body;
+    }
+}
@@ -0,0 +1,160 @@
+package com.backend.domain.payment.application;
+
+import com.backend.global.bulkhead.Bulkhead;
+import com.backend.global.bulkhead.BulkheadExecutors;
+import com.backend.global.bulkhead.CircuitBreaker;
+import com.backend.global.error.BusinessLogicException;
+import com.backend.global.error.ExceptionCode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 토스 결제 stub 서버로 circuit breaker 상태 변화 확인
+ * paymentKey 로 stub 응답을 고름 : ok (200), fail (500), slow (release 될 때까지 대기 후 500)
+ * bulkhead 는 동시 실행 1, 대기 0 이라 slow 요청이 잡고 있는 동안 다른 호출은 BULKHEAD_FULL
+ */
+class TossPaymentClientCircuitTest {
+
+    private HttpServer stub;
+    private CountDownLatch slowArrived;
+    private CountDownLatch slowRelease;
+
+    private SimpleMeterRegistry meterRegistry;
+    private Bulkhead bulkhead;
+    private final ExecutorService caller = Executors.newSingleThreadExecutor();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        slowArrived = new CountDownLatch(1);
+        slowRelease = new CountDownLatch(1);
+
+        stub = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stub.setExecutor(Executors.newCachedThreadPool());
+        stub.createContext("/v1/payments/", this::handle);
+        stub.start();
+
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        slowRelease.countDown();
+        caller.shutdownNow();
+        if (bulkhead != null) {
+            bulkhead.shutdown();
+        }
+        stub.stop(0);
+    }
+
+    @Test
+    void bulkhead_거절은_연속_실패_수를_초기화하지_않음() throws Exception {
+        TossPaymentClient client = client(3, 60_000, 5_000);
+
+        assertThatThrownBy(() -> client.confirm("fail", "order-1", 1000)).isInstanceOf(HttpServerErrorException.class);
+        assertThatThrownBy(() -> client.confirm("fail", "order-2", 1000)).isInstanceOf(HttpServerErrorException.class);
+
+        Future<?> slow = caller.submit(() -> client.confirm("slow", "order-3", 1000));
+        assertThat(slowArrived.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> client.confirm("ok", "order-4", 1000))
+                .isInstanceOfSatisfying(BusinessLogicException.class,
+                        e -> assertThat(e.getExceptionCode()).isEqualTo(ExceptionCode.BULKHEAD_FULL));
+        assertThat(circuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        slowRelease.countDown();
+        assertThatThrownBy(() -> slow.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(HttpServerErrorException.class);
+
+        // 실패 3 번 (fail, fail, slow) 사이의 bulkhead 거절이 성공으로 세어지지 않아서 OPEN
+        assertThat(circuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void HALF_OPEN_시험_호출이_bulkhead_에서_거절되면_상태_유지() throws Exception {
+        TossPaymentClient client = client(1, 200, 300);
+
+        // bulkhead timeout 으로 OPEN, stub 은 아직 응답하지 않아서 bulkhead 자리는 계속 잡혀 있음
+        Future<?> slow = caller.submit(() -> client.confirm("slow", "order-1", 1000));
+        assertThat(slowArrived.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThatThrownBy(() -> slow.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(BusinessLogicException.class);
+        assertThat(circuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        Thread.sleep(300);
+
+        // 시험 호출이 외부까지 가지 못하고 거절 -> CLOSED 로 바뀌지 않고, 시험 호출 자리는 반납
+        assertThatThrownBy(() -> client.confirm("ok", "order-2", 1000))
+                .isInstanceOfSatisfying(BusinessLogicException.class,
+                        e -> assertThat(e.getExceptionCode()).isEqualTo(ExceptionCode.BULKHEAD_FULL));
+        assertThat(circuitState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+
+        // bulkhead 자리가 비면 다음 시험 호출이 실제 응답을 받고 CLOSED
+        slowRelease.countDown();
+        awaitBulkheadAvailable();
+        assertThat(client.confirm("ok", "order-3", 1000).isSuccess()).isTrue();
+        assertThat(circuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    private TossPaymentClient client(int failureThreshold, long openMillis, long bulkheadTimeoutMillis) {
+        bulkhead = new Bulkhead("payment", BulkheadExecutors.Mode.PLATFORM, 1, 0, bulkheadTimeoutMillis, meterRegistry);
+        String baseUrl = "http://localhost:" + stub.getAddress().getPort() + "/v1/payments/";
+        return new TossPaymentClient(bulkhead, meterRegistry, baseUrl, "test_sk",
+                1000, 5000, 1000, 5, 30_000, 1, 0, failureThreshold, openMillis);
+    }
+
+    private CircuitBreaker.State circuitState() {
+        int ordinal = (int) meterRegistry.get("circuit.state").tag("name", "payment").gauge().value();
+        return CircuitBreaker.State.values()[ordinal];
+    }
+
+    private void awaitBulkheadAvailable() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (meterRegistry.get("bulkhead.available").tag("name", "payment").gauge().value() < 1
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String paymentKey = exchange.getRequestURI().getPath().substring("/v1/payments/".length());
+        exchange.getRequestBody().readAllBytes();
+
+        int status = 200;
+        if (paymentKey.equals("fail")) {
+            status = 500;
+        } else if (paymentKey.equals("slow")) {
+            slowArrived.countDown();
+            try {
+                slowRelease.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            status = 500;
+        }
+
+        byte[] body = ("{\"paymentKey\":\"" + paymentKey + "\",\"status\":\"" + (status == 200 ? "DONE" : "ERROR") + "\"}")
+                .getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(body);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.backend.domain.product.application;
+
+import com.backend.domain.order.domain.OrderProduct;
+import com.backend.domain.product.dao.ProductRepository;
+import com.backend.domain.product.domain.Product;
+import com.backend.domain.product.exception.OutOfStock;
+import com.backend.domain.user.domain.User;
+import com.backend.global.config.QueryGuardConfig;
+import com.backend.global.error.BusinessLogicException;
+import com.backend.global.error.ExceptionCode;
+import com.backend.global.query.QueryCount;
+import com.backend.global.query.QueryCounter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 같은 상품에 동시 주문이 몰려도 초과 판매가 없는지 확인 (메모리 H2, 주문마다 별도 트랜잭션)
+ * 재고 STOCK 개 상품에 ORDERS 개 스레드가 1 개씩 동시에 reserve -> 성공은 정확히 STOCK 건, 나머지는 OutOfStock, 재고는 0
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QueryGuardConfig.class, StockService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        // 한 row 에 update 가 몰리므로 lock 대기 시간을 넉넉하게
+        "spring.datasource.url=jdbc:h2:mem:stock-concurrency;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER;LOCK_TIMEOUT=30000;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.datasource.hikari.maximum-pool-size=20"
+})
+class StockServiceConcurrencyTest {
+
+    private static final int STOCK = 50;
+    private static final int ORDERS = 300;
+
+    @Autowired
+    private StockService stockService;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        productId = transactionTemplate.execute(status -> {
+            User seller = User.builder()
+                    .email("seller@luxmeal.com")
+                    .password("password")
+                    .nickname("seller")
+                    .profileImage("profile.png")
+                    .socialLogin("original")
+                    .build();
+            seller.setPhone("010-0000-0000");
+            entityManager.persist(seller);
+
+            Product product = Product.builder()
+                    .productName("한정 상품")
+                    .price(1000)
+                    .user(seller)
+                    .reviews(new ArrayList<>())
+                    .orderProducts(new ArrayList<>())
+                    .build();
+            product.setStock(STOCK);
+            entityManager.persist(product);
+            return product.getProductId();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from product");
+        jdbcTemplate.update("delete from user");
+    }
+
+    @Test
+    void 동시_주문이_몰려도_재고_이상_판매하지_않음() throws Exception {
+        AtomicInteger reserved = new AtomicInteger();
+        AtomicInteger outOfStock = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(ORDERS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < ORDERS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    reserve(1);
+                    reserved.incrementAndGet();
+                } catch (OutOfStock e) {
+                    outOfStock.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertThat(reserved.get()).isEqualTo(STOCK);
+        assertThat(outOfStock.get()).isEqualTo(ORDERS - STOCK);
+        assertThat(stock()).isZero();
+    }
+
+    @Test
+    void 수량이_0_이하면_재고를_바꾸지_않고_거절() {
+        assertThatThrownBy(() -> reserve(-5))
+                .isInstanceOfSatisfying(BusinessLogicException.class,
+                        e -> assertThat(e.getExceptionCode()).isEqualTo(ExceptionCode.INVALID_INPUT_VALUE));
+        assertThatThrownBy(() -> reserve(0)).isInstanceOf(BusinessLogicException.class);
+
+        // 검증을 거치지 않고 repository 를 직접 호출해도 조건부 update 에서 막힘
+        int updated = transactionTemplate.execute(status -> productRepository.decreaseStock(productId, -5));
+        assertThat(updated).isZero();
+        assertThat(stock()).isEqualTo(STOCK);
+    }
+
+    @Test
+    void 재고를_관리하지_않는_상품은_update_하지_않음() {
+        jdbcTemplate.update("update product set stock = null where product_id = ?", productId);
+
+        try (QueryCount count = QueryCounter.start("untracked stock")) {
+            reserve(1000);
+
+            // 상품 조회 한 건만, 재고 update 없음 (row lock 을 잡지 않음)
+            count.assertAtMost(1);
+        }
+    }
+
+    private void reserve(int quantity) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Product product = entityManager.getReference(Product.class, productId);
+            stockService.reserve(Collections.singletonList(OrderProduct.createOrderProduct(product, quantity)));
+        });
+    }
+
+    private int stock() {
+        return jdbcTemplate.queryForObject("select stock from product where product_id = ?", Integer.class, productId);
+    }
+}
@@ -0,0 +1,67 @@
+package com.backend.domain.refreshToken.application;
+
+import com.backend.domain.user.domain.User;
+import com.backend.global.error.BusinessLogicException;
+import com.backend.global.error.ExceptionCode;
+import com.backend.global.utils.jwt.JwtTokenizer;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 같은 refresh token 으로 동시에 들어온 재발급 요청이 먼저 교체한 요청의 새 토큰을 받는지 확인
+ */
+class RefreshTokenServiceTest {
+
+    private static final String SECRET = "luxmeal-test-secret-key-for-refresh-token-rotation";
+
+    private JwtTokenizer jwtTokenizer;
+    private RefreshTokenService refreshTokenService;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenizer = new JwtTokenizer();
+        ReflectionTestUtils.setField(jwtTokenizer, "refreshSecretKey", SECRET);
+        ReflectionTestUtils.setField(jwtTokenizer, "refreshTokenExpirationMillisecond", 60_000);
+        refreshTokenService = new RefreshTokenService(new InMemoryRefreshTokenStore(), jwtTokenizer);
+    }
+
+    @Test
+    void 동시_요청은_먼저_교체한_요청의_새_토큰을_받는다() {
+        String refreshToken = refreshTokenService.issue(user());
+
+        String winner = refreshTokenService.rotate(claims(refreshToken), refreshToken);
+        String loser = refreshTokenService.rotate(claims(refreshToken), refreshToken);
+
+        assertThat(winner).isNotNull().isNotEqualTo(refreshToken);
+        assertThat(loser).isEqualTo(winner);
+        assertThat(refreshTokenService.rotate(claims(loser), loser)).isNotNull();
+    }
+
+    @Test
+    void 교체된_토큰을_다시_쓰면_family_폐기() {
+        String refreshToken = refreshTokenService.issue(user());
+        String rotated = refreshTokenService.rotate(claims(refreshToken), refreshToken);
+        refreshTokenService.rotate(claims(rotated), rotated);
+
+        assertThatThrownBy(() -> refreshTokenService.rotate(claims(refreshToken), refreshToken))
+                .isInstanceOf(BusinessLogicException.class)
+                .extracting("exceptionCode")
+                .isEqualTo(ExceptionCode.TOKEN_REUSED);
+    }
+
+    private Claims claims(String refreshToken) {
+        return jwtTokenizer.getClaims(refreshToken, jwtTokenizer.encodeBase64SecretKey(SECRET)).getBody();
+    }
+
+    private User user() {
+        User user = new User();
+        user.setUserId(1L);
+        user.setUserRole("ROLE_USER");
+        return user;
+    }
+}
@@ -0,0 +1,55 @@
+package com.backend.domain.user.application;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerificationCodeStoreTest {
+
+    private static final String EMAIL = "user@luxmeal.com";
+
+    private VerificationCodeStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new VerificationCodeStore();
+        ReflectionTestUtils.setField(store, "ttlSeconds", 300L);
+        ReflectionTestUtils.setField(store, "maxFailures", 5);
+        ReflectionTestUtils.setField(store, "verifiedTtlSeconds", 1800L);
+    }
+
+    @Test
+    void 인증_전에는_인증_완료_표시가_없음() {
+        store.save(EMAIL, "abcd1234");
+
+        assertThat(store.consumeVerified(EMAIL)).isFalse();
+    }
+
+    @Test
+    void 인증에_성공하면_인증_완료_표시를_한_번만_소비() {
+        store.save(EMAIL, "abcd1234");
+
+        assertThat(store.verify(EMAIL, "abcd1234")).isTrue();
+        assertThat(store.consumeVerified(EMAIL)).isTrue();
+        assertThat(store.consumeVerified(EMAIL)).isFalse();
+    }
+
+    @Test
+    void 틀린_코드는_인증_완료_표시를_남기지_않음() {
+        store.save(EMAIL, "abcd1234");
+
+        assertThat(store.verify(EMAIL, "zzzz9999")).isFalse();
+        assertThat(store.consumeVerified(EMAIL)).isFalse();
+    }
+
+    @Test
+    void 유효시간이_지난_인증_완료_표시는_거절() {
+        ReflectionTestUtils.setField(store, "verifiedTtlSeconds", 0L);
+        store.save(EMAIL, "abcd1234");
+
+        assertThat(store.verify(EMAIL, "abcd1234")).isTrue();
+        assertThat(store.consumeVerified(EMAIL)).isFalse();
+    }
+}
@@ -0,0 +1,95 @@
+package com.backend.global.config.auth.filter;
+
+import com.backend.domain.user.dao.UserRepository;
+import com.backend.global.error.BusinessLogicException;
+import com.backend.global.error.ExceptionCode;
+import com.backend.global.utils.jwt.JwtTokenizer;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 토큰 자체의 문제만 JwtException 으로 바뀌고 유저 조회 실패 같은 도메인 예외는 그대로 나가는지 확인
+ */
+class JwtVerificationFilterTest {
+
+    private static final String SECRET = "luxmeal-test-secret-key-for-jwt-verification-filter";
+
+    private JwtTokenizer jwtTokenizer;
+    private UserRepository userRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private JwtVerificationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenizer = new JwtTokenizer();
+        ReflectionTestUtils.setField(jwtTokenizer, "accessSecretKey", SECRET);
+        userRepository = mock(UserRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new JwtVerificationFilter(jwtTokenizer, userRepository,
+                new AntPathRequestMatcher("/products/**"), meterRegistry);
+    }
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void 없는_유저의_토큰은_USER_NOT_FOUND_그대로() {
+        when(userRepository.findById(99L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> filter.doFilter(request("/orders", token(99L)), new MockHttpServletResponse(), new MockFilterChain()))
+                .isInstanceOfSatisfying(BusinessLogicException.class,
+                        e -> assertThat(e.getExceptionCode()).isEqualTo(ExceptionCode.USER_NOT_FOUND));
+    }
+
+    @Test
+    void 형식이_잘못된_토큰은_JwtException() {
+        assertThatThrownBy(() -> filter.doFilter(request("/orders", "not-a-jwt"), new MockHttpServletResponse(), new MockFilterChain()))
+                .isInstanceOf(JwtException.class)
+                .hasMessage("토큰 검증 실패");
+        assertThat(meterRegistry.get("jwt.verify").tag("result", "failure").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void claims_only_경로는_유저를_조회하지_않음() throws Exception {
+        filter.doFilter(request("/products/1", token(7L)), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+        assertThat(meterRegistry.get("jwt.verify").tag("result", "success").timer().count()).isEqualTo(1);
+    }
+
+    private String token(Long userId) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("userId", userId);
+        claims.put("userRole", "ROLE_USER");
+        return jwtTokenizer.generateAccessToken(claims, "user" + userId + "@luxmeal.com",
+                new Date(System.currentTimeMillis() + 60_000), jwtTokenizer.encodeBase64SecretKey(SECRET));
+    }
+
+    private static MockHttpServletRequest request(String uri, String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setServletPath(uri);
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+}
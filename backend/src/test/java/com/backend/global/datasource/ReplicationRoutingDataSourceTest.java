@@ -0,0 +1,92 @@
+package com.backend.global.datasource;
+
+import com.backend.global.config.DataSourceConfig;
+import com.backend.global.config.auth.userdetails.CustomUserDetails;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * primary / replica 를 서로 다른 메모리 H2 pool 로 두고 JPA 트랜잭션이 어느 DB 로 가는지 확인
+ * 어느 DB 인지는 H2 의 database() 로 구분 (replica 에는 스키마가 없어도 됨)
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(DataSourceConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing-primary;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "datasource.replica.enabled=true",
+        "datasource.replica.url=jdbc:h2:mem:routing-replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "datasource.replica.username=sa",
+        "datasource.replica.sticky-primary-millis=300"
+})
+class ReplicationRoutingDataSourceTest {
+
+    private static final String PRIMARY = "routing-primary";
+    private static final String REPLICA = "routing-replica";
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private EntityManager entityManager;
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnly_트랜잭션은_replica_쓰기_트랜잭션은_primary() {
+        assertThat(database(true)).isEqualTo(REPLICA);
+        assertThat(database(false)).isEqualTo(PRIMARY);
+    }
+
+    @Test
+    void 쓰기_직후_같은_유저의_읽기는_sticky_시간_동안_primary() throws InterruptedException {
+        login(1L);
+        assertThat(database(true)).isEqualTo(REPLICA);
+
+        assertThat(database(false)).isEqualTo(PRIMARY);
+        assertThat(database(true)).isEqualTo(PRIMARY);
+
+        // 다른 유저는 영향 없음
+        login(2L);
+        assertThat(database(true)).isEqualTo(REPLICA);
+
+        // sticky 시간이 지나면 다시 replica
+        login(1L);
+        Thread.sleep(400);
+        assertThat(database(true)).isEqualTo(REPLICA);
+    }
+
+    private String database(boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status ->
+                String.valueOf(entityManager.createNativeQuery("select database()").getSingleResult()));
+    }
+
+    private void login(Long userId) {
+        CustomUserDetails userDetails = CustomUserDetails.ofClaims(userId, "ROLE_USER", () -> null);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(userDetails, null, Collections.emptyList()));
+    }
+}
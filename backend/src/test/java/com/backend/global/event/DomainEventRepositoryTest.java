@@ -0,0 +1,71 @@
+package com.backend.global.event;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * findPending 이 재시도 대기 이벤트와 같은 aggregate 의 뒤 이벤트를 쿼리에서 거르는지 확인
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class DomainEventRepositoryTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2022, 11, 1, 12, 0);
+
+    @Autowired
+    private DomainEventRepository domainEventRepository;
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void aggregate_마다_전달할_수_있는_가장_앞의_이벤트만_조회() {
+        // 주문 1 : 첫 이벤트가 재시도 대기 중 -> 주문 1 전체 보류
+        save(1L, DomainEventStatus.PENDING, NOW.plusMinutes(1));
+        save(1L, DomainEventStatus.PENDING, null);
+        // 주문 2 : 재시도 시각이 지난 첫 이벤트만
+        Long order2 = save(2L, DomainEventStatus.PENDING, NOW.minusSeconds(1));
+        save(2L, DomainEventStatus.PENDING, null);
+        // 주문 3 : 앞 이벤트는 전달 완료 / 포기 -> 남은 전달 대기 이벤트
+        save(3L, DomainEventStatus.PUBLISHED, null);
+        save(3L, DomainEventStatus.FAILED, null);
+        Long order3 = save(3L, DomainEventStatus.PENDING, null);
+        // 주문 4 : 뒤에 저장된 이벤트
+        Long order4 = save(4L, DomainEventStatus.PENDING, null);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(eventIds(domainEventRepository.findPending(NOW, PageRequest.of(0, 100))))
+                .containsExactly(order2, order3, order4);
+        // 보류 이벤트가 batch 를 차지하지 않음
+        assertThat(eventIds(domainEventRepository.findPending(NOW, PageRequest.of(0, 1))))
+                .containsExactly(order2);
+    }
+
+    private Long save(Long orderId, DomainEventStatus status, LocalDateTime nextAttemptAt) {
+        return entityManager.persist(DomainEvent.builder()
+                .aggregateType("order")
+                .aggregateId(orderId)
+                .eventType(DomainEventType.ORDER_STATUS_CHANGED)
+                .payload("{}")
+                .status(status)
+                .createdAt(NOW)
+                .nextAttemptAt(nextAttemptAt)
+                .build()).getEventId();
+    }
+
+    private static List<Long> eventIds(List<DomainEvent> events) {
+        return events.stream().map(DomainEvent::getEventId).collect(Collectors.toList());
+    }
+}
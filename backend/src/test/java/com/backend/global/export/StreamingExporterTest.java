@@ -0,0 +1,118 @@
+package com.backend.global.export;
+
+import com.backend.domain.review.Mapper.ReviewMapper;
+import com.backend.domain.review.Mapper.ReviewMapperImpl;
+import com.backend.domain.review.dao.ReviewRepository;
+import com.backend.domain.review.domain.Review;
+import com.backend.global.config.QueryGuardConfig;
+import com.backend.global.query.QueryCount;
+import com.backend.global.query.QueryCounter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * export 응답 확인
+ * 1. Accept-Encoding 의 모든 항목을 보고 gzip 사용 여부 결정
+ * 2. 리뷰 export 를 실제로 써서 chunk 여러 개가 모두 나오고, 행마다 추가 조회 없이 커서 SQL 한 건만 실행되는지 확인
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QueryGuardConfig.class, JacksonAutoConfiguration.class, StreamingExporter.class, ReviewMapperImpl.class})
+class StreamingExporterTest {
+
+    // CHUNK_SIZE(500) 를 넘겨서 chunk 3 개
+    private static final int REVIEWS = 1200;
+
+    @Autowired
+    private StreamingExporter streamingExporter;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private ReviewMapper reviewMapper;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void gzip_은_Accept_Encoding_이_허용할_때만_사용() {
+        assertThat(StreamingExporter.acceptsGzip("gzip, deflate, br")).isTrue();
+        assertThat(StreamingExporter.acceptsGzip("br;q=1.0, gzip;q=0.8")).isTrue();
+        assertThat(StreamingExporter.acceptsGzip("*")).isTrue();
+        assertThat(StreamingExporter.acceptsGzip("*;q=0, gzip")).isTrue();
+
+        assertThat(StreamingExporter.acceptsGzip(null)).isFalse();
+        assertThat(StreamingExporter.acceptsGzip("identity")).isFalse();
+        assertThat(StreamingExporter.acceptsGzip("deflate, br")).isFalse();
+        assertThat(StreamingExporter.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(StreamingExporter.acceptsGzip("*, gzip;q=0")).isFalse();
+        assertThat(StreamingExporter.acceptsGzip("*;q=0")).isFalse();
+    }
+
+    @Test
+    void 리뷰_export_는_모든_행을_SQL_한_건으로_스트리밍() throws IOException {
+        for (int i = 1; i <= REVIEWS; i++) {
+            em.persist(Review.builder()
+                    .reviewWriter("writer" + i)
+                    .reviewContent("content" + i)
+                    .star(5)
+                    .productName("상품")
+                    .build());
+        }
+        em.flush();
+        em.clear();
+
+        ResponseEntity<StreamingResponseBody> response = streamingExporter.export("reviews", ExportFormat.NDJSON,
+                "*;q=0, gzip", reviewRepository::streamAll, reviewMapper::reviewToReviewResponseDto);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        try (QueryCount count = QueryCounter.start("review export")) {
+            response.getBody().writeTo(body);
+
+            count.assertAtMost(1);
+        }
+
+        List<String> lines = gunzipLines(body.toByteArray());
+        assertThat(lines).hasSize(REVIEWS);
+        JsonNode first = objectMapper.readTree(lines.get(0));
+        JsonNode last = objectMapper.readTree(lines.get(REVIEWS - 1));
+        assertThat(first.path("reviewWriter").asText()).isEqualTo("writer1");
+        assertThat(last.path("reviewWriter").asText()).isEqualTo("writer" + REVIEWS);
+    }
+
+    private List<String> gunzipLines(byte[] gzipped) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(new ByteArrayInputStream(gzipped)), StandardCharsets.UTF_8))) {
+            return reader.lines().filter(line -> !line.isEmpty()).collect(Collectors.toList());
+        }
+    }
+}
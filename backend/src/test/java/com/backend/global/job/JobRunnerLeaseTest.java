@@ -0,0 +1,111 @@
+package com.backend.global.job;
+
+import com.backend.global.error.ExceptionCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * leased job 이 일찍 끝나도 다음 실행 시각 직전까지 lease 를 유지해서
+ * 같은 실행 시각에 늦게 깨어난 다른 서버가 한 번 더 실행하지 못하는지 확인
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JobLeases.class, JobRunner.class, SimpleMeterRegistry.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:job-lease;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "job.lease-release-margin-seconds=5"
+})
+class JobRunnerLeaseTest {
+
+    @Autowired
+    private JobRunner jobRunner;
+    @Autowired
+    private JobLeases jobLeases;
+    @Autowired
+    private JobLeaseRepository jobLeaseRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void 정기_실행이_끝나도_다음_실행_시각_직전까지_lease_유지() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(1);
+        LocalDateTime registeredAt = LocalDateTime.now();
+        // 등록하자마자 한 번 실행, 다음 실행은 1분 뒤
+        jobRunner.fixedRate("lease-hold", Duration.ofMinutes(1), Duration.ofSeconds(10), true, () -> {
+            done.countDown();
+            return 0;
+        });
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        awaitNotRunning("lease-hold");
+
+        // 실행은 끝났으므로 owner 는 비우고 만료 시각만 다음 실행 직전까지
+        JobLease lease = jobLeaseRepository.findById("lease-hold").orElseThrow();
+        assertThat(lease.getOwner()).isNull();
+        assertThat(lease.getLeaseUntil()).isBetween(registeredAt.plusSeconds(50), LocalDateTime.now().plusSeconds(55));
+
+        // 시계가 늦은 다른 서버가 같은 실행 시각에 깨어나도 실행권을 가져가지 못함
+        JobLeases otherServer = new JobLeases(jobLeaseRepository, transactionTemplate);
+        assertThat(otherServer.tryAcquire("lease-hold", Duration.ofSeconds(70))).isFalse();
+        // 수동 실행은 잡아둔 lease 를 가져감
+        assertThat(otherServer.tryTakeOver("lease-hold", Duration.ofSeconds(70))).isTrue();
+    }
+
+    @Test
+    void 다른_서버가_실행_중이면_수동_실행은_lease_주인과_만료_시각으로_거절() {
+        jobRunner.cron("lease-busy", "0 0 0 1 1 *", Duration.ofSeconds(10), true, () -> 0);
+        JobLeases otherServer = new JobLeases(jobLeaseRepository, transactionTemplate);
+        assertThat(otherServer.tryAcquire("lease-busy", Duration.ofSeconds(70))).isTrue();
+
+        assertThatThrownBy(() -> jobRunner.trigger("lease-busy"))
+                .isInstanceOfSatisfying(JobLeaseHeld.class, e -> {
+                    assertThat(e.getExceptionCode()).isEqualTo(ExceptionCode.JOB_LEASE_HELD);
+                    assertThat(e.getOwner()).isEqualTo(otherServer.getOwner());
+                    assertThat(e.getLeaseUntil()).isAfter(LocalDateTime.now().plusSeconds(60));
+                });
+    }
+
+    @Test
+    void 수동_실행이_끝나면_lease_바로_반납() throws InterruptedException {
+        AtomicInteger runs = new AtomicInteger();
+        // 매년 1월 1일 0시 : 테스트 중에는 정기 실행되지 않음
+        jobRunner.cron("lease-manual", "0 0 0 1 1 *", Duration.ofSeconds(10), true, runs::incrementAndGet);
+        jobRunner.trigger("lease-manual");
+        long deadline = System.currentTimeMillis() + 5000;
+        while (runs.get() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        awaitNotRunning("lease-manual");
+
+        assertThat(runs.get()).isEqualTo(1);
+        assertThat(jobLeaseRepository.findById("lease-manual").orElseThrow().getLeaseUntil())
+                .isBeforeOrEqualTo(LocalDateTime.now());
+        assertThat(new JobLeases(jobLeaseRepository, transactionTemplate).tryAcquire("lease-manual", Duration.ofSeconds(70))).isTrue();
+    }
+
+    private void awaitNotRunning(String name) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (jobRunner.isRunning(name) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.backend.global.query;
+
+import com.backend.domain.order.dao.OrderProductRepository;
+import com.backend.domain.order.dao.OrderRepository;
+import com.backend.domain.order.domain.OrderStatus;
+import com.backend.domain.point.dao.PointHistoryRepository;
+import com.backend.domain.product.dao.ProductRepository;
+import com.backend.domain.review.dao.ReviewRepository;
+import com.backend.domain.user.dao.UserRepository;
+import com.backend.domain.user.domain.User;
+import com.backend.global.config.QueryGuardConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * V4__query_indexes.sql 의 인덱스가 실제 조회 쿼리에 쓰이는지 EXPLAIN 으로 확인
+ * 1. flyway 로 V1 ~ 최신 마이그레이션을 메모리 H2 (MySQL 모드) 에 적용하고 테스트 데이터를 넣은 뒤 ANALYZE
+ * 2. V4 주석에 적힌 repository 메서드를 서비스와 같은 정렬 / 페이지로 호출하고 Hibernate 가 만든 SQL 을 QueryCounter 로 수집
+ * 3. 수집한 SQL 마다 EXPLAIN, 어느 테이블이든 tableScan 이면 실패
+ * 4. V4 의 인덱스가 모두 마이그레이션된 스키마에 있는지 확인
+ * H2 는 같은 선두 컬럼의 외래키 인덱스와 V4 복합 인덱스 중 외래키 인덱스를 고르기도 함
+ * (MySQL 은 복합 인덱스가 생기면 외래키용 인덱스를 따로 두지 않음) -> 어느 인덱스인지가 아니라 전체 스캔 여부로 판단
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(QueryGuardConfig.class)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:luxmeal-explain;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "spring.flyway.enabled=true",
+        "spring.jpa.defer-datasource-initialization=false",
+        "spring.jpa.hibernate.ddl-auto=none"
+})
+class QueryIndexPlanTest {
+
+    private static final Pattern CREATE_INDEX = Pattern.compile("create index (\\w+) on");
+    // H2 실행 계획의 테이블 접근 방법 : /* PUBLIC.IDX_... */ 또는 /* PUBLIC.ORDERS.tableScan */
+    private static final Pattern TABLE_SCAN = Pattern.compile("/\\* public\\.(\\w+)\\.tablescan");
+    private static final Pattern DESC_ORDER = Pattern.compile(" order by ([\\w.]+) desc limit");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private OrderProductRepository orderProductRepository;
+    @Autowired
+    private PointHistoryRepository pointHistoryRepository;
+    @Autowired
+    private ReviewRepository reviewRepository;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.execute("insert into category (category_id, category_name, category_ref_code) " +
+                "select x, 'category' || x, 'C' || x from system_range(1, 10) r(x)");
+        jdbcTemplate.execute("insert into user (user_id, email, password, nickname, profile_image, user_role, social_login, status) " +
+                "select x, 'user' || x || '@test.com', 'password', 'nick' || x, 'image', " +
+                "case when mod(x, 10) = 0 then 'ROLE_USER_TEST' else 'ROLE_USER' end, 'original', 'USER_EXIST' " +
+                "from system_range(1, 1000) r(x)");
+        jdbcTemplate.execute("insert into product (product_id, price, product_name, discount_price, view_count, user_id, category_id) " +
+                "select x, mod(x * 37, 50000), 'product' || x, 0, mod(x * 13, 1000), mod(x, 1000) + 1, mod(x, 10) + 1 " +
+                "from system_range(1, 3000) r(x)");
+        jdbcTemplate.execute("insert into orders (order_id, created_at, zip_code, receiver_address, receiver_name, receiver_phone, " +
+                "order_status, order_total_price, user_id) " +
+                "select x, dateadd('MINUTE', x, timestamp '2022-01-01 00:00:00'), '00000', 'address', 'name', '010', " +
+                "case mod(x, 4) when 0 then 'PROCESS' when 1 then 'SHIPPING' when 2 then 'SHIPPED' else 'CANCEL' end, " +
+                "1000, mod(x, 1000) + 1 from system_range(1, 10000) r(x)");
+        jdbcTemplate.execute("insert into order_product (order_product_id, price, quantity, review_status, order_id, product_id) " +
+                "select x, 1000, 1, 0, mod(x, 10000) + 1, mod(x * 7, 3000) + 1 from system_range(1, 20000) r(x)");
+        jdbcTemplate.execute("insert into review (review_id, review_writer, review_content, star, pro_id, product_id, user_id) " +
+                "select x, 'writer', 'content', mod(x, 5) + 1, mod(x, 3000) + 1, mod(x, 3000) + 1, mod(x * 3, 1000) + 1 " +
+                "from system_range(1, 10000) r(x)");
+        jdbcTemplate.execute("insert into point_history (point_history_id, cash, point_type, created_at, rest_cash, user_id) " +
+                "select x, 1000, 1, dateadd('MINUTE', x, timestamp '2022-01-01 00:00:00'), 1000, mod(x, 1000) + 1 " +
+                "from system_range(1, 10000) r(x)");
+        jdbcTemplate.execute("analyze");
+    }
+
+    @Test
+    void V4_인덱스_조회_쿼리는_전체_스캔_없이_인덱스를_사용() throws IOException {
+        Set<String> statements = new LinkedHashSet<>();
+        try (QueryCount count = QueryCounter.start("explain")) {
+            // OrderService.getOrderList
+            orderRepository.findOrders(7L, PageRequest.of(0, 15));
+            orderRepository.countOrder(7L);
+            // OrderService 자동 배송 상태 변경
+            orderRepository.findByOrderStatus(OrderStatus.SHIPPING);
+            // ReviewService 리뷰 작성 가능 여부
+            orderProductRepository.findByOrderProduct(7L, 11L);
+            // PointService.getPointList
+            pointHistoryRepository.findPointHistoryList(7L, PageRequest.of(0, 15));
+            pointHistoryRepository.countPoint(7L);
+            // ReviewService 유저 / 상품 / 판매자 리뷰 목록
+            Sort latestReview = Sort.by("reviewId").descending();
+            reviewRepository.findByUser(7L, PageRequest.of(0, 10, latestReview));
+            reviewRepository.findByProduct(11L, PageRequest.of(0, 10, latestReview));
+            reviewRepository.findByUserId(7L, PageRequest.of(0, 10, latestReview));
+            // ProductService.getCategory / getProducts (정렬 : 최신 / 조회수 / 가격 내림차순 / 가격 오름차순)
+            for (Sort sort : productSorts()) {
+                productRepository.findByCategory(3L, PageRequest.of(0, 16, sort));
+                productRepository.findAll(PageRequest.of(0, 16, sort));
+            }
+            productRepository.existsByProductName("product11");
+            // 로그인 / 중복 검사
+            userRepository.findByEmailAndUserStatusAndSocialLogin("user7@test.com", User.UserStatus.USER_EXIST, "original");
+            userRepository.findByNicknameAndUserStatusAndSocialLogin("nick7", User.UserStatus.USER_EXIST, "original");
+            userRepository.findByEmail("user7@test.com");
+
+            statements.addAll(count.getNPlusOneSuspects(1).keySet());
+        }
+
+        Set<String> schemaIndexes = new HashSet<>(jdbcTemplate.queryForList(
+                "select lower(index_name) from information_schema.indexes", String.class));
+        assertThat(schemaIndexes).containsAll(v4Indexes());
+
+        List<String> fullScans = new ArrayList<>();
+        for (String sql : statements) {
+            String plan = explain(sql);
+            if (TABLE_SCAN.matcher(plan).find() && !isBackwardIndexScan(sql)) {
+                fullScans.add(sql + "\n" + plan);
+            }
+        }
+        assertThat(fullScans).isEmpty();
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.queryForObject("explain " + sql, String.class).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * H2 는 인덱스를 역순으로 읽지 못해서 조건 없는 내림차순 정렬 (최신 / 조회수 / 가격 내림차순 전체 목록) 을 tableScan 으로 표시함
+     * MySQL 은 같은 인덱스를 역순으로 읽으므로 (Backward index scan) 오름차순으로 바꾼 계획이 인덱스 정렬 (index sorted) 이면 통과
+     */
+    private boolean isBackwardIndexScan(String sql) {
+        Matcher matcher = DESC_ORDER.matcher(sql);
+        if (sql.contains(" where ") || !matcher.find()) {
+            return false;
+        }
+        return explain(matcher.replaceFirst(" order by $1 limit")).contains("index sorted");
+    }
+
+    private static List<Sort> productSorts() {
+        List<Sort> sorts = new ArrayList<>();
+        sorts.add(Sort.by("productId").descending());
+        sorts.add(Sort.by("viewCount").descending());
+        sorts.add(Sort.by("price").descending());
+        sorts.add(Sort.by("price").ascending());
+        return sorts;
+    }
+
+    private static Set<String> v4Indexes() throws IOException {
+        String script = new String(new ClassPathResource("db/migration/V4__query_indexes.sql").getInputStream().readAllBytes(),
+                StandardCharsets.UTF_8);
+        Set<String> indexes = new LinkedHashSet<>();
+        Matcher matcher = CREATE_INDEX.matcher(script);
+        while (matcher.find()) {
+            indexes.add(matcher.group(1));
+        }
+        return indexes;
+    }
+}
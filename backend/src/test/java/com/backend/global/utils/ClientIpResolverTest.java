@@ -0,0 +1,45 @@
+package com.backend.global.utils;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClientIpResolverTest {
+
+    @Test
+    void 신뢰하는_프록시가_없으면_X_Forwarded_For_무시() {
+        ClientIpResolver resolver = new ClientIpResolver(List.of());
+
+        assertThat(resolver.resolve(request("203.0.113.7", "1.2.3.4"))).isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    void 신뢰하지_않는_주소에서_온_X_Forwarded_For_무시() {
+        ClientIpResolver resolver = new ClientIpResolver(List.of("10.0.0.0/16"));
+
+        assertThat(resolver.resolve(request("203.0.113.7", "1.2.3.4"))).isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    void 신뢰하는_프록시_뒤에서는_프록시가_붙인_주소를_사용() {
+        ClientIpResolver resolver = new ClientIpResolver(List.of("10.0.0.0/16"));
+
+        // 클라이언트가 1.2.3.4 를 위조해서 보내도 로드밸런서가 붙인 실제 주소를 사용
+        assertThat(resolver.resolve(request("10.0.1.20", "1.2.3.4, 198.51.100.9"))).isEqualTo("198.51.100.9");
+        // 프록시를 여러 번 거친 경우 신뢰하는 프록시 주소는 건너뜀
+        assertThat(resolver.resolve(request("10.0.1.20", "198.51.100.9, 10.0.2.30"))).isEqualTo("198.51.100.9");
+        assertThat(resolver.resolve(request("10.0.1.20", null))).isEqualTo("10.0.1.20");
+    }
+
+    private MockHttpServletRequest request(String remoteAddr, String forwardedFor) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(remoteAddr);
+        if (forwardedFor != null) {
+            request.addHeader("X-Forwarded-For", forwardedFor);
+        }
+        return request;
+    }
+}
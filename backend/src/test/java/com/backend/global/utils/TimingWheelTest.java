@@ -0,0 +1,54 @@
+package com.backend.global.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimingWheelTest {
+
+    private final List<String> expired = new ArrayList<>();
+    private final TimingWheel<String> wheel = new TimingWheel<>(100, 16, expired::add);
+
+    @Test
+    void 이미_지난_만료_시각도_다음_advance_에서_만료() {
+        long now = System.currentTimeMillis();
+        // 만료 시각의 bucket 과 실제로 넣은 (현재 tick) bucket 이 다름
+        wheel.schedule("past", now - 550);
+
+        wheel.advance(System.currentTimeMillis());
+
+        assertThat(expired).containsExactly("past");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void 만료_시각이_되어야_만료() {
+        long now = System.currentTimeMillis();
+        wheel.schedule("later", now + 300);
+
+        wheel.advance(now);
+        assertThat(expired).isEmpty();
+
+        wheel.advance(now + 300);
+        assertThat(expired).containsExactly("later");
+    }
+
+    @Test
+    void 재등록하면_새_만료_시각만_적용_취소하면_만료되지_않음() {
+        long now = System.currentTimeMillis();
+        wheel.schedule("moved", now + 100);
+        wheel.schedule("moved", now + 500);
+        wheel.schedule("cancelled", now + 100);
+        wheel.cancel("cancelled");
+
+        wheel.advance(now + 200);
+        assertThat(expired).isEmpty();
+
+        wheel.advance(now + 500);
+        assertThat(expired).containsExactly("moved");
+        assertThat(wheel.size()).isZero();
+    }
+}
@@ -5,6 +5,7 @@ import { faXmark } from '@fortawesome/free-solid-svg-icons';
 import FormButtonBlue from '../../sign/js/FormButtonBlue';
 import {
   findPasswordSendEmail,
+  verifyPasswordCode,
   changePasssword,
 } from '../../../util/api/userAccount';
 import ModalOk from '../../modal/js/ModalOk';
@@ -12,7 +13,6 @@ import ModalOk from '../../modal/js/ModalOk';
 export default function FindPasswordModal({ setPasswordModal }) {
   const [step, setStep] = useState(0);
   const [inputEmail, setInputEmail] = useState('');
-  const [validationCode, setValidationCode] = useState('');
   const [inputEmailValidationInput, setInputEmailValidationInput] =
     useState('');
   const [inputPassword, setInputPassword] = useState('');
@@ -26,29 +26,29 @@ export default function FindPasswordModal({ setPasswordModal }) {
   const sendEmail = () => {
     let res = findPasswordSendEmail(inputEmail, setModalOn, setModalText);
     res.then((data) => {
-      if (data.status === 200) {
+      // 인증코드는 메일로만 전달됨 (응답 202)
+      if (data && data.status === 202) {
         setModalOn(true);
         setModalText('인증코드 발송 완료');
-        setValidationCode(data.data);
         setStep(1);
       }
     });
   };
 
   const checkEmailValidation = () => {
-    if (!inputEmailValidationInput) {
-      setModalOn(true);
-      setModalText('인증코드를 입력하세요.');
-      return;
-    }
-    if (inputEmailValidationInput !== validationCode) {
-      setModalOn(true);
-      setModalText('인증코드가 일치하지 않습니다.');
-      return;
-    }
-    setModalOn(true);
-    setModalText('이메일 인증 완료');
-    setStep(2);
+    let res = verifyPasswordCode(
+      inputEmail,
+      inputEmailValidationInput,
+      setModalOn,
+      setModalText
+    );
+    res.then((data) => {
+      if (data && data.status === 200) {
+        setModalOn(true);
+        setModalText('이메일 인증 완료');
+        setStep(2);
+      }
+    });
   };
 
   const changePassword = () => {
@@ -59,7 +59,7 @@ export default function FindPasswordModal({ setPasswordModal }) {
       setModalText
     );
     res.then((data) => {
-      if (data.status === 200) {
+      if (data && data.status === 200) {
         setModalOn(true);
         window.alert('비밀번호 변경 완료');
         closeModal();
@@ -5,12 +5,15 @@ import { faXmark } from '@fortawesome/free-solid-svg-icons';
 import { FontAwesomeIcon } from '@fortawesome/react-fontawesome';
 import { useDispatch, useSelector } from 'react-redux';
 import { closeModal } from '../../../redux/reducers/signupModalSlice';
-import { submitForm, emailValidationCheck } from '../../../util/api/signupForm';
+import {
+  submitForm,
+  emailValidationCheck,
+  verifyEmailCode,
+} from '../../../util/api/signupForm';
 import ModalMove from '../../modal/js/ModalMove';
 import { useNavigate } from 'react-router-dom';
 
 export default function SignupModal() {
-  const [number, setNumber] = useState(123456);
   const [inputNumber, setInputNumber] = useState('');
   const [modalMoveOn, setModalMoveOn] = useState(false);
   const [modalMoveText, setModalMoveText] = useState('');
@@ -18,17 +21,17 @@ export default function SignupModal() {
   const data = useSelector((state) => state.modal);
   const dispatch = useDispatch();
   const navigate = useNavigate();
+  // 인증번호는 메일로만 전달됨 (응답 202)
   useEffect(() => {
-    emailValidationCheck(data.email).then((data) => {
-      setNumber(data.data);
-    });
+    emailValidationCheck(data.email);
   }, []);
 
   const changeInputNumber = (e) => {
     setInputNumber(e.target.value);
   };
   const checkValidation = async () => {
-    if (number === inputNumber) {
+    const verify = await verifyEmailCode(data.email, inputNumber);
+    if (verify.status === 200) {
       const dataTemp = {
         nickname: data.nickname,
         email: data.email,
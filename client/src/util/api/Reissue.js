@@ -1,4 +1,5 @@
 import axios from 'axios';
+import { setCookie } from '../cookie/cookie';
 
 axios.defaults['withCredentials'] = true;
 axios.defaults.headers.common['Content-Type'] = 'application/json';
@@ -17,6 +18,16 @@ export const tokenReissue = async (refreshtoken) => {
       window.sessionStorage.setItem('userData', JSON.stringify(userData));
       let accesstoken = res.headers.get('authorization');
       window.sessionStorage.setItem('accesstoken', JSON.stringify(accesstoken));
+      // 재발급 할 때마다 리프레시 토큰도 교체됨
+      let newRefreshtoken = res.headers.get('refreshtoken');
+      if (newRefreshtoken) {
+        setCookie('refreshtoken', newRefreshtoken, {
+          path: '/',
+          secure: true,
+          sameSite: 'none',
+          expires: new Date(Date.now() + 1000 * 60 * 60 * 24 * 7),
+        });
+      }
       return res;
     }
 
@@ -28,3 +28,15 @@ export const emailValidationCheck = async (email) => {
     return false;
   }
 };
+// 메일로 받은 인증번호 확인 (일치하면 서버에 인증 완료가 남고 회원가입 가능)
+export const verifyEmailCode = async (email, code) => {
+  try {
+    const verifyResult = await axios.post(`${REACT_APP_API_URL}mail/verify`, {
+      email,
+      code,
+    });
+    return verifyResult;
+  } catch (error) {
+    return error.response ? error.response.data : false;
+  }
+};
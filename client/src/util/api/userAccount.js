@@ -80,6 +80,35 @@ export const findPasswordSendEmail = async (
   }
 };
 
+// 메일로 받은 인증코드 확인 (일치하면 서버에 인증 완료가 남고 비밀번호 변경 가능)
+export const verifyPasswordCode = async (
+  email,
+  code,
+  setModalOn,
+  setModalText
+) => {
+  if (!code) {
+    setModalOn(true);
+    setModalText('인증코드를 입력하세요.');
+    return;
+  }
+  try {
+    const res = await axios.post(`${REACT_APP_API_URL}mail/verify`, {
+      email,
+      code,
+    });
+    return res;
+  } catch (error) {
+    if (error.response.data.status === 429) {
+      setModalOn(true);
+      setModalText('요청이 너무 많습니다. 잠시 후 다시 시도해주세요.');
+    } else {
+      setModalOn(true);
+      setModalText('인증코드가 일치하지 않습니다.');
+    }
+  }
+};
+
 // 비밀번호 변경 요청
 export const changePasssword = async (
   email,